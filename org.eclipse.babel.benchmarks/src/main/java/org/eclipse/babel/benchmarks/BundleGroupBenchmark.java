@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.babel.core.message.internal.MessagesBundleGroup;
+import org.eclipse.babel.core.message.tree.internal.AbstractKeyTreeModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction of a messages bundle group and of its key tree, as done when
+ * opening a resource bundle in the editor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BundleGroupBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int keyCount;
+
+    private String[] texts;
+    private MessagesBundleGroup messagesBundleGroup;
+
+    @Setup
+    public void setUp() {
+        texts = new String[SyntheticBundles.LOCALES.length];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = SyntheticBundles.properties(keyCount,
+                    SyntheticBundles.LOCALES[i]);
+        }
+        messagesBundleGroup = SyntheticBundles.createBundleGroup(texts);
+    }
+
+    @Benchmark
+    public MessagesBundleGroup createBundleGroup() {
+        return SyntheticBundles.createBundleGroup(texts);
+    }
+
+    @Benchmark
+    public AbstractKeyTreeModel createKeyTreeModel() {
+        return new AbstractKeyTreeModel(messagesBundleGroup);
+    }
+}
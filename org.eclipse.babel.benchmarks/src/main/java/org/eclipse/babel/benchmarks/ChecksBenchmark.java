@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.babel.core.message.IMessage;
+import org.eclipse.babel.core.message.checks.internal.DuplicateValueCheck;
+import org.eclipse.babel.core.message.checks.internal.SimilarValueCheck;
+import org.eclipse.babel.core.message.checks.proximity.LevenshteinDistanceAnalyzer;
+import org.eclipse.babel.core.message.internal.MessagesBundleGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Duplicate and similar value checks of a validation pass. Each operation
+ * checks the same sample of messages of the default bundle, with a new
+ * check, as the validator does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ChecksBenchmark {
+
+    /** Number of messages checked per operation. */
+    private static final int SAMPLE_SIZE = 100;
+
+    @Param({ "1000", "10000", "100000" })
+    public int keyCount;
+
+    private MessagesBundleGroup messagesBundleGroup;
+    private IMessage[] sample;
+
+    @Setup
+    public void setUp() {
+        messagesBundleGroup = SyntheticBundles
+                .createBundleGroup(new String[] { SyntheticBundles.properties(
+                        keyCount, null) });
+        Random random = new Random(keyCount);
+        sample = new IMessage[SAMPLE_SIZE];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = messagesBundleGroup.getMessage(
+                    SyntheticBundles.key(random.nextInt(keyCount)), null);
+        }
+    }
+
+    @Benchmark
+    public int duplicateValueCheck() {
+        DuplicateValueCheck check = new DuplicateValueCheck();
+        int found = 0;
+        for (IMessage message : sample) {
+            if (check.checkKey(messagesBundleGroup, message)) {
+                found += check.getDuplicateKeys().length;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int similarValueCheck() {
+        SimilarValueCheck check = new SimilarValueCheck(
+                LevenshteinDistanceAnalyzer.getInstance());
+        int found = 0;
+        for (IMessage message : sample) {
+            if (check.checkKey(messagesBundleGroup, message)) {
+                found += check.getSimilarMessageKeys().length;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.babel.build.core.CommandLineConfiguration;
+import org.eclipse.babel.build.core.coverage.LanguagePackCoverageReport;
+import org.eclipse.babel.build.core.languagepack.LanguagePack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writing of the fragments of a language pack. The Eclipse install and the
+ * translation catalogue are parsed once, only the generation is measured.
+ * <p>
+ * The Eclipse install is a folder with a plug-in per thousand keys, each
+ * holding ten properties files. The catalogue translates two thirds of the
+ * keys to French.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LanguagePackBenchmark {
+
+    private static final int KEYS_PER_PLUGIN = 1000;
+    private static final int KEYS_PER_FILE = 100;
+
+    @Param({ "1000", "10000", "100000" })
+    public int keyCount;
+
+    private File root;
+    private CommandLineConfiguration config;
+
+    @Setup
+    public void setUp() throws IOException {
+        root = File.createTempFile("babel", "bench"); //$NON-NLS-1$ //$NON-NLS-2$
+        root.delete();
+        File install = new File(root, "install"); //$NON-NLS-1$
+        File catalogue = new File(root, "catalogue"); //$NON-NLS-1$
+        new File(install, "eclipse/features").mkdirs(); //$NON-NLS-1$
+
+        String[] values = SyntheticBundles.values(keyCount, null);
+        String[] translations = SyntheticBundles.values(keyCount,
+                Locale.FRENCH);
+        for (int plugin = 0; plugin * KEYS_PER_PLUGIN < keyCount; plugin++) {
+            String pluginName = "org.eclipse.babel.bench.p" + plugin; //$NON-NLS-1$
+            for (int file = 0; file < KEYS_PER_PLUGIN / KEYS_PER_FILE; file++) {
+                String path = "org/eclipse/babel/bench/p" + plugin //$NON-NLS-1$
+                        + "/messages" + file + ".properties"; //$NON-NLS-1$ //$NON-NLS-2$
+                StringBuilder text = new StringBuilder();
+                StringBuilder translatedText = new StringBuilder();
+                int first = plugin * KEYS_PER_PLUGIN + file * KEYS_PER_FILE;
+                for (int i = first; i < first + KEYS_PER_FILE && i < keyCount; i++) {
+                    String key = SyntheticBundles.key(i);
+                    text.append(key).append('=').append(values[i])
+                            .append('\n');
+                    if (i % 3 != 0) {
+                        translatedText.append(key).append('=')
+                                .append(translations[i]).append('\n');
+                    }
+                }
+                SyntheticBundles.write(new File(install, "eclipse/plugins/" //$NON-NLS-1$
+                        + pluginName + "_1.0.0/" + path), text.toString()); //$NON-NLS-1$
+                SyntheticBundles.write(new File(catalogue,
+                        "fr/eclipse/plugins/" + pluginName + "/" + path), //$NON-NLS-1$ //$NON-NLS-2$
+                        translatedText.toString());
+            }
+        }
+
+        config = new CommandLineConfiguration("--working-directory", //$NON-NLS-1$
+                new File(root, "work").getPath(), //$NON-NLS-1$
+                "--eclipse-archive", install.getPath(), //$NON-NLS-1$
+                "--translation-archive", catalogue.getPath(), //$NON-NLS-1$
+                "--locales", "fr"); //$NON-NLS-1$ //$NON-NLS-2$
+        config.eclipseInstall();
+        config.translations();
+    }
+
+    @TearDown
+    public void tearDown() {
+        SyntheticBundles.delete(root);
+    }
+
+    @Benchmark
+    public LanguagePackCoverageReport generate() throws Exception {
+        LanguagePack languagePack = new LanguagePack(config);
+        languagePack.setParallelism(config.threads());
+        // measure generation, not the reuse of the fragments of the previous
+        // invocation recorded in the build manifest
+        languagePack.setIncremental(false);
+        return languagePack.generate();
+    }
+}
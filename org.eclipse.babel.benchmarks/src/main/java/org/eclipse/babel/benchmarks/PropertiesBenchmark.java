@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.benchmarks;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.babel.core.message.internal.MessagesBundle;
+import org.eclipse.babel.core.message.resource.ser.PropertiesDeserializer;
+import org.eclipse.babel.core.message.resource.ser.PropertiesSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading and writing of properties files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PropertiesBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int keyCount;
+
+    private String text;
+    private MessagesBundle bundle;
+    private PropertiesSerializer serializer;
+    private PropertiesDeserializer deserializer;
+
+    @Setup
+    public void setUp() {
+        text = SyntheticBundles.properties(keyCount, null);
+        bundle = SyntheticBundles.createBundle(null, text);
+        serializer = SyntheticBundles.createSerializer();
+        deserializer = SyntheticBundles.createDeserializer();
+    }
+
+    @Benchmark
+    public MessagesBundle deserialize() {
+        MessagesBundle target = SyntheticBundles.createBundle(null, ""); //$NON-NLS-1$
+        deserializer.deserialize(target, text);
+        return target;
+    }
+
+    @Benchmark
+    public String serialize() {
+        return serializer.serialize(bundle);
+    }
+
+    @Benchmark
+    public StringWriter serializeToWriter() throws IOException {
+        StringWriter writer = new StringWriter(text.length());
+        serializer.serialize(bundle, writer);
+        return writer;
+    }
+}
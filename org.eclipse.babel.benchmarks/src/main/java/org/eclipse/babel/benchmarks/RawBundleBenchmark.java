@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.pde.nls.internal.ui.parser.RawBundle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of properties files by the PDE NLS editor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RawBundleBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int keyCount;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        text = SyntheticBundles.properties(keyCount, null);
+    }
+
+    @Benchmark
+    public RawBundle parse() throws IOException {
+        return RawBundle.createFrom(new StringReader(text));
+    }
+}
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Random;
+
+import org.eclipse.babel.core.message.IMessagesBundle;
+import org.eclipse.babel.core.message.internal.MessageException;
+import org.eclipse.babel.core.message.internal.MessagesBundle;
+import org.eclipse.babel.core.message.internal.MessagesBundleGroup;
+import org.eclipse.babel.core.message.resource.internal.AbstractPropertiesResource;
+import org.eclipse.babel.core.message.resource.ser.DefaultPropertiesSerializerConfig;
+import org.eclipse.babel.core.message.resource.ser.IPropertiesDeserializerConfig;
+import org.eclipse.babel.core.message.resource.ser.PropertiesDeserializer;
+import org.eclipse.babel.core.message.resource.ser.PropertiesSerializer;
+import org.eclipse.babel.core.message.strategy.IMessagesBundleGroupStrategy;
+
+/**
+ * Synthetic resource bundles the benchmarks run on. Contents only depend on
+ * the number of keys, so that runs are comparable.
+ * <p>
+ * Keys are dotted, three levels deep, values are sentences of a few words.
+ * One value in 50 duplicates a previous one, and one in 10 is a slight
+ * variation of a previous one, so that the checks have something to find.
+ */
+public final class SyntheticBundles {
+
+    /** Locales of the generated bundle groups, the default one first. */
+    public static final Locale[] LOCALES = new Locale[] { null, Locale.FRENCH,
+            Locale.GERMAN };
+
+    private static final String[] WORDS = new String[] { "the", "file", //$NON-NLS-1$ //$NON-NLS-2$
+            "cannot", "be", "opened", "select", "a", "project", "resource", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+            "bundle", "missing", "value", "for", "key", "in", "editor", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+            "preferences", "were", "saved", "unable", "to", "create", "new", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+            "translation", "locale", "is", "not", "supported", "refresh", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+            "view", "show", "all", "entries", "with", "errors", "warning", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+            "message", "and", "its", "children", "delete", "rename", "copy", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+            "paste", "undo", "redo", "wizard", "page", "dialog" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+
+    private SyntheticBundles() {
+        super();
+    }
+
+    /**
+     * Gets the key at the given position.
+     *
+     * @param index
+     *            position of the key
+     * @return key
+     */
+    public static String key(int index) {
+        return "section" + (index / 1000) + ".group" + (index / 50 % 20) //$NON-NLS-1$ //$NON-NLS-2$
+                + ".key" + index; //$NON-NLS-1$
+    }
+
+    /**
+     * Gets the values of a bundle.
+     *
+     * @param keyCount
+     *            number of keys
+     * @param locale
+     *            locale of the bundle, changes the values
+     * @return values, by key position
+     */
+    public static String[] values(int keyCount, Locale locale) {
+        Random random = new Random(31 * keyCount
+                + (locale == null ? 0 : locale.hashCode()));
+        String[] values = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            if (i > 0 && i % 50 == 0) {
+                values[i] = values[random.nextInt(i)];
+            } else if (i > 0 && i % 10 == 0) {
+                StringBuilder value = new StringBuilder(
+                        values[random.nextInt(i)]);
+                value.setCharAt(random.nextInt(value.length()), 'x');
+                values[i] = value.toString();
+            } else {
+                StringBuilder value = new StringBuilder();
+                int wordCount = 2 + random.nextInt(8);
+                for (int j = 0; j < wordCount; j++) {
+                    if (j > 0) {
+                        value.append(' ');
+                    }
+                    value.append(WORDS[random.nextInt(WORDS.length)]);
+                }
+                if (locale != null) {
+                    value.append(" (").append(locale).append(')'); //$NON-NLS-1$
+                }
+                values[i] = value.toString();
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Gets the content of a properties file.
+     *
+     * @param keyCount
+     *            number of keys
+     * @param locale
+     *            locale of the file
+     * @return properties file content
+     */
+    public static String properties(int keyCount, Locale locale) {
+        String[] values = values(keyCount, locale);
+        StringBuilder text = new StringBuilder(keyCount * 64);
+        text.append("# Synthetic bundle of ").append(keyCount) //$NON-NLS-1$
+                .append(" keys\n\n"); //$NON-NLS-1$
+        for (int i = 0; i < keyCount; i++) {
+            if (i % 100 == 0) {
+                text.append("# Section ").append(i / 100).append('\n'); //$NON-NLS-1$
+            }
+            text.append(key(i)).append(" = ").append(values[i]).append('\n'); //$NON-NLS-1$
+            if (i % 100 == 99) {
+                text.append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Writes a properties file, creating its folder if needed.
+     *
+     * @param file
+     *            file to write
+     * @param text
+     *            content of the file
+     */
+    public static void write(File file, String text) throws IOException {
+        file.getParentFile().mkdirs();
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file),
+                "ISO-8859-1"); //$NON-NLS-1$
+        try {
+            writer.write(text);
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Deletes a file or a folder with all its content.
+     *
+     * @param file
+     *            file or folder to delete
+     */
+    public static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    public static PropertiesSerializer createSerializer() {
+        return new PropertiesSerializer(
+                new DefaultPropertiesSerializerConfig());
+    }
+
+    public static PropertiesDeserializer createDeserializer() {
+        return new PropertiesDeserializer(new IPropertiesDeserializerConfig() {
+            public boolean isUnicodeUnescapeEnabled() {
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Creates a messages bundle read from a properties text.
+     *
+     * @param locale
+     *            locale of the bundle
+     * @param text
+     *            content of the properties
+     * @return messages bundle
+     */
+    public static MessagesBundle createBundle(Locale locale, String text) {
+        return new MessagesBundle(new TextResource(locale, text));
+    }
+
+    /**
+     * Creates a messages bundle group made of a bundle per locale in
+     * {@link #LOCALES}.
+     *
+     * @param texts
+     *            content of the properties, by locale position
+     * @return messages bundle group
+     */
+    public static MessagesBundleGroup createBundleGroup(final String[] texts) {
+        return new MessagesBundleGroup(new IMessagesBundleGroupStrategy() {
+            public String createMessagesBundleGroupName() {
+                return "synthetic"; //$NON-NLS-1$
+            }
+
+            public String createMessagesBundleId() {
+                return "org.eclipse.babel.benchmarks.synthetic"; //$NON-NLS-1$
+            }
+
+            public MessagesBundle[] loadMessagesBundles()
+                    throws MessageException {
+                MessagesBundle[] bundles = new MessagesBundle[texts.length];
+                for (int i = 0; i < texts.length; i++) {
+                    bundles[i] = createBundle(LOCALES[i], texts[i]);
+                }
+                return bundles;
+            }
+
+            public MessagesBundle createMessagesBundle(Locale locale)
+                    throws MessageException {
+                return createBundle(locale, ""); //$NON-NLS-1$
+            }
+
+            public String getProjectName() {
+                // not managed by a resource bundle manager
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Properties resource held in memory. Changes of the bundle are not
+     * written back, so that benchmarks only measure what they intend to.
+     */
+    public static class TextResource extends AbstractPropertiesResource {
+
+        private String text;
+
+        public TextResource(Locale locale, String text) {
+            super(locale, createSerializer(), createDeserializer());
+            this.text = text;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public void serialize(IMessagesBundle messagesBundle) {
+            // not written back
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+
+        public Object getSource() {
+            return this;
+        }
+
+        public String getResourceLocationLabel() {
+            return "memory"; //$NON-NLS-1$
+        }
+
+        public void dispose() {
+            // nothing to release
+        }
+    }
+}
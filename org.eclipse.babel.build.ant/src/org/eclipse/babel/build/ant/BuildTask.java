@@ -71,6 +71,8 @@ public class BuildTask extends Task {
     private final LazyConfiguration config = new LazyConfiguration();
     private CoverageReport coverageReport = new CoverageReport();
     private Excludes excludes = new Excludes();
+    private int threads = LanguagePack.DEFAULT_PARALLELISM;
+    private boolean incremental;
 
     /**
      * Constructs a new BuildTask. Required by ant.
@@ -139,6 +141,27 @@ public class BuildTask extends Task {
         config.setIncludePseudoTranslations(include);
     }
 
+    /**
+     * Sets the number of fragments generated at once. Called by ant.
+     * 
+     * @param threads
+     *            Number of fragments generated at once.
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Sets whether fragments whose inputs did not change since the previous
+     * build are reused. Called by ant, defaults to <code>false</code>.
+     * 
+     * @param incremental
+     *            Whether unchanged fragments are reused.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
     public CoverageReport createCoverageReport() {
         coverageReport = new CoverageReport();
         return coverageReport;
@@ -167,6 +190,8 @@ public class BuildTask extends Task {
             config.validate();
             System.out.println("Parsing language pack...");
             LanguagePack languagePack = new LanguagePack(config);
+            languagePack.setParallelism(threads);
+            languagePack.setIncremental(incremental);
             LanguagePackCoverageReport coverage = languagePack.generate();
             System.out.println("Printing coverage report...");
             Configuration.helper.printLanguagePackResult(config, coverage);
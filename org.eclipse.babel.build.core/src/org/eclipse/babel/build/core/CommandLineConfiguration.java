@@ -21,6 +21,7 @@ import org.eclipse.babel.build.core.eclipsetarget.EclipseTarget;
 import org.eclipse.babel.build.core.exceptions.InvalidFilenameException;
 import org.eclipse.babel.build.core.exceptions.InvalidLocationException;
 import org.eclipse.babel.build.core.exceptions.MissingLocationException;
+import org.eclipse.babel.build.core.languagepack.LanguagePack;
 import org.eclipse.babel.build.core.translationcatalogue.TranslationCatalogue;
 
 /**
@@ -48,6 +49,9 @@ public class CommandLineConfiguration implements Configuration {
     private final boolean includeXmlReport;
     private final boolean longReport;
     private String localeExtension;
+    private final int threads;
+    private final boolean incremental;
+    private File metricsFile;
 
     final static String TOKEN = Messages.getString("Characters_locale_token"); //$NON-NLS-1$
 
@@ -55,7 +59,8 @@ public class CommandLineConfiguration implements Configuration {
         Options opts = new Options("--working-directory=", "--locales=",
                 "--translation-archive=!", "--eclipse-archive=!",
                 "--coverage-report=", "--exclude-list=",
-                "--report-ignore-list=", "--xml", "--long-report").parse(args);
+                "--report-ignore-list=", "--xml", "--long-report",
+                "--threads=", "--incremental", "--metrics=").parse(args);
 
         Set<LocaleProxy> locales = helper.getLocales(opts.get("--locales"));
         Set<LocaleGroup> localeGroups = helper.getLocaleGroups(opts
@@ -80,6 +85,16 @@ public class CommandLineConfiguration implements Configuration {
 
         includeXmlReport = opts.isSet("--xml");
         longReport = opts.isSet("--long-report");
+        threads = opts.getPositiveInt("--threads",
+                LanguagePack.DEFAULT_PARALLELISM);
+        incremental = opts.isSet("--incremental");
+
+        if (opts.isSet("--metrics")) {
+            metricsFile = new File(opts.get("--metrics"));
+            if (!metricsFile.isAbsolute()) {
+                metricsFile = new File(workingDirectory, metricsFile.getPath());
+            }
+        }
 
         localeExtension = "";
         if (this.locales.size() == 1 && this.localeGroups.isEmpty()) {
@@ -233,6 +248,33 @@ public class CommandLineConfiguration implements Configuration {
         return longReport;
     }
 
+    /**
+     * Retrieve the number of fragments to generate at once.
+     * 
+     * @return The number of fragments to generate at once.
+     */
+    public int threads() {
+        return threads;
+    }
+
+    /**
+     * Whether fragments whose inputs did not change since the previous build
+     * should be reused rather than generated again.
+     */
+    public boolean incremental() {
+        return incremental;
+    }
+
+    /**
+     * The file to write the metrics recorded during the build to, as JSON if
+     * its name ends with <code>.json</code> and as text otherwise.
+     * 
+     * @return the file, or <code>null</code> if no metrics are recorded
+     */
+    public File metricsFile() {
+        return metricsFile;
+    }
+
     public final String localeExtension() {
         return localeExtension;
     }
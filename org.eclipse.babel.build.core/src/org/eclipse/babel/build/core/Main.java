@@ -10,21 +10,35 @@
  *******************************************************************************/
 package org.eclipse.babel.build.core;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import org.eclipse.babel.build.core.Options.InvalidArgument;
 import org.eclipse.babel.build.core.Options.MissingArgument;
 import org.eclipse.babel.build.core.Options.UnsetMandatoryOption;
 import org.eclipse.babel.build.core.coverage.LanguagePackCoverageReport;
 import org.eclipse.babel.build.core.exceptions.FailedDeletionException;
 import org.eclipse.babel.build.core.exceptions.InvalidFilenameException;
 import org.eclipse.babel.build.core.languagepack.LanguagePack;
+import org.eclipse.babel.build.core.metrics.Metrics;
+import org.eclipse.babel.build.core.metrics.MetricsSnapshot;
 
 public class Main {
 
     public static void main(String[] args) {
         try {
             CommandLineConfiguration config = new CommandLineConfiguration(args);
+            if (config.metricsFile() != null) {
+                Metrics.setEnabled(true);
+            }
 
             long startLanguagePackGeneration = System.currentTimeMillis();
             LanguagePack languagePack = new LanguagePack(config);
+            languagePack.setParallelism(config.threads());
+            languagePack.setIncremental(config.incremental());
             System.out.println();
             System.out.println(Messages
                     .getString("Messages_generating_language_pack")); //$NON-NLS-1$		
@@ -41,10 +55,21 @@ public class Main {
             System.out
                     .println("Language Pack generated in: " + config.times.languagePackGeneration); //$NON-NLS-1$
 
+            if (config.metricsFile() != null) {
+                try {
+                    printMetrics(config.metricsFile());
+                } catch (IOException e) {
+                    System.out.println(e.getMessage());
+                }
+            }
         } catch (MissingArgument e) {
             System.out
                     .println(Messages.getString("Error_missing_argument") + e.getMessage()); //$NON-NLS-1$
             System.exit(-1);
+        } catch (InvalidArgument e) {
+            System.out
+                    .println(Messages.getString("Error_invalid_argument") + e.getMessage()); //$NON-NLS-1$
+            System.exit(-1);
         } catch (UnsetMandatoryOption e) {
             System.out
                     .println(Messages
@@ -64,4 +89,21 @@ public class Main {
             System.exit(0);
         }
     }
+
+    /**
+     * Writes the metrics recorded during the build, as JSON if the name of the
+     * file ends with .json and as text otherwise.
+     */
+    private static void printMetrics(File file) throws IOException {
+        MetricsSnapshot snapshot = Metrics.snapshot();
+        String text = file.getName().endsWith(".json") ? snapshot.toJson() //$NON-NLS-1$
+                : snapshot.toText();
+        Writer out = new OutputStreamWriter(new FileOutputStream(file),
+                "UTF-8"); //$NON-NLS-1$
+        try {
+            out.write(text);
+        } finally {
+            out.close();
+        }
+    }
 }
@@ -40,6 +40,14 @@ public class Options {
         }
     }
 
+    public static class InvalidArgument extends RuntimeException {
+        private static final long serialVersionUID = -2201939311207716265L;
+
+        public InvalidArgument(String name, String value) {
+            super(name + " " + value);
+        }
+    }
+
     private class Option {
         private final String name;
         private String value = null;
@@ -110,6 +118,28 @@ public class Options {
         return get(name, null);
     }
 
+    /**
+     * Returns the value of an option as a positive integer.
+     * 
+     * @throws InvalidArgument
+     *             if the value is not an integer greater than 0
+     */
+    public int getPositiveInt(String name, int default_) {
+        String value = get(name);
+        if (value == null) {
+            return default_;
+        }
+        try {
+            int n = Integer.parseInt(value.trim());
+            if (n > 0) {
+                return n;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new InvalidArgument(name, value);
+    }
+
     public String get(String name, String default_) {
         try {
             String value = values.get(name).value;
@@ -11,7 +11,10 @@
 package org.eclipse.babel.build.core;
 
 import java.io.File;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 public class PluginProxy {
     private String name;
@@ -20,6 +23,7 @@ public class PluginProxy {
     private boolean isJar;
     private boolean isFeature;
     private List<ResourceProxy> resources;
+    private Map<String, ResourceProxy> resourcesByPath;
 
     public PluginProxy(File pluginLocation, List<ResourceProxy> resources,
             boolean isJar, boolean isFeature) {
@@ -60,6 +64,27 @@ public class PluginProxy {
         return resources;
     }
 
+    /**
+     * Returns the resource with the given relative path, ignoring case, or
+     * null if there is none. The first of the resources matching is returned.
+     */
+    public synchronized ResourceProxy getResource(String relativePath) {
+        if (resourcesByPath == null) {
+            resourcesByPath = new HashMap<String, ResourceProxy>();
+            for (ResourceProxy resource : resources) {
+                String key = pathKey(resource.getRelativePath());
+                if (!resourcesByPath.containsKey(key)) {
+                    resourcesByPath.put(key, resource);
+                }
+            }
+        }
+        return resourcesByPath.get(pathKey(relativePath));
+    }
+
+    private static String pathKey(String relativePath) {
+        return relativePath.toLowerCase(Locale.ENGLISH);
+    }
+
     public boolean isJar() {
         return isJar;
     }
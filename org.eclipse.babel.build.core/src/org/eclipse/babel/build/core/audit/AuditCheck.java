@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.build.core.audit;
+
+/**
+ * The checks run by a {@link BundleAudit}.
+ */
+public enum AuditCheck {
+
+    /** A key without a value in one of the locales of its bundle. */
+    MISSING("missing"), //$NON-NLS-1$
+    /** A key with the same value as other keys of the root bundle. */
+    DUPLICATE("duplicate"), //$NON-NLS-1$
+    /** A key with a value similar to the values of other keys. */
+    SIMILAR("similar"), //$NON-NLS-1$
+    /** A key referenced by none of the source files. */
+    UNUSED("unused"); //$NON-NLS-1$
+
+    private final String name;
+
+    private AuditCheck(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the check of the given name, or <code>null</code> if there is
+     *         none
+     */
+    public static AuditCheck get(String name) {
+        for (AuditCheck check : AuditCheck.values()) {
+            if (check.name.equalsIgnoreCase(name)) {
+                return check;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.build.core.audit;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.babel.build.core.Messages;
+import org.eclipse.babel.build.core.Options;
+import org.eclipse.babel.build.core.Options.InvalidArgument;
+import org.eclipse.babel.build.core.Options.MissingArgument;
+import org.eclipse.babel.build.core.Options.UnsetMandatoryOption;
+import org.eclipse.babel.build.core.audit.BundleAudit.BundleResult;
+import org.eclipse.babel.build.core.languagepack.LanguagePack;
+
+/**
+ * Audits the resource bundles of a directory tree from the command line, and
+ * writes an XML report. Exits with status 1 when a problem is found, so that
+ * a build can be failed on it.
+ *
+ * <pre>
+ * --bundle-root &lt;dir&gt;         directory holding the properties files
+ * --source-roots &lt;dirs&gt;       directories holding the sources, separated
+ *                            by the path separator, the bundle root by default
+ * --report &lt;file&gt;             audit.xml by default
+ * --checks &lt;names&gt;            comma separated among missing, duplicate,
+ *                            similar and unused, all by default
+ * --similar-precision &lt;p&gt;    minimum proximity of similar values, 0.75 by
+ *                            default
+ * --threads &lt;n&gt;              number of bundles or sources audited at once
+ * </pre>
+ */
+public class AuditMain {
+
+    public static void main(String[] args) {
+        try {
+            Options opts = new Options("--bundle-root=!", "--source-roots=",
+                    "--report=", "--checks=", "--similar-precision=",
+                    "--threads=").parse(args);
+
+            File bundleRoot = new File(opts.get("--bundle-root"));
+            List<File> sourceRoots = new ArrayList<File>();
+            for (String sourceRoot : opts.get("--source-roots",
+                    bundleRoot.getPath()).split(File.pathSeparator)) {
+                sourceRoots.add(new File(sourceRoot));
+            }
+
+            Set<AuditCheck> checks = EnumSet.allOf(AuditCheck.class);
+            if (opts.isSet("--checks")) {
+                checks.clear();
+                for (String name : opts.get("--checks").split(",")) {
+                    AuditCheck check = AuditCheck.get(name.trim());
+                    if (check == null) {
+                        System.out.println(Messages
+                                .getString("Error_unknown_audit_check") + name); //$NON-NLS-1$
+                        System.exit(-1);
+                    }
+                    checks.add(check);
+                }
+            }
+
+            BundleAudit audit = new BundleAudit(bundleRoot, sourceRoots,
+                    checks);
+            audit.setParallelism(opts.getPositiveInt("--threads",
+                    LanguagePack.DEFAULT_PARALLELISM));
+            if (opts.isSet("--similar-precision")) {
+                audit.setSimilarPrecision(Double.parseDouble(opts
+                        .get("--similar-precision")));
+            }
+
+            System.out.println(Messages.getString("Messages_auditing_bundles")); //$NON-NLS-1$
+            long startAudit = System.currentTimeMillis();
+            List<BundleResult> results = audit.run();
+
+            FileOutputStream out = new FileOutputStream(opts.get("--report",
+                    "audit.xml"));
+            try {
+                new XmlAuditReport(bundleRoot.getAbsolutePath(), results)
+                        .render(out);
+            } finally {
+                out.close();
+            }
+
+            int problems = 0;
+            System.out.println("Bundles: " + results.size()); //$NON-NLS-1$
+            for (AuditCheck check : checks) {
+                int count = XmlAuditReport.countProblems(results, check);
+                System.out.println(check.getName() + ": " + count); //$NON-NLS-1$
+                problems += count;
+            }
+            System.out
+                    .println("Resource Bundles audited in: " + (System.currentTimeMillis() - startAudit)); //$NON-NLS-1$
+
+            System.exit(problems == 0 ? 0 : 1);
+        } catch (MissingArgument e) {
+            System.out
+                    .println(Messages.getString("Error_missing_argument") + e.getMessage()); //$NON-NLS-1$
+            System.exit(-1);
+        } catch (InvalidArgument e) {
+            System.out
+                    .println(Messages.getString("Error_invalid_argument") + e.getMessage()); //$NON-NLS-1$
+            System.exit(-1);
+        } catch (UnsetMandatoryOption e) {
+            System.out
+                    .println(Messages
+                            .getString("Error_unset_mandatory_exception") + e.getMessage()); //$NON-NLS-1$
+            System.exit(-1);
+        } catch (Exception e) {
+            System.out
+                    .println(Messages.getString("Error_audit") + ": " + e.getMessage()); //$NON-NLS-1$ $NON-NLS-2$
+            System.exit(-1);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.build.core.audit;
+
+import java.util.Locale;
+
+/**
+ * A key of a resource bundle failing one of the {@link AuditCheck}s.
+ */
+public class AuditProblem {
+
+    private final AuditCheck check;
+    private final String key;
+    private final Locale locale;
+    private final String[] relatedKeys;
+
+    /**
+     * @param check
+     *            The failed check.
+     * @param key
+     *            The key failing the check.
+     * @param locale
+     *            The locale the key fails the check in, <code>null</code>
+     *            for the root locale.
+     * @param relatedKeys
+     *            The other keys involved, such as those with the same value.
+     */
+    public AuditProblem(AuditCheck check, String key, Locale locale,
+            String[] relatedKeys) {
+        this.check = check;
+        this.key = key;
+        this.locale = locale;
+        this.relatedKeys = relatedKeys;
+    }
+
+    public AuditCheck getCheck() {
+        return check;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public String[] getRelatedKeys() {
+        return relatedKeys;
+    }
+}
@@ -0,0 +1,585 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.build.core.audit;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.babel.build.core.languagepack.LanguagePack;
+import org.eclipse.babel.build.core.metrics.Metrics;
+import org.eclipse.babel.build.core.metrics.Timer;
+import org.eclipse.babel.core.message.IMessage;
+import org.eclipse.babel.core.message.checks.internal.DuplicateValueCheck;
+import org.eclipse.babel.core.message.checks.internal.MissingValueCheck;
+import org.eclipse.babel.core.message.checks.internal.SimilarValueCheck;
+import org.eclipse.babel.core.message.checks.proximity.LevenshteinDistanceAnalyzer;
+import org.eclipse.babel.core.message.internal.MessagesBundle;
+import org.eclipse.babel.core.message.internal.MessagesBundleGroup;
+import org.eclipse.babel.core.message.resource.internal.PropertiesReadOnlyResource;
+import org.eclipse.babel.core.message.resource.ser.IPropertiesDeserializerConfig;
+import org.eclipse.babel.core.message.resource.ser.PropertiesDeserializer;
+import org.eclipse.babel.core.message.resource.ser.PropertiesSerializer;
+import org.eclipse.babel.core.message.strategy.IMessagesBundleGroupStrategy;
+import org.eclipse.babel.core.util.BabelUtils;
+
+/**
+ * Audits the resource bundles found in a directory tree, without a workspace.
+ *
+ * The properties files are grouped into resource bundles the way the messages
+ * editor groups them, by directory and base name. Each resource bundle is read
+ * and checked on its own, concurrently with the others, by the checks of the
+ * messages editor: missing values in every locale, duplicate values in the
+ * root locale and similar values in every locale. Empty values are only
+ * reported as missing.
+ *
+ * Keys are unused when none of the source files refers to them. Java
+ * sources refer to keys by string literals, or by the fields of an NLS
+ * messages class, accessed qualified by the class name as in
+ * <code>Messages.key</code>. Plug-in manifests refer to keys of
+ * plugin.properties prefixed by %.
+ *
+ * References are found lexically, without resolving types: a field of the
+ * same name accessed through another class still counts as a reference, while
+ * a field accessed unqualified, within the messages class or through a static
+ * import, does not.
+ */
+public class BundleAudit {
+
+    private static final Timer BUNDLE_TIMER = Metrics
+            .timer("BundleAudit.bundle"); //$NON-NLS-1$
+    private static final Timer SOURCE_TIMER = Metrics
+            .timer("BundleAudit.source"); //$NON-NLS-1$
+
+    private static final String PROPERTIES_EXTENSION = ".properties"; //$NON-NLS-1$
+    private static final String JAVA_EXTENSION = ".java"; //$NON-NLS-1$
+    private static final String XML_EXTENSION = ".xml"; //$NON-NLS-1$
+    private static final String MANIFEST_EXTENSION = ".MF"; //$NON-NLS-1$
+
+    /** Reference to a key of plugin.properties in a plug-in manifest. */
+    private static final Pattern MANIFEST_REFERENCE = Pattern
+            .compile("%([\\w.\\-]+)"); //$NON-NLS-1$
+
+    /** Base name and locale of a properties file, as the editor sees them. */
+    private static final Pattern BUNDLE_FILE = Pattern
+            .compile("^(.*?)((_[a-z]{2,3})|(_[a-z]{2,3}_[A-Z]{2})" //$NON-NLS-1$
+                    + "|(_[a-z]{2,3}_[A-Z]{2}_\\w*))?(\\.properties)$"); //$NON-NLS-1$
+
+    /** Properties files are ISO 8859-1 encoded, with unicode escapes. */
+    private static final String PROPERTIES_ENCODING = "ISO-8859-1"; //$NON-NLS-1$
+    private static final String SOURCE_ENCODING = "UTF-8"; //$NON-NLS-1$
+
+    private final File bundleRoot;
+    private final List<File> sourceRoots;
+    private final Set<AuditCheck> checks;
+    private int parallelism = LanguagePack.DEFAULT_PARALLELISM;
+    private double similarPrecision = SimilarValueCheck.DEFAULT_PRECISION;
+
+    /**
+     * @param bundleRoot
+     *            The directory holding the properties files.
+     * @param sourceRoots
+     *            The directories holding the sources referring to the
+     *            keys.
+     * @param checks
+     *            The checks to run.
+     */
+    public BundleAudit(File bundleRoot, List<File> sourceRoots,
+            Set<AuditCheck> checks) {
+        this.bundleRoot = bundleRoot;
+        this.sourceRoots = sourceRoots;
+        this.checks = checks;
+    }
+
+    /**
+     * Sets the number of resource bundles or source files audited at once.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Parallelism must be at least 1: " + parallelism); //$NON-NLS-1$
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sets the minimum proximity of similar values, between 0 and 1.
+     */
+    public void setSimilarPrecision(double similarPrecision) {
+        this.similarPrecision = similarPrecision;
+    }
+
+    /**
+     * Runs the audit.
+     *
+     * @return the audited resource bundles, sorted by name
+     */
+    public List<BundleResult> run() throws Exception {
+        Map<String, List<File>> bundleFiles = new TreeMap<String, List<File>>();
+        findBundles(bundleRoot, bundleFiles);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<BundleResult>> audits = new ArrayList<Future<BundleResult>>(
+                    bundleFiles.size());
+            for (final Map.Entry<String, List<File>> entry : bundleFiles
+                    .entrySet()) {
+                audits.add(executor.submit(new Callable<BundleResult>() {
+                    public BundleResult call() throws Exception {
+                        return auditBundle(entry.getKey(), entry.getValue());
+                    }
+                }));
+            }
+            List<BundleResult> results = getAll(audits);
+
+            if (checks.contains(AuditCheck.UNUSED)) {
+                auditReferences(executor, results);
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads a resource bundle and runs the checks on each of its keys, but for
+     * the unused key check.
+     */
+    private BundleResult auditBundle(String name, List<File> files)
+            throws IOException {
+        long start = BUNDLE_TIMER.start();
+        try {
+            return checkBundle(name, files);
+        } finally {
+            BUNDLE_TIMER.stop(start);
+        }
+    }
+
+    private BundleResult checkBundle(String name, List<File> files)
+            throws IOException {
+        MessagesBundle[] bundles = new MessagesBundle[files.size()];
+        for (int i = 0; i < bundles.length; i++) {
+            bundles[i] = readBundle(files.get(i));
+        }
+        MessagesBundleGroup group = new MessagesBundleGroup(
+                new ReadOnlyGroupStrategy(name, bundles));
+
+        BundleResult result = new BundleResult(name, group.getLocales(),
+                group.getMessageKeys());
+        DuplicateValueCheck duplicateCheck = new DuplicateValueCheck();
+        SimilarValueCheck similarCheck = new SimilarValueCheck(
+                LevenshteinDistanceAnalyzer.getInstance(), similarPrecision);
+        for (Locale locale : result.locales) {
+            boolean rootLocale = locale == null
+                    || locale.toString().length() == 0;
+            for (String key : result.keys) {
+                IMessage message = group.getMessage(key, locale);
+                if (checks.contains(AuditCheck.MISSING)
+                        && MissingValueCheck.MISSING_KEY.checkKey(group,
+                                message)) {
+                    result.add(AuditCheck.MISSING, key, locale, null);
+                }
+                if (message == null || message.getValue() == null
+                        || message.getValue().length() == 0) {
+                    continue;
+                }
+                if (checks.contains(AuditCheck.DUPLICATE) && rootLocale
+                        && duplicateCheck.checkKey(group, message)) {
+                    result.add(AuditCheck.DUPLICATE, key, locale,
+                            duplicateCheck.getDuplicateKeys());
+                }
+                if (checks.contains(AuditCheck.SIMILAR)
+                        && similarCheck.checkKey(group, message)) {
+                    result.add(AuditCheck.SIMILAR, key, locale,
+                            similarCheck.getSimilarMessageKeys());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Looks for references to the keys of the resource bundles in the source
+     * files, in batches, and reports the keys nobody refers to.
+     */
+    private void auditReferences(ExecutorService executor,
+            List<BundleResult> results) throws Exception {
+        final Set<String> keys = new HashSet<String>();
+        for (BundleResult result : results) {
+            keys.addAll(Arrays.asList(result.keys));
+        }
+        List<File> sources = new ArrayList<File>();
+        for (File sourceRoot : sourceRoots) {
+            findSources(sourceRoot, sources);
+        }
+
+        int batchSize = Math.max(1, (sources.size() + parallelism * 4 - 1)
+                / (parallelism * 4));
+        List<Future<Set<String>>> batches = new ArrayList<Future<Set<String>>>();
+        for (int i = 0; i < sources.size(); i += batchSize) {
+            final List<File> batch = sources.subList(i,
+                    Math.min(i + batchSize, sources.size()));
+            batches.add(executor.submit(new Callable<Set<String>>() {
+                public Set<String> call() throws Exception {
+                    Set<String> referenced = new HashSet<String>();
+                    for (File source : batch) {
+                        findReferences(source, keys, referenced);
+                    }
+                    return referenced;
+                }
+            }));
+        }
+        Set<String> referenced = new HashSet<String>();
+        for (Set<String> batchReferences : getAll(batches)) {
+            referenced.addAll(batchReferences);
+        }
+
+        for (BundleResult result : results) {
+            for (String key : result.keys) {
+                if (!referenced.contains(key)) {
+                    result.add(AuditCheck.UNUSED, key, null, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the tasks, in order, rethrowing the exception of the first
+     * failed task.
+     */
+    private static <T> List<T> getAll(List<Future<T>> futures)
+            throws Exception {
+        List<T> results = new ArrayList<T>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Collects the properties files below a directory, by resource bundle
+     * name: the path of the file of the root locale, relative to the root
+     * directory.
+     */
+    private void findBundles(File directory, Map<String, List<File>> bundles) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                if (!file.isHidden()) {
+                    findBundles(file, bundles);
+                }
+                continue;
+            }
+            Matcher matcher = BUNDLE_FILE.matcher(file.getName());
+            if (!matcher.matches() || matcher.group(1).length() == 0) {
+                continue;
+            }
+            String name = relativePath(new File(directory, matcher.group(1)
+                    + PROPERTIES_EXTENSION));
+            List<File> bundleFiles = bundles.get(name);
+            if (bundleFiles == null) {
+                bundleFiles = new ArrayList<File>();
+                bundles.put(name, bundleFiles);
+            }
+            bundleFiles.add(file);
+        }
+    }
+
+    private void findSources(File directory, List<File> sources) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                if (!file.isHidden()) {
+                    findSources(file, sources);
+                }
+            } else if (file.getName().endsWith(JAVA_EXTENSION)
+                    || file.getName().endsWith(XML_EXTENSION)
+                    || file.getName().endsWith(MANIFEST_EXTENSION)) {
+                sources.add(file);
+            }
+        }
+    }
+
+    private String relativePath(File file) {
+        return bundleRoot.toURI().relativize(file.toURI()).getPath();
+    }
+
+    private static MessagesBundle readBundle(File file) throws IOException {
+        Matcher matcher = BUNDLE_FILE.matcher(file.getName());
+        matcher.matches();
+        String localeText = matcher.group(2) == null ? "" : matcher.group(2) //$NON-NLS-1$
+                .substring(1);
+        Locale locale = BabelUtils.parseLocale(localeText);
+
+        PropertiesDeserializer deserializer = new PropertiesDeserializer(
+                new IPropertiesDeserializerConfig() {
+                    public boolean isUnicodeUnescapeEnabled() {
+                        return true;
+                    }
+                });
+        return new MessagesBundle(new PropertiesReadOnlyResource(locale,
+                new PropertiesSerializer(null), deserializer, readFile(file,
+                        PROPERTIES_ENCODING), file.getPath()));
+    }
+
+    private static String readFile(File file, String encoding)
+            throws IOException {
+        Reader in = new InputStreamReader(new FileInputStream(file), encoding);
+        try {
+            StringBuilder text = new StringBuilder((int) file.length());
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+            return text.toString();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Adds the keys a source file refers to.
+     */
+    private static void findReferences(File source, Set<String> keys,
+            Set<String> referenced) throws IOException {
+        long start = SOURCE_TIMER.start();
+        try {
+            String text = readFile(source, SOURCE_ENCODING);
+            if (source.getName().endsWith(JAVA_EXTENSION)) {
+                findJavaReferences(text, keys, referenced);
+            } else {
+                findManifestReferences(text, keys, referenced);
+            }
+        } finally {
+            SOURCE_TIMER.stop(start);
+        }
+    }
+
+    /**
+     * Adds the keys a plug-in manifest refers to, prefixed by %.
+     */
+    static void findManifestReferences(String text, Set<String> keys,
+            Set<String> referenced) {
+        Matcher matcher = MANIFEST_REFERENCE.matcher(text);
+        while (matcher.find()) {
+            if (keys.contains(matcher.group(1))) {
+                referenced.add(matcher.group(1));
+            }
+        }
+    }
+
+    /**
+     * Adds the keys a Java source refers to: the string literals and the
+     * fields qualified by a class name, such as <code>Messages.key</code>,
+     * which are keys. Comments are skipped.
+     */
+    static void findJavaReferences(String text, Set<String> keys,
+            Set<String> referenced) {
+        StringBuilder literal = new StringBuilder();
+        // identifier just before, then identifier before a dot
+        String previous = null;
+        String qualifier = null;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '/' && i + 1 < length && text.charAt(i + 1) == '/') {
+                while (i < length && text.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && i + 1 < length
+                    && text.charAt(i + 1) == '*') {
+                int end = text.indexOf("*/", i + 2); //$NON-NLS-1$
+                i = end < 0 ? length : end + 2;
+            } else if (c == '"' || c == '\'') {
+                literal.setLength(0);
+                i++;
+                while (i < length && text.charAt(i) != c
+                        && text.charAt(i) != '\n') {
+                    if (text.charAt(i) == '\\' && i + 1 < length) {
+                        i++;
+                        literal.append(unescape(text.charAt(i)));
+                    } else {
+                        literal.append(text.charAt(i));
+                    }
+                    i++;
+                }
+                i++;
+                if (c == '"' && keys.contains(literal.toString())) {
+                    referenced.add(literal.toString());
+                }
+                previous = null;
+                qualifier = null;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int begin = i;
+                while (i < length
+                        && Character.isJavaIdentifierPart(text.charAt(i))) {
+                    i++;
+                }
+                String identifier = text.substring(begin, i);
+                if (qualifier != null
+                        && Character.isUpperCase(qualifier.charAt(0))
+                        && keys.contains(identifier)) {
+                    referenced.add(identifier);
+                }
+                previous = identifier;
+                qualifier = null;
+            } else if (c == '.') {
+                qualifier = previous;
+                previous = null;
+                i++;
+            } else {
+                if (!Character.isWhitespace(c)) {
+                    previous = null;
+                    qualifier = null;
+                }
+                i++;
+            }
+        }
+    }
+
+    private static char unescape(char c) {
+        switch (c) {
+        case 'n':
+            return '\n';
+        case 't':
+            return '\t';
+        case 'r':
+            return '\r';
+        case 'b':
+            return '\b';
+        case 'f':
+            return '\f';
+        default:
+            return c;
+        }
+    }
+
+    /**
+     * The keys, locales and failed checks of an audited resource bundle.
+     */
+    public static class BundleResult {
+        private final String name;
+        private final Locale[] locales;
+        private final String[] keys;
+        private final List<AuditProblem> problems = new ArrayList<AuditProblem>();
+
+        private BundleResult(String name, Locale[] locales, String[] keys) {
+            this.name = name;
+            this.locales = locales;
+            this.keys = keys;
+        }
+
+        private void add(AuditCheck check, String key, Locale locale,
+                String[] relatedKeys) {
+            List<String> related = new ArrayList<String>();
+            if (relatedKeys != null) {
+                for (String relatedKey : relatedKeys) {
+                    if (!relatedKey.equals(key)) {
+                        related.add(relatedKey);
+                    }
+                }
+            }
+            problems.add(new AuditProblem(check, key, locale, related
+                    .toArray(new String[related.size()])));
+        }
+
+        /**
+         * @return the path of the file of the root locale, relative to the
+         *         audited directory, even if the root locale has no file
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the locales, <code>null</code> standing for the root locale
+         */
+        public Locale[] getLocales() {
+            return locales;
+        }
+
+        public String[] getKeys() {
+            return keys;
+        }
+
+        public List<AuditProblem> getProblems() {
+            return Collections.unmodifiableList(problems);
+        }
+    }
+
+    /**
+     * Groups the bundles read from the properties files of a resource bundle,
+     * which is not managed by a resource bundle manager.
+     */
+    private static class ReadOnlyGroupStrategy implements
+            IMessagesBundleGroupStrategy {
+        private final String name;
+        private final MessagesBundle[] bundles;
+
+        public ReadOnlyGroupStrategy(String name, MessagesBundle[] bundles) {
+            this.name = name;
+            this.bundles = bundles;
+        }
+
+        public String createMessagesBundleGroupName() {
+            return name;
+        }
+
+        public String createMessagesBundleId() {
+            return name;
+        }
+
+        public MessagesBundle[] loadMessagesBundles() {
+            return bundles;
+        }
+
+        public MessagesBundle createMessagesBundle(Locale locale) {
+            return null;
+        }
+
+        public String getProjectName() {
+            return null;
+        }
+    }
+}
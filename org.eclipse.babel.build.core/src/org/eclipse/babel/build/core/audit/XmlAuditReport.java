@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.build.core.audit;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.babel.build.core.audit.BundleAudit.BundleResult;
+import org.eclipse.babel.build.core.xml.ElementWriter;
+import org.eclipse.babel.build.core.xml.XmlWriter;
+
+/**
+ * Renders the result of a {@link BundleAudit} as an XML document: a summary
+ * of the problems by check, then the resource bundles with problems and their
+ * problems. The root locale is named by an empty string.
+ */
+public class XmlAuditReport {
+
+    private final String root;
+    private final List<BundleResult> results;
+
+    /**
+     * @param root
+     *            The location of the audited directory.
+     * @param results
+     *            The audited resource bundles.
+     */
+    public XmlAuditReport(String root, List<BundleResult> results) {
+        this.root = root;
+        this.results = results;
+    }
+
+    public void render(OutputStream stream) throws Exception {
+        ElementWriter out = new ElementWriter(new XmlWriter(
+                new OutputStreamWriter(stream, "UTF-8"))); //$NON-NLS-1$
+        out.startDocument();
+        out.start("audit", "timestamp", new Date().toString(), "root", root, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                "bundles", String.valueOf(results.size())); //$NON-NLS-1$
+
+        out.start("summary"); //$NON-NLS-1$
+        for (AuditCheck check : AuditCheck.values()) {
+            out.empty("check", "name", check.getName(), "problems", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                    String.valueOf(countProblems(results, check)));
+        }
+        out.end();
+
+        for (BundleResult result : results) {
+            if (result.getProblems().isEmpty()) {
+                continue;
+            }
+            out.start("bundle", "name", result.getName(), "keys", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                    String.valueOf(result.getKeys().length), "locales", //$NON-NLS-1$
+                    String.valueOf(result.getLocales().length));
+            for (AuditProblem problem : result.getProblems()) {
+                out.empty("problem", "check", problem.getCheck().getName(), //$NON-NLS-1$ //$NON-NLS-2$
+                        "key", problem.getKey(), "locale", //$NON-NLS-1$ //$NON-NLS-2$
+                        localeName(problem.getLocale()), "related", //$NON-NLS-1$
+                        join(problem.getRelatedKeys()));
+            }
+            out.end();
+        }
+        out.endDocument();
+    }
+
+    /**
+     * @return the number of problems found by a check
+     */
+    public static int countProblems(List<BundleResult> results,
+            AuditCheck check) {
+        int count = 0;
+        for (BundleResult result : results) {
+            for (AuditProblem problem : result.getProblems()) {
+                if (problem.getCheck() == check) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static String localeName(Locale locale) {
+        return locale == null ? "" : locale.toString(); //$NON-NLS-1$
+    }
+
+    private static String join(String[] keys) {
+        StringBuilder joined = new StringBuilder();
+        for (String key : keys) {
+            if (joined.length() > 0) {
+                joined.append(' ');
+            }
+            joined.append(key);
+        }
+        return joined.toString();
+    }
+}
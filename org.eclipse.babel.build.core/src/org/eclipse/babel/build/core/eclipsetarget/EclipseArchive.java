@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2001, 2009 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.build.core.eclipsetarget;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.babel.build.core.Messages;
+
+/**
+ * Session on an Eclipse archive, shared by everything reading from it so that
+ * the archive is opened once. While the archive is parsed, the content needed
+ * later on from the jarred plug-ins it contains is indexed, so that these
+ * nested jars do not have to be decompressed again when generating fragments.
+ *
+ * The archive is opened again on demand once closed.
+ */
+public class EclipseArchive {
+
+    private static final String PROPERTIES_EXTENSION = Messages
+            .getString("Extensions_properties"); //$NON-NLS-1$
+    private static final String ABOUT_FILE = Messages
+            .getString("Paths_about_html"); //$NON-NLS-1$
+
+    private final File location;
+    private ZipFile zipFile;
+
+    /**
+     * Keys of the properties files within each jarred plug-in, by entry name of
+     * the plug-in in the archive, then by entry name of the properties file.
+     */
+    private final Map<String, Map<String, Set<Object>>> jarProperties = new HashMap<String, Map<String, Set<Object>>>();
+    /** About file within each jarred plug-in, by entry name of the plug-in. */
+    private final Map<String, JarResource> jarAboutFiles = new HashMap<String, JarResource>();
+
+    public EclipseArchive(File location) throws IOException {
+        this(new ZipFile(location), location);
+    }
+
+    public EclipseArchive(ZipFile zipFile, File location) {
+        this.zipFile = zipFile;
+        this.location = location;
+    }
+
+    public File getLocation() {
+        return location;
+    }
+
+    /** Returns the archive, opening it again if it was closed. */
+    public synchronized ZipFile getZipFile() throws IOException {
+        if (zipFile == null) {
+            zipFile = new ZipFile(location);
+        }
+        return zipFile;
+    }
+
+    public ZipEntry getEntry(String name) throws IOException {
+        return getZipFile().getEntry(name);
+    }
+
+    public InputStream getInputStream(ZipEntry entry) throws IOException {
+        return getZipFile().getInputStream(entry);
+    }
+
+    /**
+     * Indexes an entry of a jarred plug-in. Must be called while the stream is
+     * positioned at the start of the entry content, which may be consumed.
+     *
+     * @param jarEntryName
+     *            The entry name of the jarred plug-in in the archive.
+     * @param entry
+     *            The entry within the jarred plug-in.
+     * @param in
+     *            The stream reading the jarred plug-in.
+     */
+    synchronized void indexJarEntry(String jarEntryName, ZipEntry entry,
+            InputStream in) throws IOException {
+        String entryName = entry.getName();
+        if (entryName.endsWith(PROPERTIES_EXTENSION)) {
+            Properties properties = new Properties();
+            properties.load(in);
+            Map<String, Set<Object>> propertiesMap = jarProperties
+                    .get(jarEntryName);
+            if (propertiesMap == null) {
+                propertiesMap = new HashMap<String, Set<Object>>();
+                jarProperties.put(jarEntryName, propertiesMap);
+            }
+            propertiesMap.put(entryName,
+                    new HashSet<Object>(properties.keySet()));
+        } else if (entryName.equalsIgnoreCase(ABOUT_FILE)
+                && !jarAboutFiles.containsKey(jarEntryName)) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buf = new byte[1024];
+            int len;
+            while ((len = in.read(buf)) > 0) {
+                content.write(buf, 0, len);
+            }
+            jarAboutFiles.put(jarEntryName, new JarResource(entryName,
+                    content.toByteArray()));
+        }
+    }
+
+    /**
+     * Marks a jarred plug-in as indexed, even if it had no properties files.
+     *
+     * @param jarEntryName
+     *            The entry name of the jarred plug-in in the archive.
+     */
+    synchronized void jarIndexed(String jarEntryName) {
+        if (!jarProperties.containsKey(jarEntryName)) {
+            jarProperties.put(jarEntryName,
+                    new HashMap<String, Set<Object>>());
+        }
+    }
+
+    /**
+     * Returns the keys of the properties files within a jarred plug-in, by
+     * entry name of the properties file, or null if the plug-in was not
+     * indexed.
+     */
+    public synchronized Map<String, Set<Object>> getJarProperties(
+            String jarEntryName) {
+        return jarProperties.get(jarEntryName);
+    }
+
+    /**
+     * Returns the about file of a jarred plug-in, or null if the plug-in has
+     * none or was not indexed.
+     */
+    public synchronized JarResource getJarAboutFile(String jarEntryName) {
+        return jarAboutFiles.get(jarEntryName);
+    }
+
+    /**
+     * Closes the archive. Indexed content remains available.
+     */
+    public synchronized void close() throws IOException {
+        if (zipFile != null) {
+            zipFile.close();
+            zipFile = null;
+        }
+    }
+
+    /**
+     * Content of an entry of a jarred plug-in.
+     */
+    public static class JarResource {
+        private final String name;
+        private final byte[] content;
+
+        JarResource(String name, byte[] content) {
+            this.name = name;
+            this.content = content;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+    }
+}
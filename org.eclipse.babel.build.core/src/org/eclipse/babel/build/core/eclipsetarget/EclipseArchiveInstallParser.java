@@ -11,6 +11,7 @@
 package org.eclipse.babel.build.core.eclipsetarget;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Enumeration;
@@ -31,6 +32,7 @@ import org.eclipse.babel.build.core.exceptions.InvalidLocationException;
 
 public class EclipseArchiveInstallParser implements EclipseParser {
 
+    private EclipseArchive archive;
     private ZipFile eclipseArchive;
     private File archiveLocation;
 
@@ -42,25 +44,45 @@ public class EclipseArchiveInstallParser implements EclipseParser {
 
     public EclipseArchiveInstallParser(ZipFile eclipseArchive,
             File archiveLocation) throws InvalidLocationException {
-        this.eclipseArchive = eclipseArchive;
-        this.archiveLocation = archiveLocation;
-
-        validateTarget();
-        useDefaultList();
+        this(new EclipseArchive(eclipseArchive, archiveLocation));
     }
 
     public EclipseArchiveInstallParser(ZipFile eclipseArchive,
             File archiveLocation, Set<String> excludeList)
             throws InvalidLocationException {
-        this.eclipseArchive = eclipseArchive;
-        this.archiveLocation = archiveLocation;
+        this(new EclipseArchive(eclipseArchive, archiveLocation), excludeList);
+    }
 
-        validateTarget();
+    /**
+     * @param archive
+     *            - The archive session, in which the content of jarred
+     *            plug-ins is indexed while parsing.
+     */
+    public EclipseArchiveInstallParser(EclipseArchive archive)
+            throws InvalidLocationException {
+        this.archive = archive;
+        this.eclipseArchive = getZipFile(archive);
+        this.archiveLocation = archive.getLocation();
 
+        validateTarget();
         useDefaultList();
+    }
+
+    public EclipseArchiveInstallParser(EclipseArchive archive,
+            Set<String> excludeList) throws InvalidLocationException {
+        this(archive);
         this.excludeList.addAll(excludeList);
     }
 
+    private static ZipFile getZipFile(EclipseArchive archive)
+            throws InvalidLocationException {
+        try {
+            return archive.getZipFile();
+        } catch (IOException e) {
+            throw new InvalidLocationException(e);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void validateTarget() throws InvalidLocationException {
         boolean foundPluginsPath = false;
@@ -245,6 +267,7 @@ public class EclipseArchiveInstallParser implements EclipseParser {
 
             zipEntry = zipInput.getNextEntry();
         }
+        zipInput.close();
 
         parameters.getResourcesOfLastPlugin().addAll(jarResources);
     }
@@ -296,6 +319,8 @@ public class EclipseArchiveInstallParser implements EclipseParser {
         ZipEntry zipEntry = zipInput.getNextEntry();
         while (zipEntry != null) {
             String resourceEntryName = zipEntry.getName();
+            archive.indexJarEntry(parameters.getEntry().getName(), zipEntry,
+                    zipInput);
 
             if (isValidResource(resourceEntryName)) {
                 jarResources.add(new ResourceProxy(new File(archiveLocation
@@ -308,6 +333,8 @@ public class EclipseArchiveInstallParser implements EclipseParser {
 
             zipEntry = zipInput.getNextEntry();
         }
+        zipInput.close();
+        archive.jarIndexed(parameters.getEntry().getName());
 
         PluginProxy newPlugin = new PluginProxy(new File(
                 archiveLocation.getAbsolutePath(), parameters.getEntry()
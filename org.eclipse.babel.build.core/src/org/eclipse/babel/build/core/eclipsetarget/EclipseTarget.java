@@ -11,12 +11,12 @@
 package org.eclipse.babel.build.core.eclipsetarget;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.zip.ZipFile;
 
 import org.eclipse.babel.build.core.PluginProxy;
 import org.eclipse.babel.build.core.exceptions.InvalidFilenameException;
@@ -32,6 +32,7 @@ public class EclipseTarget {
     Map<String, PluginProxy> features = new HashMap<String, PluginProxy>();
 
     private Set<String> excludeList;
+    private EclipseArchive archive;
 
     /**
      * @param plugins
@@ -73,9 +74,9 @@ public class EclipseTarget {
         if (!this.isArchive) {
             parser = new EclipseInstallParser(location, excludeList);
         } else {
-            ZipFile eclipseArchive = new ZipFile(location);
-            parser = new EclipseArchiveInstallParser(eclipseArchive, location,
-                    excludeList);
+            close();
+            archive = new EclipseArchive(location);
+            parser = new EclipseArchiveInstallParser(archive, excludeList);
         }
 
         parser.parse();
@@ -96,6 +97,23 @@ public class EclipseTarget {
         return Collections.unmodifiableMap(features);
     }
 
+    /**
+     * Returns the session on the archive, shared by all fragments, or null if
+     * the EclipseInstall is not an archive or was not populated.
+     */
+    public EclipseArchive getArchive() {
+        return archive;
+    }
+
+    /**
+     * Releases the archive, if any. It is opened again if needed.
+     */
+    public void close() throws IOException {
+        if (archive != null) {
+            archive.close();
+        }
+    }
+
     /** Returns whether or not EclipseInstall is an archive. */
     public boolean isArchive() {
         return isArchive;
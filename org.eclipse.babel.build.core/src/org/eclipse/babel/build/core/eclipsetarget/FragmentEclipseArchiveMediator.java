@@ -25,7 +25,6 @@ import java.util.jar.JarInputStream;
 import java.util.jar.JarOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
-import java.util.zip.ZipFile;
 
 import org.eclipse.babel.build.core.Messages;
 import org.eclipse.babel.build.core.PluginProxy;
@@ -35,29 +34,46 @@ public class FragmentEclipseArchiveMediator implements
         FragmentEclipseTargetMediator {
 
     private PluginProxy eclipseInstallPlugin;
-    private ZipFile eclipseArchive;
+    private EclipseArchive eclipseArchive;
     private File eclipseArchiveLocation;
 
+    /**
+     * @param eclipseArchive
+     *            - The archive session to read from, closed by its owner.
+     */
     public FragmentEclipseArchiveMediator(PluginProxy eclipseInstallPlugin,
-            File eclipseArchiveLocation) throws Exception {
+            EclipseArchive eclipseArchive) {
         this.eclipseInstallPlugin = eclipseInstallPlugin;
-        this.eclipseArchive = new ZipFile(eclipseArchiveLocation);
-        this.eclipseArchiveLocation = eclipseArchiveLocation;
+        this.eclipseArchive = eclipseArchive;
+        this.eclipseArchiveLocation = eclipseArchive.getLocation();
+    }
+
+    /**
+     * Determines the entry name of the plug-in in the eclipse archive.
+     */
+    private String getPluginEntryName() {
+        String pluginRelativePath = eclipseInstallPlugin.getPluginLocation()
+                .getAbsolutePath()
+                .replace(eclipseArchiveLocation.getAbsolutePath(), "");
+        pluginRelativePath = pluginRelativePath.substring(1);
+        return pluginRelativePath.replace(File.separator,
+                Messages.getString("Characters_entry_separator")); //$NON-NLS-1$
     }
 
     public Map<String, Set<Object>> extractEclipseTargetProperties()
             throws ZipException, IOException, FileNotFoundException {
 
-        Map<String, Set<Object>> propertiesMap = new HashMap<String, Set<Object>>();
-
         // Determine the entry name of the JAR plug-in
         InputStream jarPluginInputStream;
-        String jarPluginRelativePath = eclipseInstallPlugin.getPluginLocation()
-                .getAbsolutePath()
-                .replace(eclipseArchiveLocation.getAbsolutePath(), "");
-        jarPluginRelativePath = jarPluginRelativePath.substring(1);
-        jarPluginRelativePath = jarPluginRelativePath.replace(File.separator,
-                Messages.getString("Characters_entry_separator")); //$NON-NLS-1$
+        String jarPluginRelativePath = getPluginEntryName();
+
+        // Use the properties indexed while parsing the archive, if any
+        Map<String, Set<Object>> propertiesMap = eclipseArchive
+                .getJarProperties(jarPluginRelativePath);
+        if (propertiesMap != null) {
+            return new HashMap<String, Set<Object>>(propertiesMap);
+        }
+        propertiesMap = new HashMap<String, Set<Object>>();
 
         // Extract the JAR plug-in entry form the eclipse archive
         ZipEntry jarPluginEntry = eclipseArchive
@@ -107,15 +123,17 @@ public class FragmentEclipseArchiveMediator implements
 
     public boolean writeAboutHtmlFile(File resource, JarOutputStream out)
             throws Exception {
-        String pluginRelativePath = eclipseInstallPlugin.getPluginLocation()
-                .getAbsolutePath()
-                .replace(eclipseArchiveLocation.getAbsolutePath(), "");
-        pluginRelativePath = pluginRelativePath.substring(1);
-        pluginRelativePath = pluginRelativePath.replace(File.separator,
-                Messages.getString("Characters_entry_separator")); //$NON-NLS-1$
+        String pluginRelativePath = getPluginEntryName();
 
         ZipEntry archiveEntry;
-        if (eclipseInstallPlugin.isJar()) {
+        EclipseArchive.JarResource aboutFile = eclipseInstallPlugin.isJar() ? eclipseArchive
+                .getJarAboutFile(pluginRelativePath) : null;
+        if (aboutFile != null
+                && aboutFile.getName().equalsIgnoreCase(resource.getName())) {
+            // Use the about file indexed while parsing the archive
+            out.putNextEntry(new JarEntry(aboutFile.getName()));
+            out.write(aboutFile.getContent());
+        } else if (eclipseInstallPlugin.isJar()) {
             // Obtain an input stream for the jar resource
             archiveEntry = eclipseArchive.getEntry(pluginRelativePath);
             InputStream archiveInputStream = eclipseArchive
@@ -0,0 +1,545 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.build.core.languagepack;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.babel.build.core.Configuration;
+import org.eclipse.babel.build.core.Filter;
+import org.eclipse.babel.build.core.LocaleGroup;
+import org.eclipse.babel.build.core.LocaleProxy;
+import org.eclipse.babel.build.core.PluginProxy;
+import org.eclipse.babel.build.core.ResourceProxy;
+import org.eclipse.babel.build.core.coverage.PluginCoverageInformation;
+import org.eclipse.babel.build.core.coverage.ResourceCoverageInformation;
+
+/**
+ * Records, for each fragment of a language pack, a hash of the inputs it was
+ * generated from along with its coverage, so that a fragment whose inputs did
+ * not change can be reused by the next build instead of being generated again.
+ *
+ * The inputs of a fragment are the resources of the plug-in in the Eclipse
+ * target, their translations for each locale and the settings of the
+ * configuration which affect the fragment.
+ */
+public class BuildManifest {
+
+    /** Changed whenever the format of the manifest, or the fragments, change. */
+    private static final int VERSION = 1;
+
+    private static final String DIGEST_ALGORITHM = "MD5"; //$NON-NLS-1$
+
+    /** Entries read from the file, by fragment path. */
+    private final Map<String, Entry> previousEntries = new HashMap<String, Entry>();
+
+    /** Entries of the fragments of this build, by fragment path. */
+    private final Map<String, Entry> entries = new HashMap<String, Entry>();
+
+    /**
+     * Creates an empty manifest, with which all fragments are generated.
+     */
+    public BuildManifest() {
+    }
+
+    /**
+     * Reads the manifest of the previous build. The manifest is empty if there
+     * was no previous build, or if it cannot be read.
+     *
+     * @param file
+     *            The manifest file.
+     */
+    public static BuildManifest load(File file) {
+        BuildManifest manifest = new BuildManifest();
+        if (!file.exists()) {
+            return manifest;
+        }
+
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(
+                    new FileInputStream(file)));
+            if (in.readInt() != VERSION) {
+                return manifest;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Entry entry = Entry.read(in);
+                manifest.previousEntries.put(entry.fragmentPath, entry);
+            }
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            manifest.previousEntries.clear();
+        } finally {
+            close(in);
+        }
+        return manifest;
+    }
+
+    /**
+     * Writes the entries of the fragments recorded by this build, replacing
+     * those of the previous build. The entries are written to a temporary
+     * file which then replaces the manifest file, so that an interrupted
+     * build does not leave a truncated manifest.
+     *
+     * @param file
+     *            The manifest file.
+     */
+    public synchronized void save(File file) throws IOException {
+        File tempFile = File.createTempFile(file.getName(), ".tmp", file //$NON-NLS-1$
+                .getAbsoluteFile().getParentFile());
+        try {
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tempFile)));
+            try {
+                out.writeInt(VERSION);
+                out.writeInt(entries.size());
+                for (Entry entry : entries.values()) {
+                    entry.write(out);
+                }
+            } finally {
+                out.close();
+            }
+
+            replaceFile(file, tempFile);
+        } finally {
+            if (tempFile.exists()) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    /*
+     * Replaces a file with a new one. As renaming onto an existing file fails
+     * on some platforms, the file is first moved to a backup, which is moved
+     * back if the new file cannot take its place.
+     */
+    private static void replaceFile(File file, File newFile)
+            throws IOException {
+        if (newFile.renameTo(file)) {
+            return;
+        }
+        File backup = null;
+        if (file.exists()) {
+            backup = File.createTempFile(file.getName(), ".bak", file //$NON-NLS-1$
+                    .getAbsoluteFile().getParentFile());
+            if (!backup.delete() || !file.renameTo(backup)) {
+                backup.delete();
+                throw new IOException("Cannot move " + file + " to " + backup); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+        if (!newFile.renameTo(file)) {
+            if (backup != null && !backup.renameTo(file)) {
+                throw new IOException("Cannot replace " + file + " with " //$NON-NLS-1$ //$NON-NLS-2$
+                        + newFile + ", the file is kept as " + backup); //$NON-NLS-1$
+            }
+            throw new IOException("Cannot replace " + file + " with " //$NON-NLS-1$ //$NON-NLS-2$
+                    + newFile);
+        }
+        if (backup != null) {
+            backup.delete();
+        }
+    }
+
+    /**
+     * Returns the fragments generated by the previous build.
+     */
+    public synchronized Set<File> previousFragments() {
+        Set<File> fragments = new HashSet<File>();
+        for (String path : previousEntries.keySet()) {
+            fragments.add(new File(path));
+        }
+        return fragments;
+    }
+
+    /**
+     * Returns the fragments of the previous build which this build did not
+     * record.
+     */
+    public synchronized Set<File> obsoleteFragments() {
+        Set<File> fragments = new HashSet<File>();
+        for (String path : previousEntries.keySet()) {
+            if (!entries.containsKey(path)) {
+                fragments.add(new File(path));
+            }
+        }
+        return fragments;
+    }
+
+    /**
+     * Returns the coverage of a fragment of the previous build, if it was
+     * generated from the same inputs and is still on disk.
+     *
+     * @param fragment
+     *            The jar or directory of the fragment.
+     * @param plugin
+     *            The plug-in the fragment is generated for.
+     * @param hash
+     *            The hash of the inputs of the fragment, see
+     *            {@link #hashInputs(PluginProxy, Configuration, Set)}.
+     * @return The coverage of the fragment, or <code>null</code> if the
+     *         fragment must be generated.
+     */
+    public synchronized PluginCoverageInformation reuse(File fragment,
+            PluginProxy plugin, String hash) {
+        Entry entry = previousEntries.get(fragment.getAbsolutePath());
+        if (entry == null || !entry.hash.equals(hash)
+                || entry.fragmentExists != fragment.exists()) {
+            return null;
+        }
+
+        PluginCoverageInformation coverage = entry.toCoverage(plugin);
+        if (coverage != null) {
+            entries.put(entry.fragmentPath, entry);
+        }
+        return coverage;
+    }
+
+    /**
+     * Records a fragment generated by this build.
+     *
+     * @param fragment
+     *            The jar or directory of the fragment.
+     * @param hash
+     *            The hash of the inputs of the fragment.
+     * @param coverage
+     *            The coverage of the fragment.
+     */
+    public synchronized void record(File fragment, String hash,
+            PluginCoverageInformation coverage) {
+        Entry entry = new Entry(fragment.getAbsolutePath(), hash,
+                fragment.exists(), coverage);
+        entries.put(entry.fragmentPath, entry);
+    }
+
+    /**
+     * Computes the hash of the inputs of the fragment of a plug-in or feature.
+     *
+     * The translated resources, and the resources of a plug-in held in a
+     * directory, are hashed by content. A plug-in held in a jar, or in an
+     * archived Eclipse target, is hashed by the size and modification time of
+     * the jar or archive.
+     *
+     * @param plugin
+     *            The plug-in or feature of the Eclipse target.
+     * @param config
+     *            The configuration of the build.
+     * @param locales
+     *            The locales of the language pack.
+     * @return The hash, as hexadecimal digits.
+     */
+    public static String hashInputs(PluginProxy plugin, Configuration config,
+            Set<LocaleProxy> locales) throws IOException {
+        MessageDigest digest = createDigest();
+
+        // Configuration
+        update(digest, plugin.getName());
+        update(digest, plugin.getVersion());
+        update(digest, String.valueOf(plugin.isJar()));
+        update(digest, String.valueOf(plugin.isFeature()));
+        update(digest, config.localeExtension());
+        List<String> settings = new ArrayList<String>();
+        for (LocaleProxy locale : locales) {
+            settings.add(locale.getName());
+        }
+        update(digest, settings);
+        settings.clear();
+        if (config.localeGroups() != null) {
+            for (LocaleGroup group : config.localeGroups()) {
+                settings.add(group.name());
+            }
+        }
+        update(digest, settings);
+        settings.clear();
+        if (config.filters() != null) {
+            for (Filter filter : config.filters()) {
+                settings.add(filter.getPattern());
+            }
+        }
+        update(digest, settings);
+        settings.clear();
+        if (config.excludeList() != null) {
+            settings.addAll(config.excludeList());
+        }
+        update(digest, settings);
+
+        // Source resources
+        if (config.eclipseInstall().isArchive()) {
+            updateWithFileState(digest, config.eclipseInstall().getLocation());
+        } else if (plugin.isJar()) {
+            updateWithFileState(digest, plugin.getPluginLocation());
+        }
+        for (ResourceProxy resource : plugin.getResources()) {
+            update(digest, resource.getRelativePath());
+            if (!config.eclipseInstall().isArchive() && !plugin.isJar()) {
+                updateWithContent(digest, resource.getFileResource());
+            }
+        }
+
+        // Translated resources
+        Map<String, PluginProxy> translations = plugin.isFeature() ? config
+                .translations().getFeatureForSpecifiedLocales(plugin) : config
+                .translations().getPluginForSpecifiedLocales(plugin);
+        List<LocaleProxy> sortedLocales = new ArrayList<LocaleProxy>(locales);
+        Collections.sort(sortedLocales, LocaleProxy.NAME_COMPARATOR);
+        for (LocaleProxy locale : sortedLocales) {
+            PluginProxy translation = translations.get(locale.getName());
+            if (translation == null) {
+                continue;
+            }
+            update(digest, locale.getName());
+            for (ResourceProxy resource : plugin.getResources()) {
+                ResourceProxy translatedResource = config.translations()
+                        .getResourceTranslation(translation, resource);
+                if (translatedResource != null) {
+                    update(digest, translatedResource.getRelativePath());
+                    updateWithContent(digest,
+                            translatedResource.getFileResource());
+                }
+            }
+        }
+
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(Character.forDigit((b >> 4) & 0x0f, 16));
+            hash.append(Character.forDigit(b & 0x0f, 16));
+        }
+        return hash.toString();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        try {
+            digest.update(value.getBytes("UTF-8")); //$NON-NLS-1$
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update((byte) 0);
+    }
+
+    private static void update(MessageDigest digest, List<String> values) {
+        Collections.sort(values);
+        for (String value : values) {
+            update(digest, value);
+        }
+        digest.update((byte) 0);
+    }
+
+    private static void updateWithFileState(MessageDigest digest, File file) {
+        update(digest, file.getAbsolutePath());
+        update(digest, String.valueOf(file.length()));
+        update(digest, String.valueOf(file.lastModified()));
+    }
+
+    private static void updateWithContent(MessageDigest digest, File file)
+            throws IOException {
+        if (file == null || !file.isFile()) {
+            update(digest, ""); //$NON-NLS-1$
+            return;
+        }
+
+        byte[] buffer = new byte[8192];
+        InputStream in = new FileInputStream(file);
+        try {
+            int length;
+            while ((length = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, length);
+            }
+        } finally {
+            in.close();
+        }
+        digest.update((byte) 0);
+    }
+
+    private static void close(InputStream in) {
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * The hash of the inputs of a fragment, and its coverage.
+     */
+    private static class Entry {
+        private final String fragmentPath;
+        private final String hash;
+        private final boolean fragmentExists;
+
+        /** Locale name, whether the plug-in was matched. */
+        private final Map<String, Boolean> pluginMatching = new HashMap<String, Boolean>();
+
+        /** Resource relative path, locale name, coverage. */
+        private final Map<String, Map<String, ResourceCoverage>> resourceCoverage = new HashMap<String, Map<String, ResourceCoverage>>();
+
+        private Entry(String fragmentPath, String hash, boolean fragmentExists) {
+            this.fragmentPath = fragmentPath;
+            this.hash = hash;
+            this.fragmentExists = fragmentExists;
+        }
+
+        private Entry(String fragmentPath, String hash,
+                boolean fragmentExists, PluginCoverageInformation coverage) {
+            this(fragmentPath, hash, fragmentExists);
+
+            for (Map.Entry<LocaleProxy, Boolean> matching : coverage
+                    .getPluginMatchingPerLocale().entrySet()) {
+                pluginMatching.put(matching.getKey().getName(),
+                        matching.getValue());
+            }
+            for (Map.Entry<String, ResourceCoverageInformation> resource : coverage
+                    .getResourceCoverage().entrySet()) {
+                ResourceCoverageInformation info = resource.getValue();
+                Map<String, ResourceCoverage> byLocale = new HashMap<String, ResourceCoverage>();
+                for (LocaleProxy locale : info.getRecordedLocales()) {
+                    byLocale.put(
+                            locale.getName(),
+                            new ResourceCoverage(info
+                                    .getMatchingForLocale(locale), info
+                                    .getMatchedPercentageForLocale(locale)));
+                }
+                resourceCoverage.put(resource.getKey(), byLocale);
+            }
+        }
+
+        /**
+         * Returns the coverage of the fragment, or <code>null</code> if one of
+         * the resources is no longer part of the plug-in.
+         */
+        private PluginCoverageInformation toCoverage(PluginProxy plugin) {
+            Map<String, ResourceProxy> resources = new HashMap<String, ResourceProxy>();
+            for (ResourceProxy resource : plugin.getResources()) {
+                resources.put(resource.getRelativePath(), resource);
+            }
+
+            PluginCoverageInformation coverage = new PluginCoverageInformation(
+                    plugin);
+            for (Map.Entry<String, Boolean> matching : pluginMatching
+                    .entrySet()) {
+                coverage.setPluginMatchingForLocale(
+                        new LocaleProxy(matching.getKey()), matching.getValue());
+            }
+            for (Map.Entry<String, Map<String, ResourceCoverage>> resourceEntry : resourceCoverage
+                    .entrySet()) {
+                ResourceProxy resource = resources.get(resourceEntry.getKey());
+                if (resource == null) {
+                    return null;
+                }
+                for (Map.Entry<String, ResourceCoverage> localeEntry : resourceEntry
+                        .getValue().entrySet()) {
+                    LocaleProxy locale = new LocaleProxy(localeEntry.getKey());
+                    ResourceCoverage info = localeEntry.getValue();
+                    if (info.percentage == null) {
+                        coverage.setResourceCoverageForLocale(locale, resource,
+                                info.matched);
+                    } else {
+                        coverage.setResourceCoverageForLocale(locale, resource,
+                                info.matched, info.percentage);
+                    }
+                }
+            }
+            return coverage;
+        }
+
+        private static Entry read(DataInputStream in) throws IOException {
+            Entry entry = new Entry(in.readUTF(), in.readUTF(),
+                    in.readBoolean());
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                entry.pluginMatching.put(in.readUTF(), in.readBoolean());
+            }
+
+            count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String relativePath = in.readUTF();
+                Map<String, ResourceCoverage> byLocale = new HashMap<String, ResourceCoverage>();
+                int localeCount = in.readInt();
+                for (int j = 0; j < localeCount; j++) {
+                    String locale = in.readUTF();
+                    Boolean matched = in.readBoolean();
+                    Integer percentage = in.readBoolean() ? in.readInt()
+                            : null;
+                    byLocale.put(locale,
+                            new ResourceCoverage(matched, percentage));
+                }
+                entry.resourceCoverage.put(relativePath, byLocale);
+            }
+            return entry;
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeUTF(fragmentPath);
+            out.writeUTF(hash);
+            out.writeBoolean(fragmentExists);
+
+            out.writeInt(pluginMatching.size());
+            for (Map.Entry<String, Boolean> matching : pluginMatching
+                    .entrySet()) {
+                out.writeUTF(matching.getKey());
+                out.writeBoolean(Boolean.TRUE.equals(matching.getValue()));
+            }
+
+            out.writeInt(resourceCoverage.size());
+            for (Map.Entry<String, Map<String, ResourceCoverage>> resourceEntry : resourceCoverage
+                    .entrySet()) {
+                out.writeUTF(resourceEntry.getKey());
+                out.writeInt(resourceEntry.getValue().size());
+                for (Map.Entry<String, ResourceCoverage> localeEntry : resourceEntry
+                        .getValue().entrySet()) {
+                    ResourceCoverage info = localeEntry.getValue();
+                    out.writeUTF(localeEntry.getKey());
+                    out.writeBoolean(Boolean.TRUE.equals(info.matched));
+                    out.writeBoolean(info.percentage != null);
+                    if (info.percentage != null) {
+                        out.writeInt(info.percentage);
+                    }
+                }
+            }
+        }
+    }
+
+    private static class ResourceCoverage {
+        private final Boolean matched;
+        private final Integer percentage;
+
+        private ResourceCoverage(Boolean matched, Integer percentage) {
+            this.matched = matched;
+            this.percentage = percentage;
+        }
+    }
+}
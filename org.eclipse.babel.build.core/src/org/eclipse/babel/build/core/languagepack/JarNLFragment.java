@@ -31,6 +31,7 @@ import org.eclipse.babel.build.core.Messages;
 import org.eclipse.babel.build.core.PluginProxy;
 import org.eclipse.babel.build.core.ResourceProxy;
 import org.eclipse.babel.build.core.coverage.PluginCoverageInformation;
+import org.eclipse.babel.build.core.eclipsetarget.EclipseArchive;
 import org.eclipse.babel.build.core.eclipsetarget.EclipseTarget;
 import org.eclipse.babel.build.core.eclipsetarget.FragmentEclipseArchiveMediator;
 import org.eclipse.babel.build.core.eclipsetarget.FragmentEclipseInstallMediator;
@@ -49,22 +50,44 @@ public class JarNLFragment implements NLFragment {
 
     private Map<String, Set<Object>> propertiesMap = new HashMap<String, Set<Object>>();
     private FragmentEclipseTargetMediator mediator;
+    /** Session on an archive target which was not populated, owned by us. */
+    private EclipseArchive ownArchive;
 
     public JarNLFragment(File directory, PluginProxy eclipseInstallPlugin,
             EclipseTarget eclipseTarget) throws Exception {
         this.directory = new File(directory.getAbsolutePath() + JAR_EXTENSION);
         this.eclipseInstallPlugin = eclipseInstallPlugin;
         if (eclipseTarget.isArchive()) {
+            EclipseArchive archive = eclipseTarget.getArchive();
+            if (archive == null) {
+                ownArchive = new EclipseArchive(eclipseTarget.getLocation());
+                archive = ownArchive;
+            }
             mediator = new FragmentEclipseArchiveMediator(
-                    this.eclipseInstallPlugin, eclipseTarget.getLocation());
+                    this.eclipseInstallPlugin, archive);
         } else {
             mediator = new FragmentEclipseInstallMediator(
                     this.eclipseInstallPlugin);
         }
     }
 
+    /**
+     * Generates the fragment, then closes the session on the archive target
+     * if it was opened by this fragment.
+     */
     public PluginCoverageInformation generateFragment(Configuration config)
             throws Exception {
+        try {
+            return generate(config);
+        } finally {
+            if (ownArchive != null) {
+                ownArchive.close();
+            }
+        }
+    }
+
+    private PluginCoverageInformation generate(Configuration config)
+            throws Exception {
 
         // Keeps track of whether or not the about.html file has been added to
         // the fragment
@@ -73,11 +96,6 @@ public class JarNLFragment implements NLFragment {
         TranslationCatalogue translationCatalogue = config.translations();
         Set<LocaleProxy> locales = config.locales();
 
-        // An empty list of locales means all of them should be parsed
-        if (locales.isEmpty() && config.localeGroups().isEmpty()) {
-            locales.addAll(translationCatalogue.getAllLocales());
-        }
-
         Map<String, PluginProxy> translationCataloguePluginMap = getPluginOrFeatureForSpecifiedLocales(
                 config, eclipseInstallPlugin);
 
@@ -11,44 +11,110 @@
 package org.eclipse.babel.build.core.languagepack;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.babel.build.core.Configuration;
+import org.eclipse.babel.build.core.LocaleProxy;
 import org.eclipse.babel.build.core.Messages;
 import org.eclipse.babel.build.core.PluginProxy;
 import org.eclipse.babel.build.core.coverage.LanguagePackCoverageReport;
+import org.eclipse.babel.build.core.coverage.PluginCoverageInformation;
 import org.eclipse.babel.build.core.eclipsetarget.EclipseTarget;
 import org.eclipse.babel.build.core.exceptions.FailedDeletionException;
 import org.eclipse.babel.build.core.exceptions.InvalidFilenameException;
+import org.eclipse.babel.build.core.metrics.Counter;
+import org.eclipse.babel.build.core.metrics.Metrics;
+import org.eclipse.babel.build.core.metrics.Timer;
 
 public class LanguagePack {
 
+    /** Number of fragments generated at once, unless specified otherwise. */
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime()
+            .availableProcessors();
+
+    private static final Timer FRAGMENT_TIMER = Metrics
+            .timer("LanguagePack.fragment"); //$NON-NLS-1$
+    private static final Counter REUSED_FRAGMENTS = Metrics
+            .counter("LanguagePack.fragment.reused"); //$NON-NLS-1$
+
     private Configuration config;
     private File absoluteWorkDirectory;
+    private int parallelism = DEFAULT_PARALLELISM;
+    private boolean incremental;
 
     public LanguagePack(Configuration config) {
         this.config = config;
     }
 
+    /**
+     * Sets the number of fragments generated at once.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Parallelism must be at least 1: " + parallelism); //$NON-NLS-1$
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sets whether fragments whose inputs did not change since the previous
+     * build in the working directory are reused, rather than generated again.
+     * Defaults to <code>false</code>, every fragment is then generated.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
     /**
      * Generates a language pack on disk and returns a report with coverage
      * information.
+     * 
+     * Fragments are independent of each other and are generated concurrently,
+     * the coverage report still lists them in the order of the Eclipse
+     * install.
+     * 
+     * A {@link BuildManifest} in the working directory records the inputs of
+     * each fragment. In an incremental build, a fragment whose inputs did not
+     * change since the previous build is kept along with its coverage.
      */
     public LanguagePackCoverageReport generate()
             throws InvalidFilenameException, FailedDeletionException, Exception {
-        NLFragment fragment;
         File parentFragmentDirectory;
-        EclipseTarget eclipseInstall = config.eclipseInstall();
+        final EclipseTarget eclipseInstall = config.eclipseInstall();
         LanguagePackCoverageReport coverage;
 
         this.absoluteWorkDirectory = this.config.workingDirectory()
                 .getAbsoluteFile();
-        setupLanguagePackLocation();
+        File manifestFile = new File(this.absoluteWorkDirectory,
+                Messages.getString("Paths_build_manifest")); //$NON-NLS-1$
+        final BuildManifest manifest = incremental ? BuildManifest
+                .load(manifestFile) : new BuildManifest();
+        setupLanguagePackLocation(manifest.previousFragments());
 
         coverage = new LanguagePackCoverageReport(config.translations()
                 .getAllLocales());
 
+        // An empty list of locales means all of them should be parsed. Done
+        // once here rather than by the fragments, which run concurrently.
+        final Set<LocaleProxy> locales = config.locales();
+        if (locales.isEmpty() && config.localeGroups().isEmpty()) {
+            locales.addAll(config.translations().getAllLocales());
+        }
+
+        List<Callable<PluginCoverageInformation>> tasks = new ArrayList<Callable<PluginCoverageInformation>>();
+
         // For each plugin in the eclipse archive
-        for (PluginProxy plugin : eclipseInstall.getPlugins().values()) {
+        for (final PluginProxy plugin : eclipseInstall.getPlugins().values()) {
 
             String versionSuffix = "";
             if (!plugin.getVersion().equalsIgnoreCase("")) {
@@ -65,18 +131,37 @@ public class LanguagePack {
                             + plugin.getName()
                             + Messages.getString("Extensions_nl") + config.localeExtension() + versionSuffix); //$NON-NLS-1$ $NON-NLS-2$ $NON-NLS-3$
 
-            config.notifyProgress(plugin.getName());
+            final File fragmentDirectory = parentFragmentDirectory;
+            tasks.add(new Callable<PluginCoverageInformation>() {
+                public PluginCoverageInformation call() throws Exception {
+                    notifyProgress(plugin.getName());
+                    long start = FRAGMENT_TIMER.start();
 
-            // At present, all NL fragments are jarred
-            fragment = new JarNLFragment(parentFragmentDirectory, plugin,
-                    eclipseInstall);
+                    File fragmentFile = new File(fragmentDirectory
+                            .getAbsolutePath() + NLFragment.JAR_EXTENSION);
+                    String hash = BuildManifest.hashInputs(plugin, config,
+                            locales);
+                    PluginCoverageInformation coverage = manifest.reuse(
+                            fragmentFile, plugin, hash);
+                    if (coverage == null) {
+                        deleteDirectory(fragmentFile);
 
-            coverage.addPluginCoverageToReport(fragment
-                    .generateFragment(this.config));
+                        // At present, all NL fragments are jarred
+                        NLFragment fragment = new JarNLFragment(
+                                fragmentDirectory, plugin, eclipseInstall);
+                        coverage = fragment.generateFragment(config);
+                        manifest.record(fragmentFile, hash, coverage);
+                    } else {
+                        REUSED_FRAGMENTS.increment();
+                    }
+                    recordFragmentTime(plugin, start);
+                    return coverage;
+                }
+            });
         }
 
         // For each feature in the eclipse archive
-        for (PluginProxy feature : eclipseInstall.getFeatures().values()) {
+        for (final PluginProxy feature : eclipseInstall.getFeatures().values()) {
 
             String versionSuffix = "";
             if (!feature.getVersion().equalsIgnoreCase("")) {
@@ -93,26 +178,136 @@ public class LanguagePack {
                             + feature.getName()
                             + Messages.getString("Extensions_nl") + config.localeExtension() + versionSuffix); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
-            config.notifyProgress(feature.getName());
+            final File fragmentDirectory = parentFragmentDirectory;
+            tasks.add(new Callable<PluginCoverageInformation>() {
+                public PluginCoverageInformation call() throws Exception {
+                    notifyProgress(feature.getName());
+                    long start = FRAGMENT_TIMER.start();
 
-            // TODO: Determine if feature fragments should be jarred or not
-            // Instantiate the new fragment with its directory, and generate it
-            if (!feature.isJar()) {
-                fragment = new NonJarNLFragment(parentFragmentDirectory,
-                        feature);
-            } else {
-                fragment = new JarNLFragment(parentFragmentDirectory, feature,
-                        eclipseInstall);
-            }
-            coverage.addPluginCoverageToReport(fragment
-                    .generateFragment(this.config));
+                    File fragmentFile = feature.isJar() ? new File(
+                            fragmentDirectory.getAbsolutePath()
+                                    + NLFragment.JAR_EXTENSION)
+                            : fragmentDirectory;
+                    String hash = BuildManifest.hashInputs(feature, config,
+                            locales);
+                    PluginCoverageInformation coverage = manifest.reuse(
+                            fragmentFile, feature, hash);
+                    if (coverage != null) {
+                        REUSED_FRAGMENTS.increment();
+                        recordFragmentTime(feature, start);
+                        return coverage;
+                    }
+                    deleteDirectory(fragmentFile);
+
+                    // TODO: Determine if feature fragments should be jarred or
+                    // not
+                    // Instantiate the new fragment with its directory, and
+                    // generate it
+                    NLFragment fragment;
+                    if (!feature.isJar()) {
+                        fragment = new NonJarNLFragment(fragmentDirectory,
+                                feature);
+                    } else {
+                        fragment = new JarNLFragment(fragmentDirectory,
+                                feature, eclipseInstall);
+                    }
+                    coverage = fragment.generateFragment(config);
+                    manifest.record(fragmentFile, hash, coverage);
+                    recordFragmentTime(feature, start);
+                    return coverage;
+                }
+            });
         }
 
+        try {
+            for (PluginCoverageInformation pluginCoverage : generateFragments(tasks)) {
+                coverage.addPluginCoverageToReport(pluginCoverage);
+            }
+
+            // Fragments of plug-ins no longer in the eclipse archive
+            for (File fragmentFile : manifest.obsoleteFragments()) {
+                deleteDirectory(fragmentFile);
+            }
+            try {
+                manifest.save(manifestFile);
+            } catch (IOException e) {
+                System.out.println(e.getMessage());
+            }
+        } finally {
+            // Release the eclipse archive shared by the fragments
+            eclipseInstall.close();
+        }
         return coverage;
     }
 
-    private void setupLanguagePackLocation() throws InvalidFilenameException,
-            FailedDeletionException {
+    /**
+     * Runs the fragment generation tasks on a bounded pool of threads.
+     * 
+     * @return the coverage of each fragment, in the order of the tasks
+     */
+    private List<PluginCoverageInformation> generateFragments(
+            List<Callable<PluginCoverageInformation>> tasks) throws Exception {
+        List<PluginCoverageInformation> coverages = new ArrayList<PluginCoverageInformation>(
+                tasks.size());
+        if (tasks.isEmpty()) {
+            return coverages;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(
+                parallelism, tasks.size()));
+        try {
+            List<Future<PluginCoverageInformation>> futures = new ArrayList<Future<PluginCoverageInformation>>(
+                    tasks.size());
+            for (Callable<PluginCoverageInformation> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<PluginCoverageInformation> future : futures) {
+                try {
+                    coverages.add(future.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception) {
+                        throw (Exception) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return coverages;
+    }
+
+    /**
+     * Records the time taken by the fragment of a plug-in or feature, both in
+     * the timer of all fragments and in a timer of its own.
+     * 
+     * @param start
+     *            the start time returned by the timer of all fragments
+     */
+    private static void recordFragmentTime(PluginProxy plugin, long start) {
+        if (start != 0) {
+            long nanos = System.nanoTime() - start;
+            FRAGMENT_TIMER.record(nanos);
+            Metrics.timer("LanguagePack.fragment." + plugin.getName()) //$NON-NLS-1$
+                    .record(nanos);
+        }
+    }
+
+    /**
+     * Notifies the configuration of the fragment being generated, one fragment
+     * at a time.
+     */
+    private void notifyProgress(String fragmentName) {
+        synchronized (config) {
+            config.notifyProgress(fragmentName);
+        }
+    }
+
+    /**
+     * Prepares the working directory, removing the previous language pack but
+     * for the given fragments.
+     */
+    private void setupLanguagePackLocation(Set<File> keptFragments)
+            throws InvalidFilenameException, FailedDeletionException {
 
         if (this.absoluteWorkDirectory.exists()) {
             try {
@@ -122,7 +317,7 @@ public class LanguagePack {
                     // Find and remove eclipse folder in working directory
                     // folder (if exists)
                     for (File file : eclipseFolder.listFiles()) {
-                        deleteDirectory(file);
+                        deleteDirectory(file, keptFragments);
                     }
                 }
             } catch (Exception e) {
@@ -147,14 +342,21 @@ public class LanguagePack {
     }
 
     private boolean deleteDirectory(File path) {
-        if (path.exists()) {
+        return deleteDirectory(path, Collections.<File> emptySet());
+    }
+
+    /**
+     * Deletes a file or directory, but for the given files and directories
+     * along with the directories holding them.
+     */
+    private boolean deleteDirectory(File path, Set<File> keptFiles) {
+        if (keptFiles.contains(path.getAbsoluteFile())) {
+            return false;
+        }
+        if (path.isDirectory()) {
             File[] files = path.listFiles();
             for (int i = 0; i < files.length; i++) {
-                if (files[i].isDirectory()) {
-                    deleteDirectory(files[i]);
-                } else {
-                    files[i].delete();
-                }
+                deleteDirectory(files[i], keptFiles);
             }
         }
         return (path.delete());
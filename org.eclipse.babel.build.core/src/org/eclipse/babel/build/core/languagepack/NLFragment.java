@@ -47,7 +47,8 @@ public interface NLFragment {
 
     /**
      * Generates an NLFragment for a specific plug-in, and returns coverage
-     * information about that plug-in.
+     * information about that plug-in. The locales of the configuration are
+     * expected to be filled in already, see {@link LanguagePack#generate()}.
      */
     public PluginCoverageInformation generateFragment(Configuration config)
             throws Exception;
@@ -64,11 +64,6 @@ public class NonJarNLFragment implements NLFragment {
         TranslationCatalogue translationCatalogue = config.translations();
         Set<LocaleProxy> locales = config.locales();
 
-        // An empty list of locales means all of them should be parsed
-        if (locales.isEmpty() && config.localeGroups().isEmpty()) {
-            locales.addAll(translationCatalogue.getAllLocales());
-        }
-
         Map<String, PluginProxy> translationCataloguePluginMap = getPluginOrFeatureForSpecifiedLocales(
                 config, eclipseInstallPlugin);
 
@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.build.core.metrics;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The values recorded by the {@link Metrics} at a point in time, sorted by
+ * name and exportable as text or as JSON. Durations are in nanoseconds, they
+ * are exported in milliseconds.
+ */
+public final class MetricsSnapshot {
+
+    private static final double NANOS_PER_MILLI = 1000000d;
+
+    private final SortedMap<String, Long> counters = new TreeMap<String, Long>();
+    private final SortedMap<String, Distribution> timers = new TreeMap<String, Distribution>();
+    private final SortedMap<String, Distribution> histograms = new TreeMap<String, Distribution>();
+
+    MetricsSnapshot() {
+    }
+
+    void addCounter(String name, long count) {
+        counters.put(name, count);
+    }
+
+    void addTimer(String name, Distribution durations) {
+        timers.put(name, durations);
+    }
+
+    void addHistogram(String name, Distribution values) {
+        histograms.put(name, values);
+    }
+
+    /**
+     * @return The number of events counted, by counter name
+     */
+    public SortedMap<String, Long> getCounters() {
+        return Collections.unmodifiableSortedMap(counters);
+    }
+
+    /**
+     * @return The durations recorded, in nanoseconds, by timer name
+     */
+    public SortedMap<String, Distribution> getTimers() {
+        return Collections.unmodifiableSortedMap(timers);
+    }
+
+    /**
+     * @return The values recorded, by histogram name
+     */
+    public SortedMap<String, Distribution> getHistograms() {
+        return Collections.unmodifiableSortedMap(histograms);
+    }
+
+    /**
+     * @return The snapshot as text, one line per metric
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, Long> entry : counters.entrySet()) {
+            text.append(entry.getKey()).append(": count=") //$NON-NLS-1$
+                    .append(entry.getValue()).append('\n');
+        }
+        for (Map.Entry<String, Distribution> entry : timers.entrySet()) {
+            Distribution d = entry.getValue();
+            text.append(entry.getKey()).append(": count=").append(d.count) //$NON-NLS-1$
+                    .append(" total=").append(millis(d.sum)) //$NON-NLS-1$
+                    .append("ms mean=").append(millis(d.getMean())) //$NON-NLS-1$
+                    .append("ms p50=").append(millis(d.p50)) //$NON-NLS-1$
+                    .append("ms p90=").append(millis(d.p90)) //$NON-NLS-1$
+                    .append("ms p99=").append(millis(d.p99)) //$NON-NLS-1$
+                    .append("ms max=").append(millis(d.max)) //$NON-NLS-1$
+                    .append("ms\n"); //$NON-NLS-1$
+        }
+        for (Map.Entry<String, Distribution> entry : histograms.entrySet()) {
+            Distribution d = entry.getValue();
+            text.append(entry.getKey()).append(": count=").append(d.count) //$NON-NLS-1$
+                    .append(" sum=").append(d.sum) //$NON-NLS-1$
+                    .append(" min=").append(d.min) //$NON-NLS-1$
+                    .append(" mean=").append(decimal(d.getMean())) //$NON-NLS-1$
+                    .append(" p50=").append(d.p50) //$NON-NLS-1$
+                    .append(" p90=").append(d.p90) //$NON-NLS-1$
+                    .append(" p99=").append(d.p99) //$NON-NLS-1$
+                    .append(" max=").append(d.max).append('\n'); //$NON-NLS-1$
+        }
+        return text.toString();
+    }
+
+    /**
+     * @return The snapshot as a JSON object holding the
+     *         <code>counters</code>, <code>timers</code> and
+     *         <code>histograms</code> objects, by metric name
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"counters\":{"); //$NON-NLS-1$
+        String separator = ""; //$NON-NLS-1$
+        for (Map.Entry<String, Long> entry : counters.entrySet()) {
+            json.append(separator);
+            appendString(json, entry.getKey());
+            json.append(':').append(entry.getValue());
+            separator = ","; //$NON-NLS-1$
+        }
+        json.append("},\"timers\":{"); //$NON-NLS-1$
+        separator = ""; //$NON-NLS-1$
+        for (Map.Entry<String, Distribution> entry : timers.entrySet()) {
+            Distribution d = entry.getValue();
+            json.append(separator);
+            appendString(json, entry.getKey());
+            json.append(":{\"count\":").append(d.count) //$NON-NLS-1$
+                    .append(",\"totalMs\":").append(millis(d.sum)) //$NON-NLS-1$
+                    .append(",\"meanMs\":").append(millis(d.getMean())) //$NON-NLS-1$
+                    .append(",\"minMs\":").append(millis(d.min)) //$NON-NLS-1$
+                    .append(",\"p50Ms\":").append(millis(d.p50)) //$NON-NLS-1$
+                    .append(",\"p90Ms\":").append(millis(d.p90)) //$NON-NLS-1$
+                    .append(",\"p99Ms\":").append(millis(d.p99)) //$NON-NLS-1$
+                    .append(",\"maxMs\":").append(millis(d.max)).append('}'); //$NON-NLS-1$
+            separator = ","; //$NON-NLS-1$
+        }
+        json.append("},\"histograms\":{"); //$NON-NLS-1$
+        separator = ""; //$NON-NLS-1$
+        for (Map.Entry<String, Distribution> entry : histograms.entrySet()) {
+            Distribution d = entry.getValue();
+            json.append(separator);
+            appendString(json, entry.getKey());
+            json.append(":{\"count\":").append(d.count) //$NON-NLS-1$
+                    .append(",\"sum\":").append(d.sum) //$NON-NLS-1$
+                    .append(",\"mean\":").append(decimal(d.getMean())) //$NON-NLS-1$
+                    .append(",\"min\":").append(d.min) //$NON-NLS-1$
+                    .append(",\"p50\":").append(d.p50) //$NON-NLS-1$
+                    .append(",\"p90\":").append(d.p90) //$NON-NLS-1$
+                    .append(",\"p99\":").append(d.p99) //$NON-NLS-1$
+                    .append(",\"max\":").append(d.max).append('}'); //$NON-NLS-1$
+            separator = ","; //$NON-NLS-1$
+        }
+        json.append("}}"); //$NON-NLS-1$
+        return json.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+
+    private static String millis(double nanos) {
+        return decimal(nanos / NANOS_PER_MILLI);
+    }
+
+    private static String decimal(double value) {
+        return String.format(Locale.ENGLISH, "%.3f", value); //$NON-NLS-1$
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < ' ') {
+                json.append(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * The distribution of the values of a timer or a histogram.
+     */
+    public static final class Distribution {
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+
+        Distribution(long count, long sum, long min, long max, long p50,
+                long p90, long p99) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        public long getMin() {
+            return min;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * @return The estimated median
+         */
+        public long getP50() {
+            return p50;
+        }
+
+        /**
+         * @return The estimated 90th percentile
+         */
+        public long getP90() {
+            return p90;
+        }
+
+        /**
+         * @return The estimated 99th percentile
+         */
+        public long getP99() {
+            return p99;
+        }
+    }
+}
@@ -10,14 +10,11 @@
  *******************************************************************************/
 package org.eclipse.babel.build.core.reports;
 
-import static org.eclipse.babel.build.core.xml.Builder.*;
-import static org.eclipse.babel.build.core.xml.Html.*;
-
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.LinkedList;
 import java.util.List;
 
 import org.eclipse.babel.build.core.Configuration;
@@ -27,125 +24,17 @@ import org.eclipse.babel.build.core.ResourceProxy;
 import org.eclipse.babel.build.core.coverage.LanguagePackCoverageReport;
 import org.eclipse.babel.build.core.coverage.PluginCoverageInformation;
 import org.eclipse.babel.build.core.coverage.ResourceCoverageInformation;
-import org.eclipse.babel.build.core.xml.Element;
+import org.eclipse.babel.build.core.xml.ElementWriter;
+import org.eclipse.babel.build.core.xml.Html;
 import org.eclipse.babel.build.core.xml.XmlWriter;
-import org.eclipse.babel.build.core.xml.Builder.ToNode;
+import org.xml.sax.SAXException;
 
+/**
+ * Renders the coverage of a language pack as an HTML page. The page is
+ * streamed while iterating over the coverage, so that the report of a large
+ * Eclipse install is never held in memory as a whole.
+ */
 public class HtmlCoverageReport implements CoverageReport {
-    public class RollUpForLocale implements ToNode<LocaleProxy> {
-
-        private final PluginCoverageInformation info;
-        private final PluginProxy plugin;
-
-        public RollUpForLocale(PluginCoverageInformation info) {
-            this.info = info;
-            this.plugin = info.getEclipseArchivePlugin();
-        }
-
-        public Element toNode(LocaleProxy t) {
-            int min = Integer.MAX_VALUE;
-
-            for (ResourceProxy resource : plugin.getResources()) {
-                boolean matched = resourceMatched(info, resource);
-                boolean included = config.includeResource(plugin, resource);
-                int score = CoverageReport.utils.calculateCoverageScore(t,
-                        resource, info);
-
-                if (matched && included && score < min) {
-                    min = score;
-                }
-            }
-
-            return td("" + min).attribute("class", "" + completeness(min));
-        }
-
-    }
-
-    public class PluginSummaryRow implements ToNode<PluginCoverageInformation> {
-        public Element toNode(PluginCoverageInformation info) {
-            PluginProxy plugin = info.getEclipseArchivePlugin();
-
-            if (!hasMatchedResources(info)) {
-                return Element.utils.EMPTY_ELEMENT;
-            }
-
-            return tr(td(a("#" + plugin.getName(), plugin.getName()))
-                    .attribute("class", "first"),
-                    sequence(locales, new RollUpForLocale(info)));
-        }
-    }
-
-    public class UnmatchedResource implements ToNode<ResourceProxy> {
-        private PluginProxy plugin;
-        private final PluginCoverageInformation info;
-
-        public UnmatchedResource(PluginCoverageInformation info) {
-            this.info = info;
-            this.plugin = info.getEclipseArchivePlugin();
-        }
-
-        public Element toNode(ResourceProxy resource) {
-            boolean matched = resourceMatched(info, resource);
-            boolean included = config.includeResource(plugin, resource);
-
-            if (matched || !included) {
-                return Element.utils.EMPTY_ELEMENT;
-            }
-
-            return li(resource.getRelativePath());
-        }
-
-    }
-
-    public class UnmatchedResourceList implements
-            ToNode<PluginCoverageInformation> {
-
-        public Element toNode(PluginCoverageInformation info) {
-            PluginProxy plugin = info.getEclipseArchivePlugin();
-
-            if (hasMatchedResources(info)) {
-                return Element.utils.EMPTY_ELEMENT;
-            }
-
-            return nodes(
-                    h2(plugin.getName()),
-                    ul(sequence(plugin.getResources(), new UnmatchedResource(
-                            info))));
-        }
-
-    }
-
-    private final class ResourceCoverageRow implements ToNode<ResourceProxy> {
-        private final PluginCoverageInformation info;
-        private final PluginProxy plugin;
-
-        private ResourceCoverageRow(PluginCoverageInformation info) {
-            this.info = info;
-            plugin = info.getEclipseArchivePlugin();
-        }
-
-        public Element toNode(final ResourceProxy resource) {
-            if (!config.includeResource(plugin, resource)) {
-                return Element.utils.EMPTY_ELEMENT;
-            }
-
-            if (!resourceMatched(info, resource)) {
-                return Element.utils.EMPTY_ELEMENT;
-            }
-
-            return tr(td(resource.getRelativePath())
-                    .attribute("class", "first"),
-                    sequence(locales, new ToNode<LocaleProxy>() {
-                        public Element toNode(LocaleProxy locale) {
-                            int score = CoverageReport.utils
-                                    .calculateCoverageScore(locale, resource,
-                                            info);
-                            return td("" + score).attribute("class",
-                                    completeness(score));
-                        }
-                    }));
-        }
-    }
 
     private static String completeness(int score) {
         if (score < 25) {
@@ -163,29 +52,6 @@ public class HtmlCoverageReport implements CoverageReport {
         return "complete";
     }
 
-    private final class MatchedPluginCoverageTable implements
-            ToNode<PluginCoverageInformation> {
-        public Element toNode(final PluginCoverageInformation info) {
-            if (!hasMatchedResources(info)) {
-                return Element.utils.EMPTY_ELEMENT;
-            }
-
-            PluginProxy plugin = info.getEclipseArchivePlugin();
-            String name = plugin.getName();
-            return nodes(
-                    h2(a("#" + name, name).attribute("name", name).attribute(
-                            "class", "target")),
-                    table(tr(th("Resource").attribute("class", "first"),
-                            sequence(locales, new ToNode<LocaleProxy>() {
-                                public Element toNode(LocaleProxy t) {
-                                    return th(t.getName());
-                                }
-                            })),
-                            sequence(plugin.getResources(),
-                                    new ResourceCoverageRow(info))));
-        }
-    }
-
     private static final String TITLE = "Language Pack Coverage Report";
     private final LanguagePackCoverageReport coverage;
     private final Configuration config;
@@ -237,59 +103,154 @@ public class HtmlCoverageReport implements CoverageReport {
     private static final int HEADER_WIDTH = 30;
     private static final int CELL_WIDTH = 4;
 
-    public Element build() {
-        return html(
-                head(title(TITLE),
-                        style("tr, th, td, table { border: 1px solid; }\n"
-                                + ".missing { background-color: #FFBFBF; }\n"
-                                + ".incomplete { background-color: #FFE6BF; }\n"
-                                + ".almost-complete { background-color: #FFFFBF; }\n"
-                                + ".complete { background-color: #BFFFBF; }\n"
-                                + "a.target { color: black; }\n"
-                                + String.format(".first { width: %dem; }\n",
-                                        HEADER_WIDTH)
-                                + String.format("th, td { width: %dem; }\n",
-                                        CELL_WIDTH)
-                                + String.format(
-                                        "table { table-layout: fixed; width: %dem; }",
-                                        HEADER_WIDTH + locales.size()
-                                                * CELL_WIDTH))),
-                body(h1(TITLE),
-                        h2("Plugin Coverage Summary Table"),
-                        table(tr(th("Plugin Name").attribute("class", "first"),
-                                sequence(locales, new ToNode<LocaleProxy>() {
-                                    public Element toNode(LocaleProxy t) {
-                                        return th(t.getName());
-                                    }
-                                })),
-                                sequence(
-                                        sorted(coverage
-                                                .getPluginCoverageReports(),
-                                                PluginCoverageInformation.NAME_COMPARATOR),
-                                        new PluginSummaryRow())),
-
-                        sequence(
-                                sorted(coverage.getPluginCoverageReports(),
-                                        PluginCoverageInformation.NAME_COMPARATOR),
-                                new MatchedPluginCoverageTable()),
-                        unmatchedResources()));
+    private String style() {
+        return "tr, th, td, table { border: 1px solid; }\n"
+                + ".missing { background-color: #FFBFBF; }\n"
+                + ".incomplete { background-color: #FFE6BF; }\n"
+                + ".almost-complete { background-color: #FFFFBF; }\n"
+                + ".complete { background-color: #BFFFBF; }\n"
+                + "a.target { color: black; }\n"
+                + String.format(".first { width: %dem; }\n", HEADER_WIDTH)
+                + String.format("th, td { width: %dem; }\n", CELL_WIDTH)
+                + String.format("table { table-layout: fixed; width: %dem; }",
+                        HEADER_WIDTH + locales.size() * CELL_WIDTH);
     }
 
-    private Element unmatchedResources() {
-        if (!config.longReport()) {
-            return Element.utils.EMPTY_ELEMENT;
+    public void render(OutputStream stream) throws Exception {
+        List<PluginCoverageInformation> matched = new ArrayList<PluginCoverageInformation>();
+        List<PluginCoverageInformation> unmatched = new ArrayList<PluginCoverageInformation>();
+        for (PluginCoverageInformation info : sorted(
+                coverage.getPluginCoverageReports(),
+                PluginCoverageInformation.NAME_COMPARATOR)) {
+            if (hasMatchedResources(info)) {
+                matched.add(info);
+            } else {
+                unmatched.add(info);
+            }
+        }
+
+        ElementWriter out = new ElementWriter(new XmlWriter(stream), Html.NS);
+        out.startDocument();
+        out.start("html", "xmlns", Html.NS);
+        out.start("head");
+        out.element("title", TITLE);
+        out.element("style", style(), "type", "text/css");
+        out.end();
+
+        out.start("body");
+        out.element("h1", TITLE);
+        out.element("h2", "Plugin Coverage Summary Table");
+        out.start("table");
+        writeHeaderRow(out, "Plugin Name");
+        for (PluginCoverageInformation info : matched) {
+            writeSummaryRow(out, info);
+        }
+        out.end();
+
+        for (PluginCoverageInformation info : matched) {
+            writeCoverageTable(out, info);
         }
 
-        return nodes(
-                h1("Unmatched Resources"),
-                sequence(
-                        sorted(coverage.getPluginCoverageReports(),
-                                PluginCoverageInformation.NAME_COMPARATOR),
-                        new UnmatchedResourceList()));
+        if (config.longReport()) {
+            out.element("h1", "Unmatched Resources");
+            for (PluginCoverageInformation info : unmatched) {
+                writeUnmatchedResources(out, info);
+            }
+        }
+        out.endDocument();
+    }
+
+    private void writeHeaderRow(ElementWriter out, String title)
+            throws SAXException {
+        out.start("tr");
+        out.element("th", title, "class", "first");
+        for (LocaleProxy locale : locales) {
+            out.element("th", locale.getName());
+        }
+        out.end();
+    }
+
+    /*
+     * The lowest coverage of the matched resources of the plugin, per locale
+     */
+    private void writeSummaryRow(ElementWriter out,
+            PluginCoverageInformation info) throws SAXException {
+        PluginProxy plugin = info.getEclipseArchivePlugin();
+
+        out.start("tr");
+        out.start("td", "class", "first");
+        out.element("a", plugin.getName(), "href", "#" + plugin.getName());
+        out.end();
+        for (LocaleProxy locale : locales) {
+            int min = Integer.MAX_VALUE;
+
+            for (ResourceProxy resource : plugin.getResources()) {
+                boolean matched = resourceMatched(info, resource);
+                boolean included = config.includeResource(plugin, resource);
+                int score = CoverageReport.utils.calculateCoverageScore(
+                        locale, resource, info);
+
+                if (matched && included && score < min) {
+                    min = score;
+                }
+            }
+
+            out.element("td", "" + min, "class", completeness(min));
+        }
+        out.end();
+    }
+
+    private void writeCoverageTable(ElementWriter out,
+            PluginCoverageInformation info) throws SAXException {
+        PluginProxy plugin = info.getEclipseArchivePlugin();
+        String name = plugin.getName();
+
+        out.start("h2");
+        out.element("a", name, "href", "#" + name, "name", name, "class",
+                "target");
+        out.end();
+        out.start("table");
+        writeHeaderRow(out, "Resource");
+        for (ResourceProxy resource : plugin.getResources()) {
+            if (!config.includeResource(plugin, resource)) {
+                continue;
+            }
+
+            if (!resourceMatched(info, resource)) {
+                continue;
+            }
+
+            out.start("tr");
+            out.element("td", resource.getRelativePath(), "class", "first");
+            for (LocaleProxy locale : locales) {
+                int score = CoverageReport.utils.calculateCoverageScore(
+                        locale, resource, info);
+                out.element("td", "" + score, "class", completeness(score));
+            }
+            out.end();
+        }
+        out.end();
+    }
+
+    private void writeUnmatchedResources(ElementWriter out,
+            PluginCoverageInformation info) throws SAXException {
+        PluginProxy plugin = info.getEclipseArchivePlugin();
+
+        out.element("h2", plugin.getName());
+        out.start("ul");
+        for (ResourceProxy resource : plugin.getResources()) {
+            boolean matched = resourceMatched(info, resource);
+            boolean included = config.includeResource(plugin, resource);
+
+            if (!matched && included) {
+                out.element("li", resource.getRelativePath());
+            }
+        }
+        out.end();
     }
 
     private static <T> List<T> sorted(Iterable<T> ts, Comparator<T> cmp) {
-        List<T> list = new LinkedList<T>();
+        List<T> list = new ArrayList<T>();
         for (T t : ts) {
             list.add(t);
         }
@@ -297,8 +258,4 @@ public class HtmlCoverageReport implements CoverageReport {
         Collections.sort(list, cmp);
         return list;
     }
-
-    public void render(OutputStream stream) throws Exception {
-        build().render(new XmlWriter(stream));
-    }
 }
@@ -69,5 +69,6 @@ public class TextCoverageReport implements CoverageReport {
                 }
             }
         }
+        writer.flush();
     }
 }
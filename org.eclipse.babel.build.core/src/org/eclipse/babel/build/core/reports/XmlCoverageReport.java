@@ -13,17 +13,6 @@
  */
 package org.eclipse.babel.build.core.reports;
 
-import static org.eclipse.babel.build.core.xml.Builder.sequence;
-import static org.eclipse.babel.build.core.xml.Coverage.archive;
-import static org.eclipse.babel.build.core.xml.Coverage.coverage;
-import static org.eclipse.babel.build.core.xml.Coverage.locale;
-import static org.eclipse.babel.build.core.xml.Coverage.locales;
-import static org.eclipse.babel.build.core.xml.Coverage.output;
-import static org.eclipse.babel.build.core.xml.Coverage.plugin;
-import static org.eclipse.babel.build.core.xml.Coverage.plugins;
-import static org.eclipse.babel.build.core.xml.Coverage.resource;
-import static org.eclipse.babel.build.core.xml.Coverage.translations;
-
 import java.io.OutputStream;
 import java.util.Date;
 
@@ -33,43 +22,16 @@ import org.eclipse.babel.build.core.PluginProxy;
 import org.eclipse.babel.build.core.ResourceProxy;
 import org.eclipse.babel.build.core.coverage.LanguagePackCoverageReport;
 import org.eclipse.babel.build.core.coverage.PluginCoverageInformation;
-import org.eclipse.babel.build.core.xml.Element;
+import org.eclipse.babel.build.core.xml.ElementWriter;
 import org.eclipse.babel.build.core.xml.XmlWriter;
-import org.eclipse.babel.build.core.xml.Builder.ToNode;
+import org.xml.sax.SAXException;
 
+/**
+ * Renders the coverage of a language pack as an XML document conforming to
+ * coverage.xsd. The document is streamed while iterating over the coverage,
+ * one plugin at a time.
+ */
 public class XmlCoverageReport implements CoverageReport {
-    public class ResourceToNode implements ToNode<ResourceProxy> {
-
-        private final PluginCoverageInformation info;
-        private final PluginProxy plugin;
-
-        public ResourceToNode(PluginCoverageInformation info) {
-            this.info = info;
-            plugin = info.getEclipseArchivePlugin();
-        }
-
-        public Element toNode(final ResourceProxy resource) {
-            if (!config.includeResource(plugin, resource)) {
-                return resource(resource.getRelativePath(), true);
-            }
-
-            return resource(resource.getRelativePath(),
-                    sequence(config.locales(), new ToNode<LocaleProxy>() {
-                        public Element toNode(LocaleProxy locale) {
-                            int score = CoverageReport.utils
-                                    .calculateCoverageScore(locale, resource,
-                                            info);
-                            return locale(locale.getName(), score);
-                        }
-                    }));
-        }
-    }
-
-    public static class LocaleToNode implements ToNode<LocaleProxy> {
-        public Element toNode(LocaleProxy locale) {
-            return locale(locale.getName());
-        }
-    }
 
     private final Configuration config;
     private final LanguagePackCoverageReport coverage;
@@ -80,30 +42,57 @@ public class XmlCoverageReport implements CoverageReport {
         this.coverage = coverage;
     }
 
-    public Element build() {
-        return coverage(
+    public void render(OutputStream stream) throws Exception {
+        ElementWriter out = new ElementWriter(new XmlWriter(stream));
+        out.startDocument();
+        out.start("coverage", "timestamp",
                 config.timestamp() == null ? new Date().toString() : config
-                        .timestamp().toString(),
-                archive(config.eclipseInstall().getLocation().getAbsolutePath()),
-                translations(config.translations().getRootDirectory()
-                        .getAbsolutePath()),
-                output(config.workingDirectory().getAbsolutePath()),
-                locales(sequence(config.locales(), new LocaleToNode())),
-                plugins(sequence(coverage.getPluginCoverageReports(),
-                        new PluginToNode())));
-    }
-
-    private class PluginToNode implements ToNode<PluginCoverageInformation> {
-
-        public Element toNode(PluginCoverageInformation info) {
-            PluginProxy plugin = info.getEclipseArchivePlugin();
-            return plugin(plugin.getName(), plugin.getVersion(),
-                    sequence(plugin.getResources(), new ResourceToNode(info)));
+                        .timestamp().toString());
+        out.empty("archive", "location", config.eclipseInstall()
+                .getLocation().getAbsolutePath());
+        out.empty("translations", "location", config.translations()
+                .getRootDirectory().getAbsolutePath());
+        out.empty("output", "location", config.workingDirectory()
+                .getAbsolutePath());
+
+        out.start("locales");
+        for (LocaleProxy locale : config.locales()) {
+            out.empty("locale", "name", locale.getName());
         }
+        out.end();
 
+        out.start("plugins");
+        for (PluginCoverageInformation info : coverage
+                .getPluginCoverageReports()) {
+            writePlugin(out, info);
+        }
+        out.end();
+        out.endDocument();
     }
 
-    public void render(OutputStream stream) throws Exception {
-        build().render(new XmlWriter(stream));
+    private void writePlugin(ElementWriter out, PluginCoverageInformation info)
+            throws SAXException {
+        PluginProxy plugin = info.getEclipseArchivePlugin();
+
+        out.start("plugin", "name", plugin.getName(), "version",
+                plugin.getVersion());
+        for (ResourceProxy resource : plugin.getResources()) {
+            if (!config.includeResource(plugin, resource)) {
+                out.empty("resource", "location", resource.getRelativePath(),
+                        "excluded", "true");
+                continue;
+            }
+
+            out.start("resource", "location", resource.getRelativePath(),
+                    "excluded", "false");
+            for (LocaleProxy locale : config.locales()) {
+                int score = CoverageReport.utils.calculateCoverageScore(
+                        locale, resource, info);
+                out.empty("locale", "name", locale.getName(), "coverage", ""
+                        + score);
+            }
+            out.end();
+        }
+        out.end();
     }
-}
\ No newline at end of file
+}
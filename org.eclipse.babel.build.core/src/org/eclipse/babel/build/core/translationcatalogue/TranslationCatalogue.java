@@ -98,14 +98,8 @@ public class TranslationCatalogue {
     public ResourceProxy getResourceTranslation(
             PluginProxy translationCataloguePlugin,
             ResourceProxy eclipseInstallPluginResource) {
-        for (ResourceProxy candidateTranslatedResource : translationCataloguePlugin
-                .getResources()) {
-            if (candidateTranslatedResource.getRelativePath().equalsIgnoreCase(
-                    eclipseInstallPluginResource.getRelativePath())) {
-                return candidateTranslatedResource;
-            }
-        }
-        return null;
+        return translationCataloguePlugin
+                .getResource(eclipseInstallPluginResource.getRelativePath());
     }
 
     public Set<LocaleProxy> getAllLocales() {
@@ -30,6 +30,8 @@ public class TranslationCatalogueBulkParser implements
 
     private File rootDirectory;
     private Set<LocaleGroup> specifiedGroups;
+    /** Locale folders of the included groups, listed once. */
+    private List<File> localeDirectories;
 
     public TranslationCatalogueBulkParser(File rootDirectory,
             Set<LocaleGroup> specifiedGroups) {
@@ -47,29 +49,18 @@ public class TranslationCatalogueBulkParser implements
             PluginProxy eclipseInstallPlugin) {
         Map<String, PluginProxy> plugins = new HashMap<String, PluginProxy>();
 
-        for (File subDir : rootDirectory.listFiles()) {
-            if (LocaleGroup.isValidGroupName(subDir.getName())
-                    && isIncludedGroup(subDir.getName())) {
+        for (File localeDir : getLocaleDirectories()) {
+            File pluginsRoot = new File(localeDir.getAbsolutePath()
+                    + File.separatorChar + PLUGINS_PATH);
 
-                for (File localeDir : subDir.listFiles()) {
+            File pluginFile = new File(pluginsRoot.getAbsolutePath()
+                    + File.separator + eclipseInstallPlugin.getName());
 
-                    String group = subDir.getName();
-
-                    File pluginsRoot = new File(rootDirectory.getAbsolutePath()
-                            + File.separatorChar + group + File.separatorChar
-                            + localeDir.getName() + File.separatorChar
-                            + PLUGINS_PATH);
-
-                    File pluginFile = new File(pluginsRoot.getAbsolutePath()
-                            + File.separator + eclipseInstallPlugin.getName());
-
-                    if (pluginFile.exists()) {
-                        List<ResourceProxy> pluginResources = extractResources(
-                                pluginFile, pluginFile.getName());
-                        plugins.put(localeDir.getName(), new PluginProxy(
-                                pluginFile, pluginResources, false, false));
-                    }
-                }
+            if (pluginFile.exists()) {
+                List<ResourceProxy> pluginResources = extractResources(
+                        pluginFile, pluginFile.getName());
+                plugins.put(localeDir.getName(), new PluginProxy(pluginFile,
+                        pluginResources, false, false));
             }
         }
 
@@ -86,34 +77,40 @@ public class TranslationCatalogueBulkParser implements
             PluginProxy eclipseInstallFeature) {
         Map<String, PluginProxy> features = new HashMap<String, PluginProxy>();
 
-        for (File subDir : rootDirectory.listFiles()) {
-            if (LocaleGroup.isValidGroupName(subDir.getName())
-                    && isIncludedGroup(subDir.getName())) {
-
-                for (File localeDir : subDir.listFiles()) {
+        for (File localeDir : getLocaleDirectories()) {
+            File featuresRoot = new File(localeDir.getAbsolutePath()
+                    + File.separatorChar + FEATURES_PATH);
 
-                    String group = subDir.getName();
+            File featureFile = new File(featuresRoot.getAbsolutePath()
+                    + File.separator + eclipseInstallFeature.getName());
 
-                    File featuresRoot = new File(
-                            rootDirectory.getAbsolutePath()
-                                    + File.separatorChar + group
-                                    + File.separatorChar + localeDir.getName()
-                                    + File.separatorChar + FEATURES_PATH);
+            if (featureFile.exists()) {
+                List<ResourceProxy> featureResources = extractResources(
+                        featureFile, featureFile.getName());
+                features.put(localeDir.getName(), new PluginProxy(featureFile,
+                        featureResources, false, false));
+            }
+        }
 
-                    File featureFile = new File(featuresRoot.getAbsolutePath()
-                            + File.separator + eclipseInstallFeature.getName());
+        return features;
+    }
 
-                    if (featureFile.exists()) {
-                        List<ResourceProxy> featureResources = extractResources(
-                                featureFile, featureFile.getName());
-                        features.put(localeDir.getName(), new PluginProxy(
-                                featureFile, featureResources, false, false));
+    /**
+     * @return The locale folders of all included groups.
+     */
+    private synchronized List<File> getLocaleDirectories() {
+        if (localeDirectories == null) {
+            localeDirectories = new LinkedList<File>();
+            for (File subDir : rootDirectory.listFiles()) {
+                if (LocaleGroup.isValidGroupName(subDir.getName())
+                        && isIncludedGroup(subDir.getName())) {
+                    for (File localeDir : subDir.listFiles()) {
+                        localeDirectories.add(localeDir);
                     }
                 }
             }
         }
-
-        return features;
+        return localeDirectories;
     }
 
     private List<ResourceProxy> extractResources(File file, String pluginName) {
@@ -11,10 +11,12 @@
 package org.eclipse.babel.build.core.translationcatalogue;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,6 +31,8 @@ public class TranslationCatalogueSimpleParser implements
 
     private File rootDirectory;
     private Set<LocaleProxy> locales;
+    /** Locale folders of the catalogue by lower case name, listed once. */
+    private Map<String, List<File>> localeDirectories;
 
     public TranslationCatalogueSimpleParser(File rootDirectory,
             Set<LocaleProxy> locales) {
@@ -89,22 +93,19 @@ public class TranslationCatalogueSimpleParser implements
     private PluginProxy getPluginForLocale(LocaleProxy locale,
             PluginProxy eclipseInstallPlugin) {
 
-        for (File localeDir : rootDirectory.listFiles()) {
-            if (localeDir.getName().equalsIgnoreCase(locale.getName())) {
-
-                File pluginsRoot = new File(rootDirectory.getAbsolutePath()
-                        + File.separatorChar + localeDir.getName()
-                        + File.separatorChar + PLUGINS_PATH);
+        for (File localeDir : getLocaleDirectories(locale)) {
+            File pluginsRoot = new File(rootDirectory.getAbsolutePath()
+                    + File.separatorChar + localeDir.getName()
+                    + File.separatorChar + PLUGINS_PATH);
 
-                File pluginFile = new File(pluginsRoot.getAbsolutePath()
-                        + File.separator + eclipseInstallPlugin.getName());
+            File pluginFile = new File(pluginsRoot.getAbsolutePath()
+                    + File.separator + eclipseInstallPlugin.getName());
 
-                if (pluginFile.exists()) {
-                    List<ResourceProxy> pluginResources = extractResources(
-                            pluginFile, pluginFile.getName());
-                    return new PluginProxy(pluginFile, pluginResources, false,
-                            false);
-                }
+            if (pluginFile.exists()) {
+                List<ResourceProxy> pluginResources = extractResources(
+                        pluginFile, pluginFile.getName());
+                return new PluginProxy(pluginFile, pluginResources, false,
+                        false);
             }
         }
 
@@ -123,22 +124,19 @@ public class TranslationCatalogueSimpleParser implements
     private PluginProxy getFeatureForLocale(LocaleProxy locale,
             PluginProxy eclipseInstallFeature) {
 
-        for (File localeDir : rootDirectory.listFiles()) {
-            if (localeDir.getName().equalsIgnoreCase(locale.getName())) {
+        for (File localeDir : getLocaleDirectories(locale)) {
+            File featuresRoot = new File(rootDirectory.getAbsolutePath()
+                    + File.separatorChar + localeDir.getName()
+                    + File.separatorChar + FEATURES_PATH);
 
-                File featuresRoot = new File(rootDirectory.getAbsolutePath()
-                        + File.separatorChar + localeDir.getName()
-                        + File.separatorChar + FEATURES_PATH);
+            File featureFile = new File(featuresRoot.getAbsolutePath()
+                    + File.separator + eclipseInstallFeature.getName());
 
-                File featureFile = new File(featuresRoot.getAbsolutePath()
-                        + File.separator + eclipseInstallFeature.getName());
-
-                if (featureFile.exists()) {
-                    List<ResourceProxy> featureResources = extractResources(
-                            featureFile, featureFile.getName());
-                    return new PluginProxy(featureFile, featureResources,
-                            false, false);
-                }
+            if (featureFile.exists()) {
+                List<ResourceProxy> featureResources = extractResources(
+                        featureFile, featureFile.getName());
+                return new PluginProxy(featureFile, featureResources,
+                        false, false);
             }
         }
 
@@ -148,14 +146,33 @@ public class TranslationCatalogueSimpleParser implements
     public ResourceProxy getResourceTranslation(
             PluginProxy translationCataloguePlugin,
             ResourceProxy eclipseInstallPluginResource) {
-        for (ResourceProxy candidateTranslatedResource : translationCataloguePlugin
-                .getResources()) {
-            if (candidateTranslatedResource.getRelativePath().equalsIgnoreCase(
-                    eclipseInstallPluginResource.getRelativePath())) {
-                return candidateTranslatedResource;
+        return translationCataloguePlugin
+                .getResource(eclipseInstallPluginResource.getRelativePath());
+    }
+
+    /**
+     * @param locale
+     * @return The folders of the catalogue matching the locale, ignoring case.
+     */
+    private synchronized List<File> getLocaleDirectories(LocaleProxy locale) {
+        if (localeDirectories == null) {
+            localeDirectories = new HashMap<String, List<File>>();
+            for (File localeDir : rootDirectory.listFiles()) {
+                String name = localeDir.getName().toLowerCase(Locale.ENGLISH);
+                List<File> directories = localeDirectories.get(name);
+                if (directories == null) {
+                    directories = new LinkedList<File>();
+                    localeDirectories.put(name, directories);
+                }
+                directories.add(localeDir);
             }
         }
-        return null;
+        List<File> directories = localeDirectories.get(locale.getName()
+                .toLowerCase(Locale.ENGLISH));
+        if (directories == null) {
+            return Collections.emptyList();
+        }
+        return directories;
     }
 
     private List<ResourceProxy> extractResources(File file, String pluginName) {
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2001, 2009 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.build.core.xml;
+
+import java.util.LinkedList;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * Streams elements as SAX events to a ContentHandler as soon as they are
+ * written. Unlike the {@link org.eclipse.babel.build.core.xml.Builder} no
+ * document tree is held in memory, which makes it suited to large documents
+ * such as coverage reports.
+ *
+ * For example:
+ *
+ * <pre>
+ * ElementWriter out = new ElementWriter(new XmlWriter(System.out));
+ * out.startDocument();
+ * out.start(&quot;contacts&quot;);
+ * out.element(&quot;description&quot;, &quot;People that I know&quot;);
+ * out.start(&quot;people&quot;);
+ * out.empty(&quot;person&quot;, &quot;name&quot;, &quot;Alice&quot;);
+ * out.empty(&quot;person&quot;, &quot;name&quot;, &quot;Bob&quot;);
+ * out.end();
+ * out.end();
+ * out.endDocument();
+ * </pre>
+ *
+ * Attributes are given as name, value pairs.
+ */
+public class ElementWriter {
+    private final ContentHandler handler;
+    private final String namespace;
+    private final LinkedList<String> open = new LinkedList<String>();
+    private final AttributesImpl attrs = new AttributesImpl();
+
+    /**
+     * Creates a writer of elements in a namespace.
+     *
+     * @param handler
+     *            The handler to send the SAX events to.
+     * @param namespace
+     *            The namespace of the written elements.
+     */
+    public ElementWriter(ContentHandler handler, String namespace) {
+        this.handler = handler;
+        this.namespace = namespace;
+    }
+
+    /**
+     * Creates a writer of elements in the default namespace.
+     *
+     * @param handler
+     *            The handler to send the SAX events to.
+     */
+    public ElementWriter(ContentHandler handler) {
+        this(handler, "");
+    }
+
+    public void startDocument() throws SAXException {
+        handler.startDocument();
+    }
+
+    /**
+     * Ends the document, ending the elements still open.
+     */
+    public void endDocument() throws SAXException {
+        while (!open.isEmpty()) {
+            end();
+        }
+        handler.endDocument();
+    }
+
+    /**
+     * Starts an element, its children are written until the matching
+     * {@link #end()}.
+     *
+     * @param tag
+     *            The local name of the element.
+     * @param attributes
+     *            The names and values of the attributes of the element.
+     * @return This writer.
+     */
+    public ElementWriter start(String tag, String... attributes)
+            throws SAXException {
+        attrs.clear();
+        for (int i = 0; i + 1 < attributes.length; i += 2) {
+            attrs.addAttribute(null, null, attributes[i], "string",
+                    attributes[i + 1]);
+        }
+
+        handler.startElement(namespace, tag, null, attrs);
+        open.addFirst(tag);
+        return this;
+    }
+
+    /**
+     * Ends the element started last.
+     *
+     * @return This writer.
+     */
+    public ElementWriter end() throws SAXException {
+        handler.endElement(namespace, open.removeFirst(), null);
+        return this;
+    }
+
+    /**
+     * Writes a text node.
+     *
+     * @param text
+     *            The text to be contained within the text node.
+     * @return This writer.
+     */
+    public ElementWriter text(String text) throws SAXException {
+        char[] ch = text.toCharArray();
+        handler.characters(ch, 0, ch.length);
+        return this;
+    }
+
+    /**
+     * Writes an element holding a text node.
+     *
+     * @param tag
+     *            The local name of the element.
+     * @param text
+     *            The text contained within the element.
+     * @param attributes
+     *            The names and values of the attributes of the element.
+     * @return This writer.
+     */
+    public ElementWriter element(String tag, String text, String... attributes)
+            throws SAXException {
+        return start(tag, attributes).text(text).end();
+    }
+
+    /**
+     * Writes an element without children.
+     *
+     * @param tag
+     *            The local name of the element.
+     * @param attributes
+     *            The names and values of the attributes of the element.
+     * @return This writer.
+     */
+    public ElementWriter empty(String tag, String... attributes)
+            throws SAXException {
+        return start(tag, attributes).end();
+    }
+}
@@ -14,9 +14,6 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Writer;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.xml.sax.Attributes;
 import org.xml.sax.ContentHandler;
@@ -48,7 +45,9 @@ public class XmlWriter implements ContentHandler {
 
     public void characters(char[] ch, int start, int length)
             throws SAXException {
-        out.write(ch, start, length);
+        for (int i = start; i < start + length; i++) {
+            escape(ch[i]);
+        }
     }
 
     public void endDocument() throws SAXException {
@@ -57,7 +56,9 @@ public class XmlWriter implements ContentHandler {
 
     public void endElement(String uri, String localName, String name)
             throws SAXException {
-        out.format("</%s>\n", localName);
+        out.print("</");
+        out.print(localName);
+        out.print(">\n");
     }
 
     public void endPrefixMapping(String prefix) throws SAXException {
@@ -88,32 +89,19 @@ public class XmlWriter implements ContentHandler {
 
     public void startElement(String uri, String localName, String name,
             Attributes atts) throws SAXException {
-        List<String> attrs = new LinkedList<String>();
-        int len = atts.getLength();
-
-        if (len > 0) {
-            attrs.add("");
-        }
-        for (int i = 0; i < len; i++) {
-            attrs.add(String.format("%s=\"%s\"", atts.getQName(i),
-                    atts.getValue(i)));
-        }
-
-        out.format("<%s%s>", localName, join(" ", attrs));
-    }
-
-    private <T> String join(String seperator, Iterable<T> parts) {
-        StringBuilder builder = new StringBuilder("");
-        for (Iterator<T> it = parts.iterator(); it.hasNext();) {
-            T part = it.next();
-
-            builder.append(part.toString());
-            if (it.hasNext()) {
-                builder.append(seperator);
+        out.print('<');
+        out.print(localName);
+        for (int i = 0; i < atts.getLength(); i++) {
+            out.print(' ');
+            out.print(atts.getQName(i));
+            out.print("=\"");
+            String value = atts.getValue(i);
+            for (int j = 0; j < value.length(); j++) {
+                escape(value.charAt(j));
             }
+            out.print('"');
         }
-
-        return builder.toString();
+        out.print('>');
     }
 
     public void startPrefixMapping(String prefix, String uri)
@@ -121,4 +109,27 @@ public class XmlWriter implements ContentHandler {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Writes a character of a text node or attribute value, escaping the
+     * characters with a meaning in markup.
+     */
+    private void escape(char c) {
+        switch (c) {
+        case '<':
+            out.print("&lt;");
+            break;
+        case '>':
+            out.print("&gt;");
+            break;
+        case '&':
+            out.print("&amp;");
+            break;
+        case '"':
+            out.print("&quot;");
+            break;
+        default:
+            out.print(c);
+        }
+    }
+
 }
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.build.core.audit;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import junit.framework.TestCase;
+
+import org.eclipse.babel.build.core.audit.BundleAudit.BundleResult;
+
+public class BundleAuditTest extends TestCase {
+
+    private File root;
+
+    @Override
+    protected void setUp() throws Exception {
+        root = File.createTempFile("audit", "");
+        assertTrue(root.delete() && root.mkdir());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        delete(root);
+    }
+
+    public void testGrouping() throws Exception {
+        write("messages.properties", "a=A\n");
+        write("messages_fr.properties", "a=A fr\n");
+        write("messages_fr_CA.properties", "a=A ca\n");
+        write("pkg/messages_de.properties", "a=A de\n");
+        write("pkg/other.properties", "b=B\n");
+        write("pkg/notes.txt", "c=C\n");
+        write(".hidden/messages.properties", "d=D\n");
+
+        List<BundleResult> results = audit(EnumSet.noneOf(AuditCheck.class));
+        assertEquals(3, results.size());
+        assertEquals("messages.properties", results.get(0).getName());
+        assertEquals(3, results.get(0).getLocales().length);
+        // named after the file of the root locale, even if there is none
+        assertEquals("pkg/messages.properties", results.get(1).getName());
+        assertEquals(1, results.get(1).getLocales().length);
+        assertEquals("pkg/other.properties", results.get(2).getName());
+        assertEquals(Arrays.asList("b"), Arrays.asList(results.get(2)
+                .getKeys()));
+        for (BundleResult result : results) {
+            assertTrue(result.getProblems().isEmpty());
+        }
+    }
+
+    public void testChecks() throws Exception {
+        write("messages.properties", "save=Save file\n"
+                + "store=Save file\n" + "saveAll=Save files\n"
+                + "quit=Quit\n" + "empty=\n");
+        write("messages_fr.properties", "save=Enregistrer\n"
+                + "store=Enregistrer\n" + "quit=Quitter\n" + "empty=\n");
+
+        List<BundleResult> results = audit(EnumSet.of(AuditCheck.MISSING,
+                AuditCheck.DUPLICATE, AuditCheck.SIMILAR));
+        assertEquals(1, results.size());
+        // duplicates are only reported in the root locale, empty values only
+        // as missing
+        assertEquals(Arrays.asList("duplicate save  store",
+                "duplicate store  save", "missing empty ",
+                "missing empty fr", "missing saveAll fr",
+                "similar save  saveAll", "similar saveAll  save store",
+                "similar store  saveAll"), problems(results.get(0)));
+    }
+
+    public void testUnused() throws Exception {
+        write("messages.properties", "literal=L\n" + "qualified=Q\n"
+                + "manifest=M\n" + "commented=C\n" + "unqualified=U\n"
+                + "variable=V\n");
+        write("src/Foo.java", "class Foo {\n"
+                + "    String s = \"literal\";\n"
+                + "    String t = Messages . qualified;\n"
+                + "    // Messages.commented\n"
+                + "    String u = unqualified;\n"
+                + "    String v = messages.variable;\n" + "}\n");
+        write("src/plugin.xml", "<plugin name=\"%manifest\"/>\n");
+
+        List<BundleResult> results = audit(EnumSet.of(AuditCheck.UNUSED));
+        assertEquals(Arrays.asList("unused commented ",
+                "unused unqualified ", "unused variable "),
+                problems(results.get(0)));
+    }
+
+    public void testFindJavaReferences() {
+        Set<String> keys = new HashSet<String>(Arrays.asList("a", "b", "c",
+                "d", "e", "f", "g", "h", "x.y"));
+        Set<String> referenced = new HashSet<String>();
+        BundleAudit.findJavaReferences("String s = \"a\" + 'b' + \"x.y\";\n"
+                + "String t = org.eclipse.Messages.c + Messages./* d */e;\n"
+                + "/* Messages.f */ String u = Messages.\n"
+                + "        g(\"esc\\\"aped\");\n"
+                + "String v = Messages.getString(\"h\");\n"
+                + "String w = x.d;\n", keys, referenced);
+        assertEquals(new TreeSet<String>(Arrays.asList("a", "c", "e", "g",
+                "h", "x.y")), new TreeSet<String>(referenced));
+    }
+
+    public void testFindManifestReferences() {
+        Set<String> keys = new HashSet<String>(Arrays.asList("name",
+                "view.label", "unused"));
+        Set<String> referenced = new HashSet<String>();
+        BundleAudit.findManifestReferences("Bundle-Name: %name\n"
+                + "<view label=\"%view.label\"/> 100%\n", keys, referenced);
+        assertEquals(new TreeSet<String>(Arrays.asList("name", "view.label")),
+                new TreeSet<String>(referenced));
+    }
+
+    private List<BundleResult> audit(Set<AuditCheck> checks)
+            throws Exception {
+        BundleAudit audit = new BundleAudit(root, Collections
+                .singletonList(root), checks);
+        audit.setParallelism(2);
+        return audit.run();
+    }
+
+    /**
+     * @return the problems of a bundle, as sorted check, key, locale and
+     *         related keys
+     */
+    private static List<String> problems(BundleResult result) {
+        List<String> problems = new ArrayList<String>();
+        for (AuditProblem problem : result.getProblems()) {
+            StringBuilder text = new StringBuilder();
+            text.append(problem.getCheck().getName()).append(' ').append(
+                    problem.getKey()).append(' ');
+            if (problem.getLocale() != null) {
+                text.append(problem.getLocale());
+            }
+            String[] related = problem.getRelatedKeys().clone();
+            Arrays.sort(related);
+            for (String key : related) {
+                text.append(' ').append(key);
+            }
+            problems.add(text.toString());
+        }
+        Collections.sort(problems);
+        return problems;
+    }
+
+    private void write(String path, String text) throws IOException {
+        File file = new File(root, path);
+        file.getParentFile().mkdirs();
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(text.getBytes("ISO-8859-1"));
+        } finally {
+            out.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.build.core.xml;
+
+import java.io.StringWriter;
+
+import junit.framework.TestCase;
+
+import org.xml.sax.helpers.AttributesImpl;
+
+public class XmlWriterTest extends TestCase {
+
+    public void testEscapesAttributes() throws Exception {
+        StringWriter text = new StringWriter();
+        XmlWriter writer = new XmlWriter(text);
+        AttributesImpl atts = new AttributesImpl();
+        atts.addAttribute("", "key", "key", "CDATA", "a<b>&\"c\"'d'");
+        writer.startElement("", "problem", "problem", atts);
+        writer.endElement("", "problem", "problem");
+        writer.endDocument();
+        assertEquals("<problem key=\"a&lt;b&gt;&amp;&quot;c&quot;'d'\">"
+                + "</problem>\n", text.toString());
+    }
+
+    public void testEscapesCharacters() throws Exception {
+        StringWriter text = new StringWriter();
+        XmlWriter writer = new XmlWriter(text);
+        char[] chars = "x<y && \"z\" > 0\u00E9".toCharArray();
+        writer.characters(chars, 0, chars.length);
+        // only the given range is written
+        writer.characters(chars, 1, 1);
+        writer.endDocument();
+        assertEquals("x&lt;y &amp;&amp; &quot;z&quot; &gt; 0\u00E9&lt;", text
+                .toString());
+    }
+
+    public void testElementWriter() throws Exception {
+        StringWriter text = new StringWriter();
+        ElementWriter out = new ElementWriter(new XmlWriter(text));
+        out.startDocument();
+        out.start("bundle", "name", "a&b.properties");
+        out.empty("problem", "key", "<key>");
+        out.end();
+        out.endDocument();
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<bundle name=\"a&amp;b.properties\">"
+                + "<problem key=\"&lt;key&gt;\"></problem>\n</bundle>\n",
+                text.toString());
+    }
+}
@@ -13,6 +13,7 @@ package org.eclipse.babel.core.message;
 
 import java.util.Collection;
 import java.util.Locale;
+import java.util.Set;
 
 import org.eclipse.babel.core.message.internal.MessageException;
 import org.eclipse.babel.core.message.internal.MessagesBundle;
@@ -73,12 +74,39 @@ public interface IMessagesBundle {
     Locale getLocale();
 
     /**
-     * Gets all message keys making up this messages bundle.
+     * Gets all message keys making up this messages bundle. The returned array
+     * may be shared and must not be modified.
      * 
      * @return message keys
      */
     String[] getKeys();
 
+    /**
+     * Gets a read-only, live view of the message keys making up this messages
+     * bundle.
+     * 
+     * @return message keys
+     */
+    Set<String> getKeySet();
+
+    /**
+     * Gets the keys of all messages having the given value.
+     * 
+     * @param value
+     *            a message value, may be <code>null</code>
+     * @return read-only set of message keys, empty if none
+     */
+    Set<String> getKeysWithValue(String value);
+
+    /**
+     * Whether a message exists for the given key in this bundle.
+     * 
+     * @param key
+     *            a message key
+     * @return <code>true</code> if the key exists in this bundle
+     */
+    boolean containsKey(String key);
+
     /**
      * Returns the value to the given key, if the key exists.
      * 
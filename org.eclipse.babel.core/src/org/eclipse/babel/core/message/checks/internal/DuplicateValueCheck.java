@@ -17,7 +17,6 @@ import org.eclipse.babel.core.message.IMessage;
 import org.eclipse.babel.core.message.IMessagesBundle;
 import org.eclipse.babel.core.message.IMessagesBundleGroup;
 import org.eclipse.babel.core.message.checks.IMessageCheck;
-import org.eclipse.babel.core.util.BabelUtils;
 
 /**
  * Checks if key as a duplicate value.
@@ -48,11 +47,10 @@ public class DuplicateValueCheck implements IMessageCheck {
         if (message != null) {
             IMessagesBundle messagesBundle = messagesBundleGroup
                     .getMessagesBundle(message.getLocale());
-            for (IMessage duplicateEntry : messagesBundle.getMessages()) {
-                if (!message.getKey().equals(duplicateEntry.getKey())
-                        && BabelUtils.equals(message.getValue(),
-                                duplicateEntry.getValue())) {
-                    keys.add(duplicateEntry.getKey());
+            for (String duplicateKey : messagesBundle
+                    .getKeysWithValue(message.getValue())) {
+                if (!message.getKey().equals(duplicateKey)) {
+                    keys.add(duplicateKey);
                 }
             }
             if (!keys.isEmpty()) {
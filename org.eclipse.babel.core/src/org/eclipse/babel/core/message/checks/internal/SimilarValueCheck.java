@@ -12,30 +12,64 @@ package org.eclipse.babel.core.message.checks.internal;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.eclipse.babel.core.message.IMessage;
 import org.eclipse.babel.core.message.IMessagesBundle;
 import org.eclipse.babel.core.message.IMessagesBundleGroup;
 import org.eclipse.babel.core.message.checks.IMessageCheck;
 import org.eclipse.babel.core.message.checks.proximity.IProximityAnalyzer;
+import org.eclipse.babel.core.message.checks.proximity.LevenshteinDistanceAnalyzer;
+import org.eclipse.babel.core.message.checks.proximity.LevenshteinProximityIndex;
 import org.eclipse.babel.core.util.BabelUtils;
 
 /**
- * Checks if key as a duplicate value.
+ * Checks if key as a similar value.
  * 
  * @author Pascal Essiembre (pascal@essiembre.com)
  */
 public class SimilarValueCheck implements IMessageCheck {
 
+    /** Default minimum proximity level for values to be similar. */
+    public static final double DEFAULT_PRECISION = 0.75;
+
     private String[] similarKeys;
     private IProximityAnalyzer analyzer;
+    private double precision;
+    /**
+     * Proximity indexes, by messages bundle. Built once for the lifetime of
+     * this check, which is therefore not meant to outlive a validation pass.
+     */
+    private Map<IMessagesBundle, LevenshteinProximityIndex> indexes = new IdentityHashMap<IMessagesBundle, LevenshteinProximityIndex>();
 
     /**
      * Constructor.
      */
     public SimilarValueCheck(IProximityAnalyzer analyzer) {
+        this(analyzer, DEFAULT_PRECISION);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param analyzer
+     *            the proximity analyzer
+     * @param precision
+     *            minimum proximity level for values to be similar
+     */
+    public SimilarValueCheck(IProximityAnalyzer analyzer, double precision) {
         super();
         this.analyzer = analyzer;
+        this.precision = precision;
+    }
+
+    /**
+     * Resets the collected keys to null.
+     */
+    public void reset() {
+        similarKeys = null;
     }
 
     /**
@@ -46,20 +80,22 @@ public class SimilarValueCheck implements IMessageCheck {
             IMessage message) {
         Collection<String> keys = new ArrayList<String>();
         if (message != null) {
-            // TODO have case as preference
-            String value1 = message.getValue().toLowerCase();
             IMessagesBundle messagesBundle = messagesBundleGroup
                     .getMessagesBundle(message.getLocale());
-            for (IMessage similarEntry : messagesBundle.getMessages()) {
-                if (!message.getKey().equals(similarEntry.getKey())) {
-                    String value2 = similarEntry.getValue().toLowerCase();
-                    // TODO have preference to report identical as similar
-                    if (!BabelUtils.equals(value1, value2)
-                            && analyzer.analyse(value1, value2) >= 0.75) {
-                        // TODO use preferences
-                        // >= RBEPreferences.getReportSimilarValuesPrecision())
-                        // {
-                        keys.add(similarEntry.getKey());
+            // TODO have case as preference
+            // TODO have preference to report identical as similar
+            if (analyzer instanceof LevenshteinDistanceAnalyzer) {
+                getIndex(messagesBundle).findSimilar(message.getValue(), keys);
+                keys.remove(message.getKey());
+            } else {
+                String value1 = message.getValue().toLowerCase();
+                for (IMessage similarEntry : messagesBundle.getMessages()) {
+                    if (!message.getKey().equals(similarEntry.getKey())) {
+                        String value2 = similarEntry.getValue().toLowerCase();
+                        if (!BabelUtils.equals(value1, value2)
+                                && analyzer.analyse(value1, value2) >= precision) {
+                            keys.add(similarEntry.getKey());
+                        }
                     }
                 }
             }
@@ -71,6 +107,26 @@ public class SimilarValueCheck implements IMessageCheck {
         return !keys.isEmpty();
     }
 
+    /**
+     * Gets the proximity index of a messages bundle, building it if needed.
+     * 
+     * @param messagesBundle
+     *            the messages bundle
+     * @return proximity index
+     */
+    private LevenshteinProximityIndex getIndex(IMessagesBundle messagesBundle) {
+        LevenshteinProximityIndex index = indexes.get(messagesBundle);
+        if (index == null) {
+            Map<String, String> values = new LinkedHashMap<String, String>();
+            for (IMessage entry : messagesBundle.getMessages()) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+            index = new LevenshteinProximityIndex(values, precision);
+            indexes.put(messagesBundle, index);
+        }
+        return index;
+    }
+
     /**
      * Gets similar keys.
      * 
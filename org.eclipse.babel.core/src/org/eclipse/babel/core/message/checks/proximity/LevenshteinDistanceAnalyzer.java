@@ -51,6 +51,36 @@ public class LevenshteinDistanceAnalyzer implements IProximityAnalyzer {
         return 1d - (distance / maxLength);
     }
 
+    /**
+     * Gets the largest distance between two strings for which
+     * {@link #analyse(String, String)} still returns at least the given
+     * proximity.
+     * 
+     * @param maxLength
+     *            length of the longest of the two strings
+     * @param minProximity
+     *            the minimum proximity level
+     * @return largest distance, or -1 if no distance qualifies
+     */
+    public static int maxDistance(int maxLength, double minProximity) {
+        int maxDistance = (int) Math.floor((1d - minProximity) * maxLength);
+        maxDistance = Math.max(-1, Math.min(maxLength, maxDistance));
+        // correct floating point rounding, analyse() being the reference
+        while (maxDistance < maxLength
+                && proximity(maxDistance + 1, maxLength) >= minProximity) {
+            maxDistance++;
+        }
+        while (maxDistance >= 0
+                && !(proximity(maxDistance, maxLength) >= minProximity)) {
+            maxDistance--;
+        }
+        return maxDistance;
+    }
+
+    private static double proximity(int distance, int maxLength) {
+        return 1d - ((double) distance / maxLength);
+    }
+
     /**
      * Retuns the minimum of three values.
      * 
@@ -86,57 +116,102 @@ public class LevenshteinDistanceAnalyzer implements IProximityAnalyzer {
      * @return distance
      */
     public int distance(String s, String t) {
-        int d[][]; // matrix
+        return distance(s, t, Math.max(s.length(), t.length()));
+    }
+
+    /***
+     * Compute the distance, giving up as soon as it exceeds a maximum. Only
+     * the cells of the matrix within <code>maxDistance</code> of its diagonal
+     * are computed, keeping two rows of it.
+     * 
+     * @param s
+     *            source string
+     * @param t
+     *            target string
+     * @param maxDistance
+     *            the largest distance of interest
+     * @return distance, or <code>maxDistance + 1</code> if the distance is
+     *         greater than <code>maxDistance</code>
+     */
+    public int distance(String s, String t, int maxDistance) {
+        int[] previous; // previous row of the matrix
+        int[] current; // current row of the matrix
+        int[] swap;
         int n; // length of s
         int m; // length of t
         int i; // iterates through s
         int j; // iterates through t
         char s_i; // ith character of s
-        char t_j; // jth character of t
         int cost; // cost
+        int outside = maxDistance + 1; // value of cells outside of the band
 
         // Step 1
         n = s.length();
         m = t.length();
+        if (maxDistance < 0) {
+            return outside;
+        }
+        if (Math.abs(n - m) > maxDistance) {
+            return outside;
+        }
         if (n == 0) {
             return m;
         }
         if (m == 0) {
             return n;
         }
-        d = new int[n + 1][m + 1];
+        previous = new int[m + 1];
+        current = new int[m + 1];
 
         // Step 2
-        for (i = 0; i <= n; i++) {
-            d[i][0] = i;
-        }
-
         for (j = 0; j <= m; j++) {
-            d[0][j] = j;
+            previous[j] = j <= maxDistance ? j : outside;
         }
 
         // Step 3
         for (i = 1; i <= n; i++) {
             s_i = s.charAt(i - 1);
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(m, i + maxDistance);
+            int rowMinimum = outside;
 
-            // Step 4
-            for (j = 1; j <= m; j++) {
-                t_j = t.charAt(j - 1);
+            current[0] = i <= maxDistance ? i : outside;
+            if (from > 1) {
+                current[from - 1] = outside;
+            }
 
+            // Step 4
+            for (j = from; j <= to; j++) {
                 // Step 5
-                if (s_i == t_j) {
+                if (s_i == t.charAt(j - 1)) {
                     cost = 0;
                 } else {
                     cost = 1;
                 }
 
                 // Step 6
-                d[i][j] = minimum(d[i - 1][j] + 1, d[i][j - 1] + 1,
-                        d[i - 1][j - 1] + cost);
+                int d = minimum(previous[j] + 1, current[j - 1] + 1,
+                        previous[j - 1] + cost);
+                if (d > outside) {
+                    d = outside;
+                }
+                current[j] = d;
+                if (d < rowMinimum) {
+                    rowMinimum = d;
+                }
+            }
+            if (to < m) {
+                current[to + 1] = outside;
+            }
+            if (rowMinimum > maxDistance) {
+                return outside;
             }
+            swap = previous;
+            previous = current;
+            current = swap;
         }
 
         // Step 7
-        return d[n][m];
+        return previous[m];
     }
 }
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.core.message.checks.proximity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of values to quickly find the ones similar to a given value, as
+ * defined by {@link LevenshteinDistanceAnalyzer}. Values are compared case
+ * insensitive. Instead of computing the distance against every value, the
+ * candidates are narrowed down by their length and by the number of character
+ * pairs they share with the searched value, and only the remaining ones get
+ * their distance computed, bounded by the largest acceptable distance.
+ */
+public class LevenshteinProximityIndex {
+
+    private static final Comparator<Entry> LENGTH_COMPARATOR = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry entry1, Entry entry2) {
+            return entry1.value.length() - entry2.value.length();
+        }
+    };
+    private static final Comparator<Entry> POSITION_COMPARATOR = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry entry1, Entry entry2) {
+            return entry1.position - entry2.position;
+        }
+    };
+
+    private final LevenshteinDistanceAnalyzer analyzer = (LevenshteinDistanceAnalyzer) LevenshteinDistanceAnalyzer
+            .getInstance();
+    private final double minProximity;
+    /** Indexed entries, sorted by value length. */
+    private final Entry[] entries;
+    /** Value length of each entry, for binary searches. */
+    private final int[] lengths;
+
+    /**
+     * Constructor.
+     *
+     * @param values
+     *            values to index, by key. Null values are ignored.
+     * @param minProximity
+     *            the minimum proximity level for values to be similar
+     */
+    public LevenshteinProximityIndex(Map<String, String> values,
+            double minProximity) {
+        super();
+        this.minProximity = minProximity;
+        List<Entry> list = new ArrayList<Entry>(values.size());
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            if (value.getValue() != null) {
+                list.add(new Entry(value.getKey(), value.getValue()
+                        .toLowerCase(), list.size()));
+            }
+        }
+        entries = list.toArray(new Entry[list.size()]);
+        Arrays.sort(entries, LENGTH_COMPARATOR);
+        lengths = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            lengths[i] = entries[i].value.length();
+        }
+    }
+
+    /**
+     * Gets the keys of all indexed values similar to the given one. Values
+     * identical to the given one are not considered similar. Keys are added
+     * in the order of the map the index was built from.
+     *
+     * @param value
+     *            the value to compare
+     * @param keys
+     *            collection receiving the similar keys
+     */
+    public void findSimilar(String value, Collection<String> keys) {
+        String value1 = value.toLowerCase();
+        int length1 = value1.length();
+        int[] bigrams1 = null;
+        List<Entry> similar = new ArrayList<Entry>();
+
+        // a similar value cannot be much shorter or longer
+        int from = firstIndexOf((int) Math.floor(minProximity * length1) - 1);
+        int to = minProximity > 0 ? (int) Math.min(Integer.MAX_VALUE,
+                Math.ceil(length1 / minProximity) + 1) : Integer.MAX_VALUE;
+        for (int i = from; i < entries.length && lengths[i] <= to; i++) {
+            Entry entry = entries[i];
+            int length2 = lengths[i];
+            int maxLength = Math.max(length1, length2);
+            int maxDistance = LevenshteinDistanceAnalyzer.maxDistance(
+                    maxLength, minProximity);
+            if (maxDistance < 0 || Math.abs(length1 - length2) > maxDistance) {
+                continue;
+            }
+            // each edit breaks at most two character pairs
+            int minCommon = maxLength - 1 - 2 * maxDistance;
+            if (minCommon > 0) {
+                if (bigrams1 == null) {
+                    bigrams1 = bigrams(value1);
+                }
+                if (countCommon(bigrams1, entry.getBigrams(), minCommon) < minCommon) {
+                    continue;
+                }
+            }
+            int distance = analyzer.distance(value1, entry.value, maxDistance);
+            if (distance > 0 && distance <= maxDistance) {
+                similar.add(entry);
+            }
+        }
+        Collections.sort(similar, POSITION_COMPARATOR);
+        for (Entry entry : similar) {
+            keys.add(entry.key);
+        }
+    }
+
+    /**
+     * Gets the position of the first entry having a value at least as long as
+     * the given length.
+     */
+    private int firstIndexOf(int length) {
+        int low = 0;
+        int high = lengths.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (lengths[middle] < length) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Gets the sorted character pairs of a string.
+     */
+    private static int[] bigrams(String value) {
+        int count = Math.max(0, value.length() - 1);
+        int[] bigrams = new int[count];
+        for (int i = 0; i < count; i++) {
+            bigrams[i] = (value.charAt(i) << 16) | value.charAt(i + 1);
+        }
+        Arrays.sort(bigrams);
+        return bigrams;
+    }
+
+    /**
+     * Counts the character pairs two strings have in common, stopping once
+     * the expected count is reached.
+     */
+    private static int countCommon(int[] bigrams1, int[] bigrams2,
+            int expected) {
+        int common = 0;
+        int i = 0;
+        int j = 0;
+        while (i < bigrams1.length && j < bigrams2.length
+                && common < expected) {
+            if (bigrams1[i] == bigrams2[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (bigrams1[i] < bigrams2[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return common;
+    }
+
+    private static class Entry {
+        private final String key;
+        private final String value;
+        private final int position;
+        private int[] bigrams;
+
+        private Entry(String key, String value, int position) {
+            this.key = key;
+            this.value = value;
+            this.position = position;
+        }
+
+        private int[] getBigrams() {
+            if (bigrams == null) {
+                bigrams = bigrams(value);
+            }
+            return bigrams;
+        }
+    }
+}
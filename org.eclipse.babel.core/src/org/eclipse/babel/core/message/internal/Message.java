@@ -42,6 +42,8 @@ public final class Message extends AbstractMessageModel implements IMessage {
     private boolean active = true;
     /** Entry text. */
     private String text;
+    /** Bundle holding this entry, kept informed of text changes. */
+    private transient MessagesBundle bundle;
 
     /**
      * Constructor. Key and locale arguments are <code>null</code> safe.
@@ -100,19 +102,44 @@ public final class Message extends AbstractMessageModel implements IMessage {
      *            The text to set.
      */
     public void setText(String text) {
-        Object oldValue = this.text;
+        String oldValue = this.text;
         this.text = text;
+        textChanged(oldValue);
         firePropertyChange(PROPERTY_TEXT, oldValue, text);
     }
 
     public void setText(String text, boolean silent) {
-        Object oldValue = this.text;
+        String oldValue = this.text;
         this.text = text;
+        textChanged(oldValue);
         if (!silent) {
             firePropertyChange(PROPERTY_TEXT, oldValue, text);
         }
     }
 
+    /**
+     * Sets the bundle holding this message.
+     * 
+     * @param bundle
+     *            the holding bundle, or <code>null</code> once removed from it
+     */
+    /* default */void setBundle(MessagesBundle bundle) {
+        this.bundle = bundle;
+    }
+
+    /**
+     * Tells the holding bundle about a text change. Unlike property change
+     * events, this cannot be silenced.
+     * 
+     * @param oldValue
+     *            the previous text
+     */
+    private void textChanged(String oldValue) {
+        if (bundle != null) {
+            bundle.messageTextChanged(this, oldValue);
+        }
+    }
+
     /**
      * Gets the comment associated with this message (<code>null</code> if no
      * comments).
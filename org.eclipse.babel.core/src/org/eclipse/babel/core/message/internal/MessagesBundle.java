@@ -14,12 +14,15 @@ package org.eclipse.babel.core.message.internal;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.babel.core.message.IMessage;
 import org.eclipse.babel.core.message.IMessagesBundle;
@@ -41,8 +44,19 @@ public class MessagesBundle extends AbstractMessageModel implements
     public static final String PROPERTY_MESSAGES_COUNT = "messagesCount"; //$NON-NLS-1$
 
     private static final IMessagesBundleListener[] EMPTY_MSG_BUNDLE_LISTENERS = new IMessagesBundleListener[] {};
-    private final Collection<String> orderedKeys = new ArrayList<String>();
-    private final Map<String, IMessage> keyedMessages = new HashMap<String, IMessage>();
+    /** Messages by key, iterated in the order the keys were added. */
+    private final Map<String, IMessage> keyedMessages = new LinkedHashMap<String, IMessage>();
+    /** Read-only view on the keys of <code>keyedMessages</code>. */
+    private final Set<String> keySet = Collections
+            .unmodifiableSet(keyedMessages.keySet());
+    /** Cached result of {@link #getKeys()}, reset whenever keys change. */
+    private transient String[] keysCache;
+    /**
+     * Keys by message value, built on first use and then kept up to date.
+     * Guarded by this bundle, along with the key changes of
+     * <code>keyedMessages</code>.
+     */
+    private transient Map<String, Set<String>> valueIndex;
 
     private final IMessagesResource resource;
 
@@ -151,11 +165,13 @@ public class MessagesBundle extends AbstractMessageModel implements
     public void addMessage(IMessage message) {
         Message m = (Message) message;
         int oldCount = getMessagesCount();
-        if (!orderedKeys.contains(m.getKey())) {
-            orderedKeys.add(m.getKey());
-        }
         if (!keyedMessages.containsKey(m.getKey())) {
-            keyedMessages.put(m.getKey(), m);
+            synchronized (this) {
+                keyedMessages.put(m.getKey(), m);
+                keysCache = null;
+                m.setBundle(this);
+                indexValue(m.getKey(), m.getValue());
+            }
             m.addMessageListener(messageListener);
             firePropertyChange(PROPERTY_MESSAGES_COUNT, oldCount,
                     getMessagesCount());
@@ -175,11 +191,17 @@ public class MessagesBundle extends AbstractMessageModel implements
      */
     public void removeMessage(String messageKey) {
         int oldCount = getMessagesCount();
-        orderedKeys.remove(messageKey);
-        Message message = (Message) keyedMessages.get(messageKey);
+        Message message;
+        synchronized (this) {
+            message = (Message) keyedMessages.remove(messageKey);
+            if (message != null) {
+                keysCache = null;
+                message.setBundle(null);
+                unindexValue(messageKey, message.getValue());
+            }
+        }
         if (message != null) {
             message.removePropertyChangeListener(messageListener);
-            keyedMessages.remove(messageKey);
             firePropertyChange(PROPERTY_MESSAGES_COUNT, oldCount,
                     getMessagesCount());
             fireMessageRemoved(message);
@@ -286,12 +308,99 @@ public class MessagesBundle extends AbstractMessageModel implements
     }
 
     /**
-     * Gets all message keys making up this messages bundle.
+     * Gets all message keys making up this messages bundle, in the order they
+     * were added. The returned array is cached until the next key is added or
+     * removed and is shared between callers: it must not be modified.
      * 
      * @return message keys
      */
     public String[] getKeys() {
-        return orderedKeys.toArray(BabelUtils.EMPTY_STRINGS);
+        String[] keys = keysCache;
+        if (keys == null) {
+            keys = keyedMessages.keySet().toArray(BabelUtils.EMPTY_STRINGS);
+            keysCache = keys;
+        }
+        return keys;
+    }
+
+    /**
+     * Gets a read-only, live view of the message keys making up this messages
+     * bundle, in the order they were added.
+     * 
+     * @return message keys
+     */
+    public Set<String> getKeySet() {
+        return keySet;
+    }
+
+    /**
+     * Whether a message exists for the given key in this bundle.
+     * 
+     * @param key
+     *            a message key
+     * @return <code>true</code> if the key exists in this bundle
+     */
+    public boolean containsKey(String key) {
+        return keyedMessages.containsKey(key);
+    }
+
+    /**
+     * Gets the keys of all messages having the given value. Lookups are
+     * answered from an index maintained as messages are added, changed or
+     * removed.
+     * 
+     * @param value
+     *            a message value, may be <code>null</code>
+     * @return read-only copy of the set of message keys, empty if none
+     */
+    public synchronized Set<String> getKeysWithValue(String value) {
+        if (valueIndex == null) {
+            valueIndex = new HashMap<String, Set<String>>();
+            for (IMessage message : keyedMessages.values()) {
+                indexValue(message.getKey(), message.getValue());
+            }
+        }
+        Set<String> keys = valueIndex.get(value);
+        if (keys == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<String>(keys));
+    }
+
+    /**
+     * Called by a message of this bundle when its text changed.
+     * 
+     * @param message
+     *            the changed message
+     * @param oldValue
+     *            the previous text
+     */
+    /* default */synchronized void messageTextChanged(Message message,
+            String oldValue) {
+        unindexValue(message.getKey(), oldValue);
+        indexValue(message.getKey(), message.getValue());
+    }
+
+    private void indexValue(String key, String value) {
+        if (valueIndex == null) {
+            return;
+        }
+        Set<String> keys = valueIndex.get(value);
+        if (keys == null) {
+            keys = new LinkedHashSet<String>();
+            valueIndex.put(value, keys);
+        }
+        keys.add(key);
+    }
+
+    private void unindexValue(String key, String value) {
+        if (valueIndex == null) {
+            return;
+        }
+        Set<String> keys = valueIndex.get(value);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            valueIndex.remove(value);
+        }
     }
 
     /**
@@ -328,8 +437,6 @@ public class MessagesBundle extends AbstractMessageModel implements
                 + ((messageListener == null) ? 0 : messageListener.hashCode());
         result = PRIME * result
                 + ((keyedMessages == null) ? 0 : keyedMessages.hashCode());
-        result = PRIME * result
-                + ((orderedKeys == null) ? 0 : orderedKeys.hashCode());
         result = PRIME * result
                 + ((resource == null) ? 0 : resource.hashCode());
         return result;
@@ -234,12 +234,9 @@ public class MessagesBundleGroup extends AbstractMessageModel implements
                 localeBundles.size());
         fireMessagesBundleAdded(mb);
 
-        String[] bundleKeys = mb.getKeys();
-        for (int i = 0; i < bundleKeys.length; i++) {
-            String key = bundleKeys[i];
-            if (!keys.contains(key)) {
-                int oldKeyCount = keys.size();
-                keys.add(key);
+        for (String key : mb.getKeySet()) {
+            int oldKeyCount = keys.size();
+            if (keys.add(key)) {
                 firePropertyChange(PROPERTY_KEY_COUNT, oldKeyCount, keys.size());
                 fireKeyAdded(key);
             }
@@ -262,20 +259,9 @@ public class MessagesBundleGroup extends AbstractMessageModel implements
             localeBundles.remove(locale);
         }
 
-        // which keys should I not remove?
-        Set<String> keysNotToRemove = new TreeSet<String>();
-
-        for (String key : messagesBundle.getKeys()) {
-            for (IMessagesBundle bundle : localeBundles.values()) {
-                if (bundle.getMessage(key) != null) {
-                    keysNotToRemove.add(key);
-                }
-            }
-        }
-
-        // remove keys
-        for (String keyToRemove : messagesBundle.getKeys()) {
-            if (!keysNotToRemove.contains(keyToRemove)) { // we can remove
+        // remove keys no other bundle still defines
+        for (String keyToRemove : messagesBundle.getKeySet()) {
+            if (!containsKey(keyToRemove)) { // we can remove
                 keys.remove(keyToRemove);
             }
         }
@@ -499,14 +485,9 @@ public class MessagesBundleGroup extends AbstractMessageModel implements
      */
     @Override
     public boolean containsKey(String key) {
-        for (Locale locale : localeBundles.keySet()) {
-            IMessagesBundle messagesBundle = localeBundles.get(locale);
-            for (String k : messagesBundle.getKeys()) {
-                if (k.equals(key)) {
-                    return true;
-                } else {
-                    continue;
-                }
+        for (IMessagesBundle messagesBundle : localeBundles.values()) {
+            if (messagesBundle.containsKey(key)) {
+                return true;
             }
         }
         return false;
@@ -0,0 +1,351 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.core.message.manager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.babel.core.message.IMessage;
+import org.eclipse.babel.core.message.IMessagesBundle;
+import org.eclipse.babel.core.message.IMessagesBundleGroup;
+import org.eclipse.babel.core.util.FileUtils;
+import org.eclipse.babel.core.util.NameUtils;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.Path;
+
+/**
+ * Snapshot of the keys and locales of the bundle groups read by
+ * the {@link RBManager}s, persisted between sessions so that a bundle group
+ * need not be parsed to tell whether it has a key.
+ * <p>
+ * The entries of a bundle group are recorded by file path, with the
+ * modification stamp of the file when it was read. They are validated when
+ * they are looked up: once a file of the group changed, was removed or was
+ * added, the entries of the group are dropped and the group must be read
+ * again.
+ */
+final class BundleIndexSnapshot {
+
+    /** Changed whenever the format of the snapshot file changes */
+    private static final int VERSION = 2;
+
+    final static Logger logger = Logger.getLogger(BundleIndexSnapshot.class
+            .getName());
+
+    /** <projectName>/<resourceBundleId>, entries */
+    private final Map<String, Group> groups = new HashMap<String, Group>();
+
+    private boolean dirty = false;
+
+    /**
+     * Gets the entries of a bundle group, if they are still valid.
+     *
+     * @param groupName
+     *            <projectName>/<resourceBundleId>
+     * @param resources
+     *            The files of the bundle group, as currently known
+     * @return The entries, or <code>null</code> if the snapshot has no valid
+     *         entries for the bundle group
+     */
+    public synchronized Group getGroup(String groupName,
+            Collection<IResource> resources) {
+        Group group = groups.get(groupName);
+        if (group != null && !group.isCurrent(resources)) {
+            groups.remove(groupName);
+            dirty = true;
+            group = null;
+        }
+        return group;
+    }
+
+    /**
+     * Records the entries of a bundle group which has just been read from its
+     * files. Nothing is recorded if a messages bundle of the group cannot be
+     * matched with one of the files.
+     *
+     * @param groupName
+     *            <projectName>/<resourceBundleId>
+     * @param bundleGroup
+     *            The bundle group read
+     * @param resources
+     *            The files of the bundle group
+     */
+    public synchronized void putGroup(String groupName,
+            IMessagesBundleGroup bundleGroup, Collection<IResource> resources) {
+        groups.remove(groupName);
+        dirty = true;
+
+        Map<Locale, IResource> resourcesByLocale = new HashMap<Locale, IResource>();
+        for (IResource resource : resources) {
+            resourcesByLocale.put(NameUtils.getLocaleByName(
+                    NameUtils.getResourceBundleName(resource),
+                    resource.getName()), resource);
+        }
+
+        List<FileEntry> files = new ArrayList<FileEntry>();
+        for (IMessagesBundle bundle : bundleGroup.getMessagesBundles()) {
+            IResource resource = resourcesByLocale.get(bundle.getLocale());
+            if (resource == null) {
+                return;
+            }
+
+            Set<String> keys = new HashSet<String>();
+            for (IMessage message : bundle.getMessages()) {
+                keys.add(message.getKey());
+            }
+            files.add(new FileEntry(resource.getFullPath().toString(),
+                    resource.getModificationStamp(), resource
+                            .getLocalTimeStamp(), bundle.getLocale(), keys));
+        }
+        groups.put(groupName, new Group(files));
+    }
+
+    /**
+     * Drops the entries of a bundle group.
+     *
+     * @param groupName
+     *            <projectName>/<resourceBundleId>
+     */
+    public synchronized void removeGroup(String groupName) {
+        if (groups.remove(groupName) != null) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Reads a snapshot file. A missing file, or a file written in another
+     * version, leaves the snapshot empty.
+     *
+     * @param file
+     *            The snapshot file
+     */
+    public synchronized void load(File file) {
+        if (!file.exists()) {
+            return;
+        }
+
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(
+                    new FileInputStream(file)));
+            if (in.readInt() != VERSION) {
+                return;
+            }
+
+            int groupCount = in.readInt();
+            for (int i = 0; i < groupCount; i++) {
+                String groupName = in.readUTF();
+                int fileCount = in.readInt();
+                List<FileEntry> files = new ArrayList<FileEntry>(fileCount);
+                for (int j = 0; j < fileCount; j++) {
+                    files.add(FileEntry.read(in));
+                }
+                groups.put(groupName, new Group(files));
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "load: cannot read " + file, e);
+            groups.clear();
+        } finally {
+            close(in);
+        }
+        dirty = false;
+    }
+
+    /**
+     * Writes the snapshot file, if the snapshot changed since it was loaded or
+     * saved. The snapshot is written to a temporary file first, which then
+     * replaces the snapshot file, so that an interrupted save does not leave
+     * a truncated snapshot.
+     *
+     * @param file
+     *            The snapshot file
+     */
+    public synchronized void save(File file) {
+        if (!dirty) {
+            return;
+        }
+
+        File tempFile = null;
+        DataOutputStream out = null;
+        try {
+            tempFile = File.createTempFile(file.getName(), ".tmp", file
+                    .getAbsoluteFile().getParentFile());
+            out = new DataOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(tempFile)));
+            out.writeInt(VERSION);
+            out.writeInt(groups.size());
+            for (Map.Entry<String, Group> entry : groups.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().files.size());
+                for (FileEntry fileEntry : entry.getValue().files) {
+                    fileEntry.write(out);
+                }
+            }
+            out.close();
+            out = null;
+
+            FileUtils.replaceFile(file, tempFile);
+            dirty = false;
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "save: cannot write " + file, e);
+        } finally {
+            close(out);
+            if (tempFile != null && tempFile.exists()) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    private static void close(Closeable stream) {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * The entries of a bundle group.
+     */
+    static final class Group {
+        private final List<FileEntry> files;
+
+        private Group(List<FileEntry> files) {
+            this.files = files;
+        }
+
+        /**
+         * @return <code>true</code> if one of the files of the bundle group has
+         *         the key
+         */
+        public boolean containsKey(String key) {
+            for (FileEntry file : files) {
+                if (file.keys.contains(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return The locales of the bundle group, <code>null</code> standing
+         *         for the default locale
+         */
+        public Set<Locale> getLocales() {
+            Set<Locale> locales = new HashSet<Locale>();
+            for (FileEntry file : files) {
+                locales.add(file.locale);
+            }
+            return locales;
+        }
+
+        private boolean isCurrent(Collection<IResource> resources) {
+            if (resources.size() != files.size()) {
+                return false;
+            }
+
+            Map<String, IResource> resourcesByPath = new HashMap<String, IResource>();
+            for (IResource resource : resources) {
+                resourcesByPath.put(resource.getFullPath().toString(),
+                        resource);
+            }
+
+            for (FileEntry file : files) {
+                IResource resource = resourcesByPath.get(file.path);
+                if (resource == null) {
+                    resource = ResourcesPlugin.getWorkspace().getRoot()
+                            .getFile(new Path(file.path));
+                }
+                if (!resource.exists()
+                        || resource.getModificationStamp() != file.modificationStamp
+                        || resource.getLocalTimeStamp() != file.localTimeStamp) {
+                    return false;
+                }
+            }
+            return resourcesByPath.size() == files.size();
+        }
+    }
+
+    /**
+     * The entries of a file: its locale and keys.
+     */
+    private static final class FileEntry {
+        private final String path;
+        private final long modificationStamp;
+        private final long localTimeStamp;
+        private final Locale locale;
+        private final Set<String> keys;
+
+        private FileEntry(String path, long modificationStamp,
+                long localTimeStamp, Locale locale, Set<String> keys) {
+            this.path = path;
+            this.modificationStamp = modificationStamp;
+            this.localTimeStamp = localTimeStamp;
+            this.locale = locale;
+            this.keys = keys;
+        }
+
+        private static FileEntry read(DataInputStream in) throws IOException {
+            String path = in.readUTF();
+            long modificationStamp = in.readLong();
+            long localTimeStamp = in.readLong();
+            Locale locale = null;
+            if (in.readBoolean()) {
+                locale = new Locale(in.readUTF(), in.readUTF(), in.readUTF());
+            }
+
+            int keyCount = in.readInt();
+            Set<String> keys = new HashSet<String>(keyCount * 4 / 3 + 1);
+            for (int i = 0; i < keyCount; i++) {
+                keys.add(in.readUTF());
+            }
+            return new FileEntry(path, modificationStamp, localTimeStamp,
+                    locale, keys);
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeUTF(path);
+            out.writeLong(modificationStamp);
+            out.writeLong(localTimeStamp);
+            out.writeBoolean(locale != null);
+            if (locale != null) {
+                out.writeUTF(locale.getLanguage());
+                out.writeUTF(locale.getCountry());
+                out.writeUTF(locale.getVariant());
+            }
+
+            out.writeInt(keys.size());
+            for (String key : keys) {
+                out.writeUTF(key);
+            }
+        }
+    }
+}
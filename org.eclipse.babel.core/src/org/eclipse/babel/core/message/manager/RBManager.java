@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.babel.core.message.manager;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -28,12 +29,18 @@ import org.eclipse.babel.core.message.IMessagesBundleGroup;
 import org.eclipse.babel.core.message.internal.Message;
 import org.eclipse.babel.core.message.internal.MessagesBundle;
 import org.eclipse.babel.core.message.internal.MessagesBundleGroup;
+import org.eclipse.babel.core.metrics.Counter;
+import org.eclipse.babel.core.metrics.Histogram;
+import org.eclipse.babel.core.metrics.Metrics;
+import org.eclipse.babel.core.metrics.Timer;
 import org.eclipse.babel.core.refactoring.IRefactoringService;
 import org.eclipse.babel.core.util.FileUtils;
 import org.eclipse.babel.core.util.NameUtils;
 import org.eclipse.babel.core.util.PDEUtils;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ISaveContext;
+import org.eclipse.core.resources.ISaveParticipant;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -54,9 +61,26 @@ public final class RBManager {
 
     private static Map<IProject, RBManager> managerMap = new HashMap<IProject, RBManager>();
 
-    /** <package>.<resourceBundleName> , IMessagesBundleGroup */
+    /**
+     * <package>.<resourceBundleName> , IMessagesBundleGroup. The maps of the
+     * resource bundles are guarded by the manager, as the builder audits
+     * resources concurrently.
+     */
     private final Map<String, IMessagesBundleGroup> resourceBundles;
 
+    /**
+     * <package>.<resourceBundleName> , files of the resource bundles not read
+     * yet
+     */
+    private final Map<String, Set<IResource>> bundleFiles;
+
+    /** keys and locales of the bundle groups read in a previous session */
+    private static BundleIndexSnapshot snapshot;
+
+    private static final String PLUGIN_ID = "org.eclipse.babel.core";
+
+    private static final String SNAPSHOT_FILE = "bundleIndex.dat";
+
     private static RBManager INSTANCE;
 
     private final List<IMessagesEditorListener> editorListeners;
@@ -71,8 +95,19 @@ public final class RBManager {
 
     private static IRefactoringService refactorService;
 
+    private static final Timer LOAD_TIMER = Metrics.timer("RBManager.load"); //$NON-NLS-1$
+
+    private static final Histogram LOAD_FILES = Metrics
+            .histogram("RBManager.load.files"); //$NON-NLS-1$
+
+    private static final Timer SAVE_TIMER = Metrics.timer("RBManager.save"); //$NON-NLS-1$
+
+    private static final Counter SNAPSHOT_HITS = Metrics
+            .counter("RBManager.snapshot.hits"); //$NON-NLS-1$
+
     private RBManager() {
         resourceBundles = new HashMap<String, IMessagesBundleGroup>();
+        bundleFiles = new HashMap<String, Set<IResource>>();
         editorListeners = new ArrayList<IMessagesEditorListener>(3);
         resourceListeners = new ArrayList<IResourceDeltaListener>(2);
     }
@@ -82,7 +117,11 @@ public final class RBManager {
      *            <package>.<resourceBundleName>
      * @return {@link IMessagesBundleGroup} if found, else <code>null</code>
      */
-    public IMessagesBundleGroup getMessagesBundleGroup(String resourceBundleId) {
+    public synchronized IMessagesBundleGroup getMessagesBundleGroup(
+            String resourceBundleId) {
+        if (bundleFiles.containsKey(resourceBundleId)) {
+            loadBundleGroup(resourceBundleId);
+        }
         if (!resourceBundles.containsKey(resourceBundleId)) {
             logger.log(Level.SEVERE,
                     "getMessagesBundleGroup with non-existing Id: "
@@ -97,12 +136,17 @@ public final class RBManager {
      * @return All the names of the <code>resourceBundles</code> in the format:
      *         <projectName>/<resourceBundleId>
      */
-    public List<String> getMessagesBundleGroupNames() {
+    public synchronized List<String> getMessagesBundleGroupNames() {
         List<String> bundleGroupNames = new ArrayList<String>();
 
         for (String key : resourceBundles.keySet()) {
             bundleGroupNames.add(project.getName() + "/" + key);
         }
+        for (String key : bundleFiles.keySet()) {
+            if (!resourceBundles.containsKey(key)) {
+                bundleGroupNames.add(project.getName() + "/" + key);
+            }
+        }
         return bundleGroupNames;
     }
 
@@ -131,7 +175,7 @@ public final class RBManager {
      * @param bundleGroup
      *            The new {@link IMessagesBundleGroup}
      */
-    public void notifyMessagesBundleGroupCreated(
+    public synchronized void notifyMessagesBundleGroupCreated(
             IMessagesBundleGroup bundleGroup) {
         if (resourceBundles.containsKey(bundleGroup.getResourceBundleId())) {
             IMessagesBundleGroup oldbundleGroup = resourceBundles
@@ -208,7 +252,7 @@ public final class RBManager {
      * @param bundleGroup
      *            The {@link IMessagesBundleGroup} to remove
      */
-    public void notifyMessagesBundleGroupDeleted(
+    public synchronized void notifyMessagesBundleGroupDeleted(
             IMessagesBundleGroup bundleGroup) {
         if (resourceBundles.containsKey(bundleGroup.getResourceBundleId())) {
             if (equalHash(
@@ -230,9 +274,21 @@ public final class RBManager {
      * @param resourceBundle
      *            The removed {@link MessagesBundle}
      */
-    public void notifyResourceRemoved(IResource resourceBundle) {
+    public synchronized void notifyResourceRemoved(IResource resourceBundle) {
         String resourceBundleId = NameUtils.getResourceBundleId(resourceBundle);
 
+        Set<IResource> files = bundleFiles.get(resourceBundleId);
+        if (files != null && files.remove(resourceBundle)) {
+            for (IResourceDeltaListener deltaListener : resourceListeners) {
+                deltaListener.onDelete(resourceBundleId, resourceBundle);
+            }
+
+            if (files.isEmpty()) {
+                bundleFiles.remove(resourceBundleId);
+            }
+            return;
+        }
+
         IMessagesBundleGroup bundleGroup = resourceBundles
                 .get(resourceBundleId);
 
@@ -357,10 +413,14 @@ public final class RBManager {
      * @param resourceBundleId
      *            The resourceBundleId
      */
-    public void deleteMessagesBundleGroup(String resourceBundleId) {
+    public synchronized void deleteMessagesBundleGroup(
+            String resourceBundleId) {
         // TODO: Try to unify it some time
         if (resourceBundles.containsKey(resourceBundleId)) {
             resourceBundles.remove(resourceBundleId);
+            bundleFiles.remove(resourceBundleId);
+        } else if (bundleFiles.containsKey(resourceBundleId)) {
+            bundleFiles.remove(resourceBundleId);
         } else {
             logger.log(Level.SEVERE,
                     "deleteMessagesBundleGroup with non-existing Id: "
@@ -374,8 +434,156 @@ public final class RBManager {
      * @return <code>true</code> if the manager knows the
      *         {@link MessagesBundleGroup} with the id resourceBundleId
      */
-    public boolean containsMessagesBundleGroup(String resourceBundleId) {
-        return resourceBundles.containsKey(resourceBundleId);
+    public synchronized boolean containsMessagesBundleGroup(
+            String resourceBundleId) {
+        return resourceBundles.containsKey(resourceBundleId)
+                || bundleFiles.containsKey(resourceBundleId);
+    }
+
+    /**
+     * Tells whether a resource bundle has a key. If the resource bundle has not
+     * been read yet, and its files did not change since the previous session,
+     * the answer is taken from the snapshot of that session.
+     * 
+     * @param resourceBundleId
+     *            <package>.<resourceBundleName>
+     * @param key
+     *            The key
+     * @return <code>true</code> if one of the resource bundles has the key
+     */
+    public synchronized boolean containsKey(String resourceBundleId,
+            String key) {
+        BundleIndexSnapshot.Group group = getSnapshotGroup(resourceBundleId);
+        if (group != null) {
+            return group.containsKey(key);
+        }
+
+        IMessagesBundleGroup bundleGroup = getMessagesBundleGroup(resourceBundleId);
+        return bundleGroup != null && bundleGroup.containsKey(key);
+    }
+
+    /**
+     * Gets the locales of a resource bundle. If the resource bundle has not
+     * been read yet, and its files did not change since the previous session,
+     * the answer is taken from the snapshot of that session.
+     * 
+     * @param resourceBundleId
+     *            <package>.<resourceBundleName>
+     * @return The locales, <code>null</code> standing for the default locale
+     */
+    public synchronized Set<Locale> getLocales(String resourceBundleId) {
+        BundleIndexSnapshot.Group group = getSnapshotGroup(resourceBundleId);
+        if (group != null) {
+            return group.getLocales();
+        }
+
+        Set<Locale> locales = new HashSet<Locale>();
+        IMessagesBundleGroup bundleGroup = getMessagesBundleGroup(resourceBundleId);
+        if (bundleGroup != null) {
+            for (IMessagesBundle bundle : bundleGroup.getMessagesBundles()) {
+                locales.add(bundle.getLocale());
+            }
+        }
+        return locales;
+    }
+
+    private synchronized BundleIndexSnapshot.Group getSnapshotGroup(
+            String resourceBundleId) {
+        if (resourceBundles.containsKey(resourceBundleId)) {
+            return null;
+        }
+        Set<IResource> files = bundleFiles.get(resourceBundleId);
+        if (files == null) {
+            return null;
+        }
+        BundleIndexSnapshot.Group group = getSnapshot().getGroup(
+                getGroupName(resourceBundleId), files);
+        if (group != null) {
+            SNAPSHOT_HITS.increment();
+        }
+        return group;
+    }
+
+    private String getGroupName(String resourceBundleId) {
+        return project.getName() + "/" + resourceBundleId;
+    }
+
+    /**
+     * Reads a resource bundle whose files have been recorded by
+     * {@link #addBundleResource(IResource)}, and records its keys and locales
+     * in the snapshot.
+     */
+    private synchronized void loadBundleGroup(String resourceBundleId) {
+        Set<IResource> files = bundleFiles.remove(resourceBundleId);
+        if (files == null || files.isEmpty()
+                || resourceBundles.containsKey(resourceBundleId)) {
+            return;
+        }
+
+        // if we do not have this condition, then you will be doomed with
+        // resource out of syncs, because here we instantiate
+        // PropertiesFileResources, which have an evil setText-Method
+        long start = LOAD_TIMER.start();
+        try {
+            MessagesBundleGroupFactory.createBundleGroup(files.iterator()
+                    .next());
+        } finally {
+            LOAD_TIMER.stop(start);
+        }
+        LOAD_FILES.update(files.size());
+
+        logger.log(Level.INFO, "loadBundleGroup: " + resourceBundleId + " ("
+                + files.size() + " files)");
+
+        IMessagesBundleGroup bundleGroup = resourceBundles
+                .get(resourceBundleId);
+        if (bundleGroup != null) {
+            getSnapshot().putGroup(getGroupName(resourceBundleId),
+                    bundleGroup, files);
+        }
+    }
+
+    /**
+     * @return The snapshot of the bundle groups, read from the state location
+     *         of the plug-in and written to it when the workspace is saved
+     */
+    private static synchronized BundleIndexSnapshot getSnapshot() {
+        if (snapshot == null) {
+            snapshot = new BundleIndexSnapshot();
+            try {
+                final File file = Platform
+                        .getStateLocation(Platform.getBundle(PLUGIN_ID))
+                        .append(SNAPSHOT_FILE).toFile();
+                snapshot.load(file);
+
+                ResourcesPlugin.getWorkspace().addSaveParticipant(PLUGIN_ID,
+                        new ISaveParticipant() {
+                            @Override
+                            public void prepareToSave(ISaveContext context) {
+                            }
+
+                            @Override
+                            public void saving(ISaveContext context) {
+                                if (context.getKind() == ISaveContext.FULL_SAVE) {
+                                    snapshot.save(file);
+                                }
+                            }
+
+                            @Override
+                            public void doneSaving(ISaveContext context) {
+                            }
+
+                            @Override
+                            public void rollback(ISaveContext context) {
+                            }
+                        });
+            } catch (Exception e) {
+                // no state location, the snapshot lives for this session only
+                logger.log(Level.WARNING,
+                        "getSnapshot: cannot use the state location", e);
+            }
+        }
+        return snapshot;
     }
 
     /**
@@ -383,7 +591,7 @@ public final class RBManager {
      *            The project, which is managed by the {@link RBManager}
      * @return The corresponding {@link RBManager} to the project
      */
-    public static RBManager getInstance(IProject project) {
+    public static synchronized RBManager getInstance(IProject project) {
         // set host-project
         if (PDEUtils.isFragment(project)) {
             project = PDEUtils.getFragmentHost(project);
@@ -541,19 +749,19 @@ public final class RBManager {
 
     // passive loading -> see detectResourceBundles
     /**
-     * Invoked by {@link #detectResourceBundles()}.
+     * Invoked by {@link #detectResourceBundles()}. The bundle group of the
+     * resource is only read when it is first asked for, see
+     * {@link #getMessagesBundleGroup(String)}.
      */
-    public void addBundleResource(IResource resource) {
-        // create it with MessagesBundleFactory or read from resource!
-        // we can optimize that, now we create a bundle group for each bundle
-        // we should create a bundle group only once!
-
+    public synchronized void addBundleResource(IResource resource) {
         String resourceBundleId = NameUtils.getResourceBundleId(resource);
         if (!resourceBundles.containsKey(resourceBundleId)) {
-            // if we do not have this condition, then you will be doomed with
-            // resource out of syncs, because here we instantiate
-            // PropertiesFileResources, which have an evil setText-Method
-            MessagesBundleGroupFactory.createBundleGroup(resource);
+            Set<IResource> files = bundleFiles.get(resourceBundleId);
+            if (files == null) {
+                files = new HashSet<IResource>();
+                bundleFiles.put(resourceBundleId, files);
+            }
+            files.add(resource);
 
             logger.log(Level.INFO, "addBundleResource (passive loading): "
                     + resourceBundleId + " (" + resource.getName() + ")");
@@ -561,9 +769,27 @@ public final class RBManager {
     }
 
     public void writeToFile(IMessagesBundleGroup bundleGroup) {
+        List<IResource> files = new ArrayList<IResource>();
         for (IMessagesBundle bundle : bundleGroup.getMessagesBundles()) {
-            FileUtils.writeToFile(bundle);
+            long start = SAVE_TIMER.start();
+            try {
+                FileUtils.writeToFile(bundle);
+            } finally {
+                SAVE_TIMER.stop(start);
+            }
             fireResourceChanged(bundle);
+
+            IResource file = FileUtils.getFile(bundle);
+            if (file != null) {
+                files.add(file);
+            }
+        }
+
+        String groupName = getGroupName(bundleGroup.getResourceBundleId());
+        if (files.size() == bundleGroup.getMessagesBundleCount()) {
+            getSnapshot().putGroup(groupName, bundleGroup, files);
+        } else {
+            getSnapshot().removeGroup(groupName);
         }
     }
 
@@ -63,6 +63,24 @@ public abstract class AbstractPropertiesResource extends
         deserializer.deserialize(messagesBundle, getText());
     }
 
+    /**
+     * Gets the serializer used to write messages bundles.
+     * 
+     * @return properties serializer
+     */
+    protected PropertiesSerializer getSerializer() {
+        return serializer;
+    }
+
+    /**
+     * Gets the deserializer used to populate messages bundles.
+     * 
+     * @return properties deserializer
+     */
+    protected PropertiesDeserializer getDeserializer() {
+        return deserializer;
+    }
+
     /**
      * Gets the {@link Properties}-like formated text.
      * 
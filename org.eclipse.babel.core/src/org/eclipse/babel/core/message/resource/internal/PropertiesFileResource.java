@@ -10,6 +10,8 @@
  ******************************************************************************/
 package org.eclipse.babel.core.message.resource.internal;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
@@ -21,10 +23,12 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Locale;
 
+import org.eclipse.babel.core.message.IMessagesBundle;
 import org.eclipse.babel.core.message.resource.ser.PropertiesDeserializer;
 import org.eclipse.babel.core.message.resource.ser.PropertiesSerializer;
 import org.eclipse.babel.core.util.FileChangeListener;
 import org.eclipse.babel.core.util.FileMonitor;
+import org.eclipse.babel.core.util.FileUtils;
 
 /**
  * Properties file, where the underlying storage is a regular {@link File}. For
@@ -62,8 +66,7 @@ public class PropertiesFileResource extends AbstractPropertiesResource {
         this.fileChangeListener = new FileChangeListenerImpl();
 
         FileMonitor.getInstance().addFileChangeListener(
-                this.fileChangeListener, file, 2000); // TODO make file scan
-        // delay configurable
+                this.fileChangeListener, file);
     }
 
     /**
@@ -95,6 +98,64 @@ public class PropertiesFileResource extends AbstractPropertiesResource {
         return outputStream.toString();
     }
 
+    /**
+     * Streams the serialized bundle into a temporary file next to the file
+     * instead of building its text first, then replaces the file with it. The
+     * file is left untouched if the bundle cannot be written.
+     * 
+     * @see org.eclipse.babel.core.message.internal.resource.AbstractPropertiesResource
+     *      #serialize(org.eclipse.babel.core.message.IMessagesBundle)
+     */
+    @Override
+    public void serialize(IMessagesBundle messagesBundle) {
+        File tempFile = null;
+        Writer writer = null;
+        try {
+            tempFile = File.createTempFile(file.getName(), ".tmp", //$NON-NLS-1$
+                    file.getAbsoluteFile().getParentFile());
+            writer = new BufferedWriter(new FileWriter(tempFile));
+            getSerializer().serialize(messagesBundle, writer);
+            writer.close();
+            writer = null;
+            FileUtils.replaceFile(file, tempFile);
+            tempFile = null;
+        } catch (IOException e) {
+            // TODO handle better.
+            throw new RuntimeException("Cannot write properties file.", e);
+        } finally {
+            closeWriter(writer);
+            if (tempFile != null) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    /**
+     * Streams the file straight into the deserializer instead of loading its
+     * text first.
+     * 
+     * @see org.eclipse.babel.core.message.internal.resource.AbstractPropertiesResource
+     *      #deserialize(org.eclipse.babel.core.message.IMessagesBundle)
+     */
+    @Override
+    public void deserialize(IMessagesBundle messagesBundle) {
+        if (!file.exists()) {
+            getDeserializer().deserialize(messagesBundle, ""); //$NON-NLS-1$
+            return;
+        }
+        Reader reader = null;
+        try {
+            reader = new BufferedReader(new FileReader(file));
+            getDeserializer().deserialize(messagesBundle, reader);
+        } catch (IOException e) {
+            // TODO handle better.
+            throw new RuntimeException(
+                    "Cannot get properties file text. Handle better.", e);
+        } finally {
+            closeReader(reader);
+        }
+    }
+
     /**
      * @see org.eclipse.babel.core.message.internal.resource.AbstractPropertiesResource
      *      #setText(java.lang.String)
@@ -10,15 +10,22 @@
  ******************************************************************************/
 package org.eclipse.babel.core.message.resource.ser;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import org.eclipse.babel.core.message.IMessage;
 import org.eclipse.babel.core.message.IMessagesBundle;
 import org.eclipse.babel.core.message.internal.Message;
 import org.eclipse.babel.core.message.internal.MessagesBundle;
+import org.eclipse.babel.core.metrics.Histogram;
+import org.eclipse.babel.core.metrics.Metrics;
+import org.eclipse.babel.core.metrics.Timer;
 import org.eclipse.babel.core.util.BabelUtils;
 
 /**
@@ -36,6 +43,11 @@ public class PropertiesDeserializer {
     /** Characters accepted as key value separators. */
     private static final String KEY_VALUE_SEPARATORS = "=:"; //$NON-NLS-1$
 
+    private static final Timer DESERIALIZE_TIMER = Metrics
+            .timer("PropertiesDeserializer.deserialize"); //$NON-NLS-1$
+    private static final Histogram DESERIALIZE_KEYS = Metrics
+            .histogram("PropertiesDeserializer.keys"); //$NON-NLS-1$
+
     /** MessagesBundle deserializer configuration. */
     private IPropertiesDeserializerConfig config;
 
@@ -57,30 +69,89 @@ public class PropertiesDeserializer {
      *            the string containing the properties to parse
      */
     public void deserialize(IMessagesBundle messagesBundle, String properties) {
-        Locale locale = messagesBundle.getLocale();
+        deserialize(messagesBundle, (CharSequence) properties);
+    }
 
-        Collection<String> oldKeys = new ArrayList<String>(
-                Arrays.asList(messagesBundle.getKeys()));
-        Collection<String> newKeys = new ArrayList<String>();
+    /**
+     * Parses a character sequence and populates a <code>MessagesBundle</code>.
+     * The text is expected to match the documented structure of a properties
+     * file.
+     * 
+     * @param messagesBundle
+     *            the target {@link MessagesBundle}
+     * @param properties
+     *            the text containing the properties to parse
+     */
+    public void deserialize(IMessagesBundle messagesBundle,
+            CharSequence properties) {
+        try {
+            deserialize(messagesBundle, new LineReader(properties));
+        } catch (IOException e) {
+            // cannot happen, the text is already in memory
+            throw new IllegalStateException(e);
+        }
+    }
 
-        String[] lines = properties.split("\r\n|\r|\n"); //$NON-NLS-1$
+    /**
+     * Parses the text read from a reader and populates a
+     * <code>MessagesBundle</code>. The text is expected to match the documented
+     * structure of a properties file. The reader is not closed.
+     * 
+     * @param messagesBundle
+     *            the target {@link MessagesBundle}
+     * @param reader
+     *            the reader providing the properties to parse
+     * @throws IOException
+     *             if the reader cannot be read
+     */
+    public void deserialize(IMessagesBundle messagesBundle, Reader reader)
+            throws IOException {
+        deserialize(messagesBundle, new LineReader(reader));
+    }
+
+    private void deserialize(IMessagesBundle messagesBundle, LineReader lines)
+            throws IOException {
+        long start = DESERIALIZE_TIMER.start();
+        try {
+            parse(messagesBundle, lines);
+        } finally {
+            DESERIALIZE_TIMER.stop(start);
+        }
+        if (Metrics.isEnabled()) {
+            DESERIALIZE_KEYS.update(messagesBundle.getKeys().length);
+        }
+    }
+
+    private void parse(IMessagesBundle messagesBundle, LineReader lines)
+            throws IOException {
+        Locale locale = messagesBundle.getLocale();
+        boolean unicodeUnescape = config != null
+                && config.isUnicodeUnescapeEnabled();
+
+        // the key array of the bundle is never modified in place, it is a
+        // stable snapshot of the keys before parsing
+        String[] oldKeys = messagesBundle.getKeys();
+        Set<String> newKeys = new HashSet<String>();
 
         boolean doneWithFileComment = false;
-        StringBuffer fileComment = new StringBuffer();
-        StringBuffer lineComment = new StringBuffer();
-        StringBuffer lineBuf = new StringBuffer();
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i];
-            lineBuf.setLength(0);
-            lineBuf.append(line);
-
-            int equalPosition = findKeyValueSeparator(line);
-            boolean isRegularLine = line.matches("^[^#].*"); //$NON-NLS-1$
-            boolean isCommentedLine = doneWithFileComment
-                    && line.matches("^##[^#].*"); //$NON-NLS-1$
+        StringBuilder fileComment = new StringBuilder();
+        StringBuilder lineComment = new StringBuilder();
+        StringBuilder lineBuf = new StringBuilder();
+        StringBuilder textBuf = new StringBuilder();
+        String line;
+        while ((line = lines.readLine()) != null) {
+            int length = line.length();
+            boolean isRegularLine = length > 0 && line.charAt(0) != '#';
+            boolean isCommentedLine = doneWithFileComment && length > 2
+                    && line.charAt(0) == '#' && line.charAt(1) == '#'
+                    && line.charAt(2) != '#';
+            int equalPosition = -1;
+            if (isRegularLine || isCommentedLine) {
+                equalPosition = findKeyValueSeparator(line);
+            }
 
             // parse regular and commented lines
-            if (equalPosition >= 1 && (isRegularLine || isCommentedLine)) {
+            if (equalPosition >= 1) {
                 doneWithFileComment = true;
                 String comment = ""; //$NON-NLS-1$
                 if (lineComment.length() > 0) {
@@ -88,41 +159,46 @@ public class PropertiesDeserializer {
                     lineComment.setLength(0);
                 }
 
+                lineBuf.setLength(0);
                 if (isCommentedLine) {
-                    lineBuf.delete(0, 2); // remove ##
+                    lineBuf.append(line, 2, length); // remove ##
                     equalPosition -= 2;
+                } else {
+                    lineBuf.append(line);
                 }
-                String backslash = "\\"; //$NON-NLS-1$
-                while (lineBuf.lastIndexOf(backslash) == lineBuf.length() - 1) {
-                    int lineBreakPosition = lineBuf.lastIndexOf(backslash);
-                    lineBuf.replace(lineBreakPosition, lineBreakPosition + 1,
-                            ""); //$NON-NLS-1$
-                    if (++i < lines.length) {
-                        String wrappedLine = lines[i].replaceFirst("^\\s*", ""); //$NON-NLS-1$ //$NON-NLS-2$
-                        if (isCommentedLine) {
-                            lineBuf.append(wrappedLine.replaceFirst("^##", "")); //$NON-NLS-1$ //$NON-NLS-2$
-                        } else {
-                            lineBuf.append(wrappedLine);
+                while (lineBuf.length() > 0
+                        && lineBuf.charAt(lineBuf.length() - 1) == '\\') {
+                    lineBuf.setLength(lineBuf.length() - 1);
+                    String wrappedLine = lines.readLine();
+                    if (wrappedLine != null) {
+                        int wrappedStart = skipWhitespace(wrappedLine, 0);
+                        if (isCommentedLine
+                                && wrappedLine.startsWith("##", wrappedStart)) { //$NON-NLS-1$
+                            wrappedStart += 2;
                         }
+                        lineBuf.append(wrappedLine, wrappedStart,
+                                wrappedLine.length());
                     }
                 }
-                String key = lineBuf.substring(0, equalPosition).trim();
-                key = unescapeKey(key);
 
-                String value = lineBuf.substring(equalPosition + 1)
-                        .replaceFirst("^\\s*", ""); //$NON-NLS-1$//$NON-NLS-2$
+                String key = parseKey(lineBuf, equalPosition, unicodeUnescape,
+                        textBuf);
+
+                int valueStart = skipWhitespace(lineBuf, equalPosition + 1);
                 // Unescape leading spaces
-                if (value.startsWith("\\ ")) { //$NON-NLS-1$
-                    value = value.substring(1);
+                if (valueStart + 1 < lineBuf.length()
+                        && lineBuf.charAt(valueStart) == '\\'
+                        && lineBuf.charAt(valueStart + 1) == ' ') {
+                    valueStart++;
                 }
-
-                if (this.config != null && config.isUnicodeUnescapeEnabled()) {
-                    key = convertEncodedToUnicode(key);
-                    value = convertEncodedToUnicode(value);
+                textBuf.setLength(0);
+                if (unicodeUnescape) {
+                    convertEncodedToUnicode(lineBuf, valueStart, textBuf);
                 } else {
-                    value = value.replaceAll("\\\\r", "\r"); //$NON-NLS-1$ //$NON-NLS-2$
-                    value = value.replaceAll("\\\\n", "\n"); //$NON-NLS-1$//$NON-NLS-2$
+                    convertNewLines(lineBuf, valueStart, textBuf);
                 }
+                String value = textBuf.toString();
+
                 IMessage entry = messagesBundle.getMessage(key);
                 if (entry == null) {
                     entry = new Message(key, locale);
@@ -133,12 +209,12 @@ public class PropertiesDeserializer {
                 entry.setText(value);
                 newKeys.add(key);
                 // parse comment line
-            } else if (lineBuf.indexOf("#") == 0) { //$NON-NLS-1$
+            } else if (length > 0 && line.charAt(0) == '#') {
                 if (!doneWithFileComment) {
-                    fileComment.append(lineBuf);
+                    fileComment.append(line);
                     fileComment.append(SYSTEM_LINE_SEPARATOR);
                 } else {
-                    lineComment.append(lineBuf);
+                    lineComment.append(line);
                     lineComment.append(SYSTEM_LINE_SEPARATOR);
                 }
                 // handle blank or unsupported line
@@ -146,27 +222,129 @@ public class PropertiesDeserializer {
                 doneWithFileComment = true;
             }
         }
-        oldKeys.removeAll(newKeys);
-        messagesBundle
-                .removeMessages(oldKeys.toArray(BabelUtils.EMPTY_STRINGS));
+
+        List<String> removedKeys = new ArrayList<String>();
+        for (String oldKey : oldKeys) {
+            if (!newKeys.contains(oldKey)) {
+                removedKeys.add(oldKey);
+            }
+        }
+        if (!removedKeys.isEmpty()) {
+            messagesBundle.removeMessages(removedKeys
+                    .toArray(BabelUtils.EMPTY_STRINGS));
+        }
         messagesBundle.setComment(fileComment.toString());
     }
 
+    /**
+     * Extracts the key of a logical line: the text before the separator,
+     * trimmed and with escape sequences resolved.
+     * 
+     * @param line
+     *            the logical line
+     * @param separatorPosition
+     *            the key value separator index
+     * @param unicodeUnescape
+     *            whether &#92;uxxxx sequences are decoded
+     * @param buf
+     *            reusable work buffer
+     * @return the key
+     */
+    private String parseKey(CharSequence line, int separatorPosition,
+            boolean unicodeUnescape, StringBuilder buf) {
+        int start = 0;
+        int end = separatorPosition;
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        buf.setLength(0);
+        if (unicodeUnescape) {
+            convertEncodedToUnicode(line.subSequence(start, end), 0, buf);
+        } else {
+            for (int i = start; i < end; i++) {
+                char currentChar = line.charAt(i);
+                if (currentChar != '\\') {
+                    buf.append(currentChar);
+                }
+            }
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Copies a value, converting escaped &#92;r and &#92;n to their original
+     * forms.
+     * 
+     * @param str
+     *            the text holding the value
+     * @param start
+     *            the value start index
+     * @param outBuffer
+     *            where to append the converted value
+     */
+    private void convertNewLines(CharSequence str, int start,
+            StringBuilder outBuffer) {
+        int len = str.length();
+        for (int x = start; x < len; x++) {
+            char aChar = str.charAt(x);
+            if (aChar == '\\' && x + 1 < len) {
+                char nextChar = str.charAt(x + 1);
+                if (nextChar == 'r') {
+                    aChar = '\r';
+                    x++;
+                } else if (nextChar == 'n') {
+                    aChar = '\n';
+                    x++;
+                }
+            }
+            outBuffer.append(aChar);
+        }
+    }
+
+    /**
+     * Finds the first character which is not a whitespace.
+     * 
+     * @param str
+     *            the text to scan
+     * @param start
+     *            where to start scanning
+     * @return index of the first non whitespace character, or the text length
+     */
+    private static int skipWhitespace(CharSequence str, int start) {
+        int len = str.length();
+        int index = start;
+        while (index < len && isWhitespace(str.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f'
+                || c == '\u000B';
+    }
+
     /**
      * Converts encoded &#92;uxxxx to unicode chars and changes special saved
      * chars to their original forms
      * 
      * @param str
-     *            the string to convert
-     * @return converted string
+     *            the text to convert
+     * @param start
+     *            the index to start converting from
+     * @param outBuffer
+     *            where to append the converted text
      * @see java.util.Properties
      */
-    private String convertEncodedToUnicode(String str) {
+    private void convertEncodedToUnicode(CharSequence str, int start,
+            StringBuilder outBuffer) {
         char aChar;
         int len = str.length();
-        StringBuffer outBuffer = new StringBuffer(len);
 
-        for (int x = 0; x < len;) {
+        for (int x = start; x < len;) {
             aChar = str.charAt(x++);
             if (aChar == '\\' && x + 1 <= len) {
                 aChar = str.charAt(x++);
@@ -231,7 +409,6 @@ public class PropertiesDeserializer {
                 outBuffer.append(aChar);
             }
         }
-        return outBuffer.toString();
     }
 
     /**
@@ -256,16 +433,57 @@ public class PropertiesDeserializer {
         return index;
     }
 
-    private String unescapeKey(String key) {
-        int length = key.length();
-        StringBuffer buf = new StringBuffer();
-        for (int index = 0; index < length; index++) {
-            char currentChar = key.charAt(index);
-            if (currentChar != '\\') {
-                buf.append(currentChar);
+    /**
+     * Splits text into lines terminated by either "\r\n", "\r" or "\n",
+     * reading from an in-memory character sequence or a reader.
+     */
+    private static final class LineReader {
+
+        private final CharSequence text;
+        private final BufferedReader reader;
+        private int position;
+
+        LineReader(CharSequence text) {
+            this.text = text;
+            this.reader = null;
+        }
+
+        LineReader(Reader reader) {
+            this.text = null;
+            if (reader instanceof BufferedReader) {
+                this.reader = (BufferedReader) reader;
+            } else {
+                this.reader = new BufferedReader(reader);
             }
         }
-        return buf.toString();
-    }
 
+        /**
+         * @return the next line without its terminator, or <code>null</code>
+         *         once the end of the text is reached
+         */
+        String readLine() throws IOException {
+            if (reader != null) {
+                return reader.readLine();
+            }
+            int length = text.length();
+            if (position >= length) {
+                return null;
+            }
+            int start = position;
+            int end = start;
+            while (end < length) {
+                char c = text.charAt(end);
+                if (c == '\n' || c == '\r') {
+                    break;
+                }
+                end++;
+            }
+            position = end + 1;
+            if (end + 1 < length && text.charAt(end) == '\r'
+                    && text.charAt(end + 1) == '\n') {
+                position++;
+            }
+            return text.subSequence(start, end).toString();
+        }
+    }
 }
@@ -10,12 +10,19 @@
  ******************************************************************************/
 package org.eclipse.babel.core.message.resource.ser;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import org.eclipse.babel.core.message.IMessage;
 import org.eclipse.babel.core.message.IMessagesBundle;
 import org.eclipse.babel.core.message.internal.MessagesBundle;
+import org.eclipse.babel.core.metrics.Metrics;
+import org.eclipse.babel.core.metrics.Timer;
 
 /**
  * Class responsible for serializing a {@link MessagesBundle} into
@@ -41,15 +48,18 @@ public class PropertiesSerializer {
     /** System line separator. */
     private static final String SYSTEM_LINE_SEP = System
             .getProperty("line.separator"); //$NON-NLS-1$
-    /** Forced line separators. */
+    /** Forced line separators, as escaped in values. */
     private static final String[] FORCED_LINE_SEP = new String[4];
     static {
         FORCED_LINE_SEP[IPropertiesSerializerConfig.NEW_LINE_DEFAULT] = null;
-        FORCED_LINE_SEP[IPropertiesSerializerConfig.NEW_LINE_UNIX] = "\\\\n"; //$NON-NLS-1$
-        FORCED_LINE_SEP[IPropertiesSerializerConfig.NEW_LINE_WIN] = "\\\\r\\\\n"; //$NON-NLS-1$
-        FORCED_LINE_SEP[IPropertiesSerializerConfig.NEW_LINE_MAC] = "\\\\r"; //$NON-NLS-1$
+        FORCED_LINE_SEP[IPropertiesSerializerConfig.NEW_LINE_UNIX] = "\\n"; //$NON-NLS-1$
+        FORCED_LINE_SEP[IPropertiesSerializerConfig.NEW_LINE_WIN] = "\\r\\n"; //$NON-NLS-1$
+        FORCED_LINE_SEP[IPropertiesSerializerConfig.NEW_LINE_MAC] = "\\r"; //$NON-NLS-1$
     }
 
+    private static final Timer SERIALIZE_TIMER = Metrics
+            .timer("PropertiesSerializer.serialize"); //$NON-NLS-1$
+
     private IPropertiesSerializerConfig config;
 
     /**
@@ -74,48 +84,75 @@ public class PropertiesSerializer {
      * @return the generated string
      */
     public String serialize(IMessagesBundle messagesBundle) {
+        StringWriter text = new StringWriter();
+        try {
+            serialize(messagesBundle, text);
+        } catch (IOException e) {
+            // cannot happen, the text is kept in memory
+            throw new IllegalStateException(e);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Serializes a given <code>MessagesBundle</code> into a writer. The written
+     * text will conform to documented properties file structure. The writer is
+     * neither flushed nor closed.
+     * 
+     * @param messagesBundle
+     *            the bundle used to generate the text
+     * @param text
+     *            where to write the generated text
+     * @throws IOException
+     *             if the text cannot be written
+     */
+    public void serialize(IMessagesBundle messagesBundle, Writer text)
+            throws IOException {
+        long start = SERIALIZE_TIMER.start();
+        try {
+            write(messagesBundle, text);
+        } finally {
+            SERIALIZE_TIMER.stop(start);
+        }
+    }
+
+    private void write(IMessagesBundle messagesBundle, Writer text)
+            throws IOException {
         String lineBreak = SYSTEM_LINE_SEP;
         int numOfLineBreaks = config.getGroupSepBlankLineCount();
-        StringBuffer text = new StringBuffer();
 
         // Header comment
         String headComment = messagesBundle.getComment();
         if (config.isShowSupportEnabled()
-                && !headComment.startsWith(GENERATED_BY)) {
-            text.append(GENERATED_BY);
-            text.append(SYSTEM_LINE_SEP);
+                && (headComment == null || !headComment
+                        .startsWith(GENERATED_BY))) {
+            text.write(GENERATED_BY);
+            text.write(SYSTEM_LINE_SEP);
         }
         if (headComment != null && headComment.length() > 0) {
-            text.append(headComment);
+            text.write(headComment);
         }
 
         // Format
         String group = null;
         int equalIndex = -1;
         String[] keys = messagesBundle.getKeys();
+        EqualIndexes equalIndexes = new EqualIndexes(keys);
         if (config.isKeySortingEnabled()) {
+            // bundle keys are shared, sort a copy
+            keys = keys.clone();
             Arrays.sort(keys);
         }
+        StringBuilder buf = new StringBuilder();
         for (int i = 0; i < keys.length; i++) {
             String key = keys[i];
             IMessage message = messagesBundle.getMessage(key);
             String value = message.getValue();
             String comment = message.getComment();
 
+            // escape backslashes, new lines and unicodes
             if (value != null) {
-                // escape backslashes
-                if (config.isUnicodeEscapeEnabled()) {
-                    value = value.replaceAll("\\\\", "\\\\\\\\");//$NON-NLS-1$ //$NON-NLS-2$
-                }
-
-                // handle new lines in value
-                String lineStyleCh = FORCED_LINE_SEP[config.getNewLineStyle()];
-                if (lineStyleCh != null) {
-                    value = value.replaceAll("\r\n|\r|\n", lineStyleCh); //$NON-NLS-1$
-                } else {
-                    value = value.replaceAll("\r", "\\\\r"); //$NON-NLS-1$ //$NON-NLS-2$
-                    value = value.replaceAll("\n", "\\\\n"); //$NON-NLS-1$ //$NON-NLS-2$
-                }
+                value = escapeValue(value, buf);
             } else {
                 value = ""; //$NON-NLS-1$
             }
@@ -128,28 +165,66 @@ public class PropertiesSerializer {
                 String newGroup = getKeyGroup(key);
                 if (newGroup == null || !newGroup.equals(group)) {
                     group = newGroup;
-                    equalIndex = getEqualIndex(key, group, messagesBundle);
+                    equalIndex = equalIndexes.get(key, group);
                     for (int j = 0; j < numOfLineBreaks; j++) {
-                        text.append(lineBreak);
+                        text.write(lineBreak);
                     }
                 }
             } else {
-                equalIndex = getEqualIndex(key, null, messagesBundle);
+                equalIndex = equalIndexes.get(key, null);
             }
 
             // Build line
             if (config.isUnicodeEscapeEnabled()) {
-                key = convertUnicodeToEncoded(key);
-                value = convertUnicodeToEncoded(value);
+                key = convertUnicodeToEncoded(key, buf);
             }
             if (comment != null && comment.length() > 0) {
-                text.append(comment);
+                text.write(comment);
             }
             appendKey(text, key, equalIndex, message.isActive());
-            appendValue(text, value, equalIndex, message.isActive());
-            text.append(lineBreak);
+            appendValue(text, value, equalIndex, message.isActive(), buf);
+            text.write(lineBreak);
         }
-        return text.toString();
+    }
+
+    /**
+     * Escapes a value in a single pass: backslashes and unicodes when unicode
+     * escaping is enabled, and new lines according to the configured style.
+     * 
+     * @param value
+     *            the value to escape
+     * @param buf
+     *            reusable work buffer
+     * @return escaped value
+     */
+    private String escapeValue(String value, StringBuilder buf) {
+        boolean unicodeEscape = config.isUnicodeEscapeEnabled();
+        String lineStyleCh = FORCED_LINE_SEP[config.getNewLineStyle()];
+        int len = value.length();
+        buf.setLength(0);
+        for (int x = 0; x < len; x++) {
+            char aChar = value.charAt(x);
+            if (aChar == '\\' && unicodeEscape) {
+                buf.append("\\\\"); //$NON-NLS-1$
+            } else if (aChar == '\r' || aChar == '\n') {
+                if (lineStyleCh != null) {
+                    if (aChar == '\r' && x + 1 < len
+                            && value.charAt(x + 1) == '\n') {
+                        x++;
+                    }
+                    buf.append(lineStyleCh);
+                } else if (aChar == '\r') {
+                    buf.append("\\r"); //$NON-NLS-1$
+                } else {
+                    buf.append("\\n"); //$NON-NLS-1$
+                }
+            } else if (unicodeEscape && ((aChar < 0x0020) || (aChar > 0x007e))) {
+                appendEncodedUnicode(buf, aChar);
+            } else {
+                buf.append(aChar);
+            }
+        }
+        return buf.toString();
     }
 
     /**
@@ -157,22 +232,19 @@ public class PropertiesSerializer {
      * 
      * @param str
      *            string to convert
+     * @param outBuffer
+     *            reusable work buffer
      * @return converted string
      * @see java.util.Properties
      */
-    private String convertUnicodeToEncoded(String str) {
+    private String convertUnicodeToEncoded(String str, StringBuilder outBuffer) {
         int len = str.length();
-        StringBuffer outBuffer = new StringBuffer(len * 2);
+        outBuffer.setLength(0);
 
         for (int x = 0; x < len; x++) {
             char aChar = str.charAt(x);
             if ((aChar < 0x0020) || (aChar > 0x007e)) {
-                outBuffer.append('\\');
-                outBuffer.append('u');
-                outBuffer.append(toHex((aChar >> 12) & 0xF));
-                outBuffer.append(toHex((aChar >> 8) & 0xF));
-                outBuffer.append(toHex((aChar >> 4) & 0xF));
-                outBuffer.append(toHex(aChar & 0xF));
+                appendEncodedUnicode(outBuffer, aChar);
             } else {
                 outBuffer.append(aChar);
             }
@@ -180,6 +252,23 @@ public class PropertiesSerializer {
         return outBuffer.toString();
     }
 
+    /**
+     * Appends a character encoded as &#92;uxxxx.
+     * 
+     * @param outBuffer
+     *            the buffer to append to
+     * @param aChar
+     *            the character to encode
+     */
+    private void appendEncodedUnicode(StringBuilder outBuffer, char aChar) {
+        outBuffer.append('\\');
+        outBuffer.append('u');
+        outBuffer.append(toHex((aChar >> 12) & 0xF));
+        outBuffer.append(toHex((aChar >> 8) & 0xF));
+        outBuffer.append(toHex((aChar >> 4) & 0xF));
+        outBuffer.append(toHex(aChar & 0xF));
+    }
+
     /**
      * Converts a nibble to a hex character
      * 
@@ -206,9 +295,13 @@ public class PropertiesSerializer {
      *            the equal sign position
      * @param active
      *            is the value active or not
+     * @param buf
+     *            reusable work buffer
+     * @throws IOException
+     *             if the value cannot be written
      */
-    private void appendValue(StringBuffer text, String value, int equalIndex,
-            boolean active) {
+    private void appendValue(Writer text, String value, int equalIndex,
+            boolean active, StringBuilder buf) throws IOException {
         if (value != null) {
             // Escape potential leading spaces.
             if (value.startsWith(" ")) { //$NON-NLS-1$
@@ -224,12 +317,11 @@ public class PropertiesSerializer {
 
             // Break line after escaped new line
             if (config.isNewLineNice()) {
-                value = value.replaceAll("(\\\\r\\\\n|\\\\r|\\\\n)", //$NON-NLS-1$
-                        "$1\\\\" + SYSTEM_LINE_SEP); //$NON-NLS-1$
+                value = breakAfterNewLines(value, buf);
             }
             // Wrap lines
             if (config.isWrapLinesEnabled() && valueStartPos < lineLength) {
-                StringBuffer valueBuf = new StringBuffer(value);
+                StringBuilder valueBuf = new StringBuilder(value);
                 while (valueBuf.length() + valueStartPos > lineLength
                         || valueBuf.indexOf("\n") != -1) { //$NON-NLS-1$
                     int endPos = Math.min(valueBuf.length(), lineLength
@@ -239,15 +331,13 @@ public class PropertiesSerializer {
                     if (breakPos != -1) {
                         endPos = breakPos + SYSTEM_LINE_SEP.length();
                         saveValue(text, valueBuf.substring(0, endPos));
-                        // text.append(valueBuf.substring(0, endPos));
                     } else {
                         breakPos = line.lastIndexOf(' ');
                         if (breakPos != -1) {
                             endPos = breakPos + 1;
                             saveValue(text, valueBuf.substring(0, endPos));
-                            // text.append(valueBuf.substring(0, endPos));
-                            text.append("\\"); //$NON-NLS-1$
-                            text.append(SYSTEM_LINE_SEP);
+                            text.write("\\"); //$NON-NLS-1$
+                            text.write(SYSTEM_LINE_SEP);
                         }
                     }
                     valueBuf.delete(0, endPos);
@@ -257,21 +347,55 @@ public class PropertiesSerializer {
                     }
 
                     if (!active && valueStartPos > 0) {
-                        text.append("##"); //$NON-NLS-1$
+                        text.write("##"); //$NON-NLS-1$
                     }
 
                     for (int i = 0; i < valueStartPos; i++) {
-                        text.append(' ');
+                        text.write(' ');
                     }
                 }
                 text.append(valueBuf);
             } else {
                 saveValue(text, value);
-                // text.append(value);
             }
         }
     }
 
+    /**
+     * Inserts a line continuation after each escaped new line (&#92;r&#92;n,
+     * &#92;r or &#92;n) of an escaped value.
+     * 
+     * @param value
+     *            the escaped value
+     * @param buf
+     *            reusable work buffer
+     * @return the value with line continuations
+     */
+    private String breakAfterNewLines(String value, StringBuilder buf) {
+        int len = value.length();
+        buf.setLength(0);
+        for (int x = 0; x < len; x++) {
+            char aChar = value.charAt(x);
+            buf.append(aChar);
+            if (aChar == '\\' && x + 1 < len) {
+                char nextChar = value.charAt(x + 1);
+                if (nextChar == 'r' || nextChar == 'n') {
+                    buf.append(nextChar);
+                    x++;
+                    if (nextChar == 'r' && x + 2 < len
+                            && value.charAt(x + 1) == '\\'
+                            && value.charAt(x + 2) == 'n') {
+                        buf.append("\\n"); //$NON-NLS-1$
+                        x += 2;
+                    }
+                    buf.append('\\');
+                    buf.append(SYSTEM_LINE_SEP);
+                }
+            }
+        }
+        return buf.toString();
+    }
+
     /**
      * Appends a key to resource bundle content.
      * 
@@ -283,54 +407,61 @@ public class PropertiesSerializer {
      *            the equal sign position
      * @param active
      *            is the key active or not
+     * @throws IOException
+     *             if the key cannot be written
      */
-    private void appendKey(StringBuffer text, String key, int equalIndex,
-            boolean active) {
+    private void appendKey(Writer text, String key, int equalIndex,
+            boolean active) throws IOException {
 
         if (!active) {
-            text.append("##"); //$NON-NLS-1$
+            text.write("##"); //$NON-NLS-1$
         }
 
         // Escape and persist the rest
         saveKey(text, key);
-        // text.append(key);
         for (int i = 0; i < equalIndex - key.length(); i++) {
-            text.append(' ');
+            text.write(' ');
         }
         if (config.isSpacesAroundEqualsEnabled()) {
-            text.append(" = "); //$NON-NLS-1$
+            text.write(" = "); //$NON-NLS-1$
         } else {
-            text.append("="); //$NON-NLS-1$
+            text.write("="); //$NON-NLS-1$
         }
     }
 
-    private void saveKey(StringBuffer buf, String str) {
+    private void saveKey(Writer buf, String str) throws IOException {
         saveText(buf, str, SPECIAL_KEY_SAVE_CHARS);
     }
 
-    private void saveValue(StringBuffer buf, String str) {
+    private void saveValue(Writer buf, String str) throws IOException {
         saveText(buf, str, SPECIAL_VALUE_SAVE_CHARS);
     }
 
     /**
-     * Saves some text in a given buffer after converting special characters.
+     * Saves some text in a given writer after converting special characters.
      * 
      * @param buf
-     *            the buffer to store the text into
+     *            the writer to store the text into
      * @param str
      *            the value to save
      * @param escapeChars
      *            characters to escape
+     * @throws IOException
+     *             if the text cannot be written
      */
-    private void saveText(StringBuffer buf, String str, String escapeChars) {
+    private void saveText(Writer buf, String str, String escapeChars)
+            throws IOException {
         int len = str.length();
+        int start = 0;
         for (int x = 0; x < len; x++) {
             char aChar = str.charAt(x);
             if (escapeChars.indexOf(aChar) != -1) {
-                buf.append('\\');
+                buf.write(str, start, x - start);
+                buf.write('\\');
+                start = x;
             }
-            buf.append(aChar);
         }
+        buf.write(str, start, len - start);
     }
 
     /**
@@ -363,41 +494,91 @@ public class PropertiesSerializer {
     }
 
     /**
-     * Gets the position where the equal sign should be located for the given
-     * group.
-     * 
-     * @param key
-     *            resource bundle key
-     * @param group
-     *            resource bundle key group
-     * @param messagesBundle
-     *            resource bundle
-     * @return position
+     * Positions where the equal sign should be located, computed once for the
+     * whole bundle and per group rather than rescanning the keys for each of
+     * them.
      */
-    private int getEqualIndex(String key, String group,
-            IMessagesBundle messagesBundle) {
-        int equalIndex = -1;
-        boolean alignEquals = config.isAlignEqualsEnabled();
-        boolean groupKeys = config.isGroupKeysEnabled();
-        boolean groupAlignEquals = config.isGroupAlignEqualsEnabled();
-
-        // Exit now if we are not aligning equals
-        if (!alignEquals || groupKeys && !groupAlignEquals || groupKeys
-                && group == null) {
-            return key.length();
+    private class EqualIndexes {
+
+        private final boolean alignEquals = config.isAlignEqualsEnabled();
+        private final boolean groupKeys = config.isGroupKeysEnabled();
+        private final boolean groupAlignEquals = config
+                .isGroupAlignEqualsEnabled();
+
+        /** Longest key of the bundle. */
+        private int maxKeyLength = -1;
+        /** Bundle keys in natural order, to find the keys of a group. */
+        private String[] sortedKeys;
+        /** Equal sign positions already computed, by group. */
+        private Map<String, Integer> groupIndexes;
+
+        /**
+         * Constructor.
+         * 
+         * @param keys
+         *            all the keys of the serialized bundle
+         */
+        EqualIndexes(String[] keys) {
+            if (!alignEquals) {
+                return;
+            }
+            if (!groupKeys) {
+                for (int i = 0; i < keys.length; i++) {
+                    maxKeyLength = Math.max(maxKeyLength, keys[i].length());
+                }
+            } else if (groupAlignEquals) {
+                sortedKeys = keys.clone();
+                Arrays.sort(sortedKeys);
+                groupIndexes = new HashMap<String, Integer>();
+            }
         }
 
-        // Get equal index
-        String[] keys = messagesBundle.getKeys();
-        for (int i = 0; i < keys.length; i++) {
-            String iterKey = keys[i];
-            if (!groupKeys || groupAlignEquals && iterKey.startsWith(group)) {
-                int index = iterKey.length();
-                if (index > equalIndex) {
-                    equalIndex = index;
-                }
+        /**
+         * Gets the position where the equal sign should be located for the
+         * given group.
+         * 
+         * @param key
+         *            resource bundle key
+         * @param group
+         *            resource bundle key group
+         * @return position
+         */
+        int get(String key, String group) {
+            // Exit now if we are not aligning equals
+            if (!alignEquals || groupKeys && !groupAlignEquals || groupKeys
+                    && group == null) {
+                return key.length();
+            }
+            if (!groupKeys) {
+                return maxKeyLength;
+            }
+            Integer equalIndex = groupIndexes.get(group);
+            if (equalIndex == null) {
+                equalIndex = Integer.valueOf(getGroupEqualIndex(group));
+                groupIndexes.put(group, equalIndex);
+            }
+            return equalIndex.intValue();
+        }
+
+        /**
+         * Gets the length of the longest key starting with the given group.
+         * Those keys are contiguous in the sorted keys.
+         * 
+         * @param group
+         *            resource bundle key group
+         * @return position
+         */
+        private int getGroupEqualIndex(String group) {
+            int equalIndex = -1;
+            int index = Arrays.binarySearch(sortedKeys, group);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            for (; index < sortedKeys.length
+                    && sortedKeys[index].startsWith(group); index++) {
+                equalIndex = Math.max(equalIndex, sortedKeys[index].length());
             }
+            return equalIndex;
         }
-        return equalIndex;
     }
 }
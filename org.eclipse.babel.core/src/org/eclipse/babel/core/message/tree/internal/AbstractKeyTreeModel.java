@@ -14,9 +14,12 @@ package org.eclipse.babel.core.message.tree.internal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.StringTokenizer;
+import java.util.Map;
 
+import org.eclipse.babel.core.message.internal.MessagesBundle;
 import org.eclipse.babel.core.message.internal.MessagesBundleGroup;
 import org.eclipse.babel.core.message.internal.MessagesBundleGroupAdapter;
 import org.eclipse.babel.core.message.tree.IAbstractKeyTreeModel;
@@ -50,6 +53,12 @@ public class AbstractKeyTreeModel implements IAbstractKeyTreeModel {
 
     private KeyTreeNode rootNode = new KeyTreeNode(null, null, null, null);
 
+    /** message key, node */
+    private final Map<String, KeyTreeNode> nodesByKey = new HashMap<String, KeyTreeNode>();
+
+    /** node, children sorted with the comparator */
+    private final Map<IKeyTreeNode, IKeyTreeNode[]> sortedChildren = new IdentityHashMap<IKeyTreeNode, IKeyTreeNode[]>();
+
     private String delimiter;
     private MessagesBundleGroup messagesBundleGroup;
 
@@ -79,8 +88,24 @@ public class AbstractKeyTreeModel implements IAbstractKeyTreeModel {
 
         messagesBundleGroup
                 .addMessagesBundleGroupListener(new MessagesBundleGroupAdapter() {
+                    public void messagesBundleAdded(
+                            MessagesBundle messagesBundle) {
+                        // the keys of the bundle are added to the group
+                        // right after, create their nodes at once
+                        List<KeyTreeNode> addedNodes = new ArrayList<KeyTreeNode>();
+                        for (String key : messagesBundle.getKeySet()) {
+                            createTreeNodes(key, addedNodes);
+                        }
+                        fireNodesAdded(addedNodes
+                                .toArray(new KeyTreeNode[addedNodes.size()]));
+                    }
+
                     public void keyAdded(String key) {
-                        createTreeNodes(key);
+                        List<KeyTreeNode> addedNodes = new ArrayList<KeyTreeNode>();
+                        createTreeNodes(key, addedNodes);
+                        for (KeyTreeNode node : addedNodes) {
+                            fireNodeAdded(node);
+                        }
                     }
 
                     public void keyRemoved(String key) {
@@ -121,6 +146,29 @@ public class AbstractKeyTreeModel implements IAbstractKeyTreeModel {
         }
     }
 
+    /**
+     * Notify all listeners that several nodes were added at once. Listeners
+     * not implementing {@link IKeyTreeModelListener2} are notified of each
+     * node.
+     * 
+     * @param nodes
+     *            added nodes, parents before their children
+     */
+    protected void fireNodesAdded(KeyTreeNode[] nodes) {
+        if (nodes.length == 0) {
+            return;
+        }
+        for (IKeyTreeModelListener listener : listeners) {
+            if (listener instanceof IKeyTreeModelListener2) {
+                ((IKeyTreeModelListener2) listener).nodesAdded(nodes);
+            } else {
+                for (KeyTreeNode node : nodes) {
+                    listener.nodeAdded(node);
+                }
+            }
+        }
+    }
+
     /**
      * Notify all listeners that a node was removed.
      * 
@@ -171,7 +219,8 @@ public class AbstractKeyTreeModel implements IAbstractKeyTreeModel {
     }
 
     /**
-     * Gets the child nodes of a given key tree node.
+     * Gets the child nodes of a given key tree node. When a comparator is set,
+     * the children are only sorted again after they changed.
      * 
      * @param node
      *            the node from which to get children
@@ -182,11 +231,16 @@ public class AbstractKeyTreeModel implements IAbstractKeyTreeModel {
             return null;
         }
 
-        IKeyTreeNode[] nodes = node.getChildren();
-        if (getComparator() != null) {
+        if (getComparator() == null) {
+            return node.getChildren();
+        }
+        IKeyTreeNode[] nodes = sortedChildren.get(node);
+        if (nodes == null) {
+            nodes = node.getChildren();
             Arrays.sort(nodes, getComparator());
+            sortedChildren.put(node, nodes);
         }
-        return nodes;
+        return nodes.clone();
     }
 
     /**
@@ -199,13 +253,16 @@ public class AbstractKeyTreeModel implements IAbstractKeyTreeModel {
     }
 
     /**
-     * Sets the node comparator for sorting sibling nodes.
+     * Sets the node comparator for sorting sibling nodes. The order of the
+     * nodes must only depend on the nodes, as sorted children are kept until
+     * they change.
      * 
      * @param comparator
      *            node comparator
      */
     public void setComparator(Comparator<IKeyTreeNode> comparator) {
         this.comparator = comparator;
+        sortedChildren.clear();
     }
 
     /**
@@ -289,28 +346,45 @@ public class AbstractKeyTreeModel implements IAbstractKeyTreeModel {
 
     private void createTree() {
         rootNode = new KeyTreeNode(null, null, null, messagesBundleGroup);
+        nodesByKey.clear();
+        sortedChildren.clear();
         String[] keys = messagesBundleGroup.getMessageKeys();
+        List<KeyTreeNode> addedNodes = new ArrayList<KeyTreeNode>();
         for (int i = 0; i < keys.length; i++) {
             String key = keys[i];
-            createTreeNodes(key);
+            createTreeNodes(key, addedNodes);
         }
+        fireNodesAdded(addedNodes.toArray(new KeyTreeNode[addedNodes.size()]));
     }
 
-    private void createTreeNodes(String bundleKey) {
-        StringTokenizer tokens = new StringTokenizer(bundleKey, delimiter);
-        KeyTreeNode node = rootNode;
-        String bundleKeyPart = ""; //$NON-NLS-1$
-        while (tokens.hasMoreTokens()) {
-            String name = tokens.nextToken();
-            bundleKeyPart += name;
-            KeyTreeNode child = (KeyTreeNode) node.getChild(name);
-            if (child == null) {
-                child = new KeyTreeNode(node, name, bundleKeyPart,
-                        messagesBundleGroup);
-                fireNodeAdded(child);
+    /**
+     * Creates the missing nodes of a key.
+     * 
+     * @param bundleKey
+     *            the key
+     * @param addedNodes
+     *            the list to add the created nodes to
+     */
+    private void createTreeNodes(String bundleKey, List<KeyTreeNode> addedNodes) {
+        KeyTreeNode node = nodesByKey.get(bundleKey);
+        if (node == null) {
+            node = rootNode;
+            StringBuilder bundleKeyPart = new StringBuilder(bundleKey.length());
+            for (String name : getKeySections(bundleKey)) {
+                if (bundleKeyPart.length() > 0) {
+                    bundleKeyPart.append(delimiter);
+                }
+                bundleKeyPart.append(name);
+                KeyTreeNode child = (KeyTreeNode) node.getChild(name);
+                if (child == null) {
+                    child = new KeyTreeNode(node, name,
+                            bundleKeyPart.toString(), messagesBundleGroup);
+                    nodesByKey.put(child.getMessageKey(), child);
+                    sortedChildren.remove(node);
+                    addedNodes.add(child);
+                }
+                node = child;
             }
-            bundleKeyPart += delimiter;
-            node = child;
         }
         node.setUsedAsKey();
     }
@@ -319,31 +393,75 @@ public class AbstractKeyTreeModel implements IAbstractKeyTreeModel {
         if (bundleKey == null) {
             return;
         }
-        StringTokenizer tokens = new StringTokenizer(bundleKey, delimiter);
-        KeyTreeNode node = rootNode;
-        while (tokens.hasMoreTokens()) {
-            String name = tokens.nextToken();
-            node = (KeyTreeNode) node.getChild(name);
-            if (node == null) {
-                System.err
-                        .println("No RegEx node matching bundleKey to remove"); //$NON-NLS-1$
-                return;
+        KeyTreeNode node = nodesByKey.get(bundleKey);
+        if (node == null) {
+            node = rootNode;
+            for (String name : getKeySections(bundleKey)) {
+                node = (KeyTreeNode) node.getChild(name);
+                if (node == null) {
+                    System.err
+                            .println("No RegEx node matching bundleKey to remove"); //$NON-NLS-1$
+                    return;
+                }
             }
         }
         KeyTreeNode parentNode = (KeyTreeNode) node.getParent();
-        parentNode.removeChild(node);
-        fireNodeRemoved(node);
+        removeTreeNode(parentNode, node);
         while (parentNode != rootNode) {
+            KeyTreeNode grandParentNode = (KeyTreeNode) parentNode.getParent();
             if (!parentNode.hasChildren()
                     && !messagesBundleGroup.isMessageKey(parentNode
                             .getMessageKey())) {
-                ((KeyTreeNode) parentNode.getParent()).removeChild(parentNode);
-                fireNodeRemoved(parentNode);
+                removeTreeNode(grandParentNode, parentNode);
             }
-            parentNode = (KeyTreeNode) parentNode.getParent();
+            parentNode = grandParentNode;
         }
     }
 
+    private void removeTreeNode(KeyTreeNode parentNode, KeyTreeNode node) {
+        parentNode.removeChild(node);
+        sortedChildren.remove(parentNode);
+        unindex(node);
+        for (IKeyTreeNode descendant : node.getDescendants()) {
+            unindex(descendant);
+        }
+        fireNodeRemoved(node);
+    }
+
+    private void unindex(IKeyTreeNode node) {
+        if (nodesByKey.get(node.getMessageKey()) == node) {
+            nodesByKey.remove(node.getMessageKey());
+        }
+        sortedChildren.remove(node);
+    }
+
+    /**
+     * Splits a key at the delimiter characters, skipping empty sections.
+     * 
+     * @param bundleKey
+     *            the key
+     * @return the names of the nodes of the key, from the root on
+     */
+    private List<String> getKeySections(String bundleKey) {
+        List<String> sections = new ArrayList<String>();
+        int length = bundleKey.length();
+        int start = 0;
+        while (start < length) {
+            if (delimiter.indexOf(bundleKey.charAt(start)) >= 0) {
+                start++;
+                continue;
+            }
+            int end = start + 1;
+            while (end < length
+                    && delimiter.indexOf(bundleKey.charAt(end)) < 0) {
+                end++;
+            }
+            sections.add(bundleKey.substring(start, end));
+            start = end;
+        }
+        return sections;
+    }
+
     public interface IKeyTreeNodeLeafFilter {
         /**
          * @param leafNode
@@ -353,24 +471,14 @@ public class AbstractKeyTreeModel implements IAbstractKeyTreeModel {
         boolean isFilteredLeaf(IKeyTreeNode leafNode);
     }
 
+    /**
+     * Gets the node of a key.
+     * 
+     * @param key
+     *            the full key of the node
+     * @return the node, or <code>null</code> if there is no node for the key
+     */
     public IKeyTreeNode getChild(String key) {
-        return returnNodeWithKey(key, rootNode);
-    }
-
-    private IKeyTreeNode returnNodeWithKey(String key, IKeyTreeNode node) {
-
-        if (!key.equals(node.getMessageKey())) {
-            for (IKeyTreeNode n : node.getChildren()) {
-                IKeyTreeNode returnNode = returnNodeWithKey(key, n);
-                if (returnNode == null) {
-                    continue;
-                } else {
-                    return returnNode;
-                }
-            }
-        } else {
-            return node;
-        }
-        return null;
+        return nodesByKey.get(key);
     }
 }
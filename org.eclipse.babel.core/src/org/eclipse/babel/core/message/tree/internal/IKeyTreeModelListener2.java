@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.core.message.tree.internal;
+
+/**
+ * Extension of {@link IKeyTreeModelListener} notified once when several key
+ * tree nodes are added at once. Listeners not implementing this interface are
+ * notified of each added node by
+ * {@link IKeyTreeModelListener#nodeAdded(KeyTreeNode)}.
+ */
+public interface IKeyTreeModelListener2 extends IKeyTreeModelListener {
+
+    /**
+     * Invoked when several key tree nodes are added at once, such as when a
+     * messages bundle is added to the group.
+     *
+     * @param nodes
+     *            key tree nodes, parents before their children
+     */
+    void nodesAdded(KeyTreeNode[] nodes);
+}
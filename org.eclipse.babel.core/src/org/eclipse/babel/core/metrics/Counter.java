@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts events, only while the {@link Metrics} are enabled.
+ */
+public final class Counter {
+
+    private final AtomicLong count = new AtomicLong();
+
+    Counter() {
+    }
+
+    /**
+     * Counts one event.
+     */
+    public void increment() {
+        if (Metrics.isEnabled()) {
+            count.incrementAndGet();
+        }
+    }
+
+    /**
+     * Counts several events.
+     *
+     * @param events
+     *            The number of events
+     */
+    public void add(long events) {
+        if (Metrics.isEnabled()) {
+            count.addAndGet(events);
+        }
+    }
+
+    /**
+     * @return The number of events counted
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    void reset() {
+        count.set(0);
+    }
+}
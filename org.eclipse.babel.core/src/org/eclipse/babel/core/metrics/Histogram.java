@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Distribution of non-negative values, only recorded while the
+ * {@link Metrics} are enabled.
+ * <p>
+ * The values are counted in buckets of powers of two, the percentiles are
+ * therefore estimates: the upper bound of the bucket holding the percentile,
+ * at most the greatest value recorded.
+ */
+public final class Histogram {
+
+    /** Bucket <code>i</code> counts the values of <code>i</code> bits */
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    Histogram() {
+    }
+
+    /**
+     * Records a value, a negative value is recorded as <code>0</code>.
+     *
+     * @param value
+     *            The value
+     */
+    public void update(long value) {
+        if (!Metrics.isEnabled()) {
+            return;
+        }
+        if (value < 0) {
+            value = 0;
+        }
+
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long current;
+        while (value < (current = min.get())
+                && !min.compareAndSet(current, value)) {
+            // retry
+        }
+        while (value > (current = max.get())
+                && !max.compareAndSet(current, value)) {
+            // retry
+        }
+    }
+
+    /**
+     * @return The number of values recorded
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Takes a snapshot of the values recorded so far. Values recorded
+     * meanwhile may be partly left out.
+     *
+     * @return The snapshot
+     */
+    public MetricsSnapshot.Distribution snapshot() {
+        long[] counts = new long[buckets.length()];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long maxValue = Math.max(max.get(), 0);
+        return new MetricsSnapshot.Distribution(total, sum.get(), total == 0
+                ? 0 : min.get(), maxValue, percentile(counts, total, 50,
+                maxValue), percentile(counts, total, 90, maxValue),
+                percentile(counts, total, 99, maxValue));
+    }
+
+    private static long percentile(long[] counts, long total, int percent,
+            long maxValue) {
+        long rank = (total * percent + 99) / 100;
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min((1L << i) - 1, maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        min.set(Long.MAX_VALUE);
+        max.set(Long.MIN_VALUE);
+    }
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.core.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the counters, timers and histograms measuring where the time
+ * goes in the builders and editors.
+ * <p>
+ * Metrics are disabled by default, in which case recording a value only
+ * costs a read of the enabled flag. They are enabled by the system property
+ * {@value #ENABLED_PROPERTY} or by {@link #setEnabled(boolean)}, and read by
+ * {@link #snapshot()}.
+ * <p>
+ * The registry has no dependency on the Eclipse platform, so that it can be
+ * used and tested headless. Metrics are looked up by name, code recording a
+ * metric often is expected to keep it in a constant:
+ *
+ * <pre>
+ * private static final Timer LOAD_TIMER = Metrics.timer(&quot;RBManager.load&quot;);
+ *
+ * long start = LOAD_TIMER.start();
+ * try {
+ *     ...
+ * } finally {
+ *     LOAD_TIMER.stop(start);
+ * }
+ * </pre>
+ */
+public final class Metrics {
+
+    /** System property enabling the metrics when set to <code>true</code> */
+    public static final String ENABLED_PROPERTY = "org.eclipse.babel.metrics"; //$NON-NLS-1$
+
+    private static volatile boolean enabled = Boolean
+            .getBoolean(ENABLED_PROPERTY);
+
+    private static final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<String, Counter>();
+    private static final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<String, Timer>();
+    private static final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<String, Histogram>();
+
+    private Metrics() {
+    }
+
+    /**
+     * @return <code>true</code> if values are recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the recording of values. The values recorded so far
+     * are kept.
+     *
+     * @param enabled
+     *            <code>true</code> to record values
+     */
+    public static void setEnabled(boolean enabled) {
+        Metrics.enabled = enabled;
+    }
+
+    /**
+     * Gets a counter, creating it on first use.
+     *
+     * @param name
+     *            The name of the counter
+     * @return The counter
+     */
+    public static Counter counter(String name) {
+        Counter counter = counters.get(name);
+        if (counter == null) {
+            Counter newCounter = new Counter();
+            counter = counters.putIfAbsent(name, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * Gets a timer, creating it on first use.
+     *
+     * @param name
+     *            The name of the timer
+     * @return The timer
+     */
+    public static Timer timer(String name) {
+        Timer timer = timers.get(name);
+        if (timer == null) {
+            Timer newTimer = new Timer();
+            timer = timers.putIfAbsent(name, newTimer);
+            if (timer == null) {
+                timer = newTimer;
+            }
+        }
+        return timer;
+    }
+
+    /**
+     * Gets a histogram, creating it on first use.
+     *
+     * @param name
+     *            The name of the histogram
+     * @return The histogram
+     */
+    public static Histogram histogram(String name) {
+        Histogram histogram = histograms.get(name);
+        if (histogram == null) {
+            Histogram newHistogram = new Histogram();
+            histogram = histograms.putIfAbsent(name, newHistogram);
+            if (histogram == null) {
+                histogram = newHistogram;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Takes a snapshot of the values recorded so far. Metrics which never
+     * recorded a value are left out.
+     *
+     * @return The snapshot
+     */
+    public static MetricsSnapshot snapshot() {
+        MetricsSnapshot snapshot = new MetricsSnapshot();
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            long count = entry.getValue().getCount();
+            if (count != 0) {
+                snapshot.addCounter(entry.getKey(), count);
+            }
+        }
+        for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+            Histogram durations = entry.getValue().getDurations();
+            if (durations.getCount() != 0) {
+                snapshot.addTimer(entry.getKey(), durations.snapshot());
+            }
+        }
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            if (entry.getValue().getCount() != 0) {
+                snapshot.addHistogram(entry.getKey(), entry.getValue()
+                        .snapshot());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Clears the values recorded so far, the metrics themselves are kept.
+     */
+    public static void reset() {
+        for (Counter counter : counters.values()) {
+            counter.reset();
+        }
+        for (Timer timer : timers.values()) {
+            timer.getDurations().reset();
+        }
+        for (Histogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.core.metrics;
+
+/**
+ * Measures the durations of an operation, in nanoseconds, only while the
+ * {@link Metrics} are enabled.
+ */
+public final class Timer {
+
+    private final Histogram durations = new Histogram();
+
+    Timer() {
+    }
+
+    /**
+     * Starts to measure an operation.
+     *
+     * @return The start time to pass to {@link #stop(long)}, <code>0</code>
+     *         if the metrics are disabled
+     */
+    public long start() {
+        return Metrics.isEnabled() ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the duration of an operation.
+     *
+     * @param start
+     *            The start time returned by {@link #start()}, nothing is
+     *            recorded if it is <code>0</code>
+     */
+    public void stop(long start) {
+        if (start != 0) {
+            durations.update(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the duration of an operation measured elsewhere.
+     *
+     * @param nanos
+     *            The duration, in nanoseconds
+     */
+    public void record(long nanos) {
+        durations.update(nanos);
+    }
+
+    /**
+     * @return The durations recorded, in nanoseconds
+     */
+    public Histogram getDurations() {
+        return durations;
+    }
+}
@@ -13,21 +13,36 @@ package org.eclipse.babel.core.util;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.net.URL;
-import java.util.Hashtable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 
 /**
- * Class monitoring a {@link File} for changes.
+ * Class monitoring {@link File}s for changes. All files polled at the same
+ * period share a single timer task, so that each period costs one wakeup
+ * however many files are monitored. Files are checked once per wakeup no
+ * matter how many listeners they have, and changes made in between two
+ * wakeups are reported as a single event.
  * 
  * @author Pascal Essiembre
  */
 public class FileMonitor {
 
+    /** Default polling period in milliseconds. */
+    public static final long DEFAULT_PERIOD = 2000;
+    /** System property overriding the default polling period. */
+    public static final String PERIOD_PROPERTY = "org.eclipse.babel.core.fileMonitorPeriod"; //$NON-NLS-1$
+
     private static final FileMonitor instance = new FileMonitor();
 
     private Timer timer;
-    private Hashtable<String, FileMonitorTask> timerEntries;
+    /** Polling tasks, by period. */
+    private Map<Long, FileMonitorTask> tasks;
+    private long defaultPeriod = Long.getLong(PERIOD_PROPERTY, DEFAULT_PERIOD);
 
     /**
      * Gets the file monitor instance.
@@ -44,7 +59,45 @@ public class FileMonitor {
     private FileMonitor() {
         // Create timer, run timer thread as daemon.
         timer = new Timer(true);
-        timerEntries = new Hashtable<String, FileMonitorTask>();
+        tasks = new HashMap<Long, FileMonitorTask>();
+    }
+
+    /**
+     * Gets the polling period used when none is specified.
+     * 
+     * @return polling period in milliseconds
+     */
+    public synchronized long getDefaultPeriod() {
+        return defaultPeriod;
+    }
+
+    /**
+     * Sets the polling period used when none is specified. Only affects files
+     * added afterwards.
+     * 
+     * @param period
+     *            polling period in milliseconds
+     */
+    public synchronized void setDefaultPeriod(long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " //$NON-NLS-1$
+                    + period);
+        }
+        this.defaultPeriod = period;
+    }
+
+    /**
+     * Adds a monitored file with a {@link FileChangeListener}, polled at the
+     * default period.
+     * 
+     * @param listener
+     *            listener to notify when the file changed.
+     * @param file
+     *            the file to monitor.
+     */
+    public void addFileChangeListener(FileChangeListener listener, File file)
+            throws FileNotFoundException {
+        addFileChangeListener(listener, file, getDefaultPeriod());
     }
 
     /**
@@ -72,12 +125,18 @@ public class FileMonitor {
      * @param period
      *            polling period in milliseconds.
      */
-    public void addFileChangeListener(FileChangeListener listener, File file,
-            long period) throws FileNotFoundException {
+    public synchronized void addFileChangeListener(
+            FileChangeListener listener, File file, long period)
+            throws FileNotFoundException {
         removeFileChangeListener(listener, file);
-        FileMonitorTask task = new FileMonitorTask(listener, file);
-        timerEntries.put(file.toString() + listener.hashCode(), task);
-        timer.schedule(task, period, period);
+        File monitoredFile = resolve(listener, file);
+        FileMonitorTask task = tasks.get(period);
+        if (task == null) {
+            task = new FileMonitorTask();
+            tasks.put(period, task);
+            timer.schedule(task, period, period);
+        }
+        task.add(listener, file, monitoredFile);
     }
 
     /**
@@ -97,11 +156,17 @@ public class FileMonitor {
      * @param listener
      *            the listener to be removed.
      */
-    public void removeFileChangeListener(FileChangeListener listener, File file) {
-        FileMonitorTask task = timerEntries.remove(file.toString()
-                + listener.hashCode());
-        if (task != null) {
-            task.cancel();
+    public synchronized void removeFileChangeListener(
+            FileChangeListener listener, File file) {
+        for (Map.Entry<Long, FileMonitorTask> entry : tasks.entrySet()) {
+            FileMonitorTask task = entry.getValue();
+            if (task.remove(listener, file)) {
+                if (task.isEmpty()) {
+                    task.cancel();
+                    tasks.remove(entry.getKey());
+                }
+                return;
+            }
         }
     }
 
@@ -118,35 +183,101 @@ public class FileMonitor {
     }
 
     /**
-     * File monitoring task.
+     * Gets the file to monitor, looking for it on the listener classpath if
+     * it does not exist.
      */
-    class FileMonitorTask extends TimerTask {
-        FileChangeListener listener;
-        File monitoredFile;
+    private static File resolve(FileChangeListener listener, File file)
+            throws FileNotFoundException {
+        if (!file.exists()) { // but is it on CLASSPATH?
+            URL fileURL = listener.getClass().getClassLoader()
+                    .getResource(file.toString());
+            if (fileURL != null) {
+                return new File(fileURL.getFile());
+            } else {
+                throw new FileNotFoundException("File Not Found: " + file);
+            }
+        }
+        return file;
+    }
+
+    /**
+     * A monitored file and its listeners.
+     */
+    static class MonitoredFile {
+        File file;
         long lastModified;
+        long length;
+        List<FileChangeListener> listeners = new ArrayList<FileChangeListener>(
+                1);
 
-        public FileMonitorTask(FileChangeListener listener, File file)
-                throws FileNotFoundException {
-            this.listener = listener;
-            this.lastModified = 0;
-            monitoredFile = file;
-            if (!monitoredFile.exists()) { // but is it on CLASSPATH?
-                URL fileURL = listener.getClass().getClassLoader()
-                        .getResource(file.toString());
-                if (fileURL != null) {
-                    monitoredFile = new File(fileURL.getFile());
-                } else {
-                    throw new FileNotFoundException("File Not Found: " + file);
-                }
+        MonitoredFile(File file) {
+            this.file = file;
+            this.lastModified = file.lastModified();
+            this.length = file.length();
+        }
+
+        /**
+         * Checks whether the file changed since last checked.
+         */
+        boolean changed() {
+            long lastModified = file.lastModified();
+            long length = file.length();
+            if (lastModified != this.lastModified || length != this.length) {
+                this.lastModified = lastModified;
+                this.length = length;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * File monitoring task, polling all files monitored at a given period.
+     */
+    class FileMonitorTask extends TimerTask {
+        /** Monitored files, by file as given by listeners. */
+        Map<File, MonitoredFile> monitoredFiles = new LinkedHashMap<File, MonitoredFile>();
+
+        void add(FileChangeListener listener, File file, File monitoredFile) {
+            MonitoredFile monitored = monitoredFiles.get(file);
+            if (monitored == null) {
+                monitored = new MonitoredFile(monitoredFile);
+                monitoredFiles.put(file, monitored);
             }
-            this.lastModified = monitoredFile.lastModified();
+            monitored.listeners.add(listener);
+        }
+
+        boolean remove(FileChangeListener listener, File file) {
+            MonitoredFile monitored = monitoredFiles.get(file);
+            if (monitored == null || !monitored.listeners.remove(listener)) {
+                return false;
+            }
+            if (monitored.listeners.isEmpty()) {
+                monitoredFiles.remove(file);
+            }
+            return true;
+        }
+
+        boolean isEmpty() {
+            return monitoredFiles.isEmpty();
         }
 
         public void run() {
-            long lastModified = monitoredFile.lastModified();
-            if (lastModified != this.lastModified) {
-                this.lastModified = lastModified;
-                fireFileChangeEvent(this.listener, monitoredFile);
+            List<FileChangeListener> listeners = new ArrayList<FileChangeListener>();
+            List<File> files = new ArrayList<File>();
+            synchronized (FileMonitor.this) {
+                for (MonitoredFile monitored : monitoredFiles.values()) {
+                    if (monitored.changed()) {
+                        for (FileChangeListener listener : monitored.listeners) {
+                            listeners.add(listener);
+                            files.add(monitored.file);
+                        }
+                    }
+                }
+            }
+            // notify outside of the lock, listeners may add or remove files
+            for (int i = 0; i < listeners.size(); i++) {
+                fireFileChangeEvent(listeners.get(i), files.get(i));
             }
         }
     }
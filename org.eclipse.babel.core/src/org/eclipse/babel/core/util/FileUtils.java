@@ -12,6 +12,7 @@ package org.eclipse.babel.core.util;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 
 import org.eclipse.babel.core.configuration.ConfigurationManager;
 import org.eclipse.babel.core.configuration.DirtyHack;
@@ -49,6 +50,46 @@ public class FileUtils {
         }
     }
 
+    /**
+     * Replaces a file with another one, such as a temporary file holding its
+     * new content. As renaming onto an existing file fails on some platforms,
+     * the file is first moved to a backup, which is moved back if the new file
+     * cannot take its place. The file is thus either replaced or left
+     * untouched, but for a failure to restore the backup.
+     * 
+     * @param file
+     *            the file to replace, which may not exist
+     * @param newFile
+     *            the file replacing it
+     * @throws IOException
+     *             if the file cannot be replaced
+     */
+    public static void replaceFile(File file, File newFile) throws IOException {
+        if (newFile.renameTo(file)) {
+            return;
+        }
+        File backup = null;
+        if (file.exists()) {
+            backup = File.createTempFile(file.getName(), ".bak", file //$NON-NLS-1$
+                    .getAbsoluteFile().getParentFile());
+            if (!backup.delete() || !file.renameTo(backup)) {
+                backup.delete();
+                throw new IOException("Cannot move " + file + " to " + backup); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+        }
+        if (!newFile.renameTo(file)) {
+            if (backup != null && !backup.renameTo(file)) {
+                throw new IOException("Cannot replace " + file + " with " //$NON-NLS-1$ //$NON-NLS-2$
+                        + newFile + ", the file is kept as " + backup); //$NON-NLS-1$
+            }
+            throw new IOException("Cannot replace " + file + " with " //$NON-NLS-1$ //$NON-NLS-2$
+                    + newFile);
+        }
+        if (backup != null) {
+            backup.delete();
+        }
+    }
+
     public static IFile getFile(IMessagesBundle bundle) {
         if (bundle.getResource() instanceof PropertiesFileResource) { // different
             // ResourceLocationLabel
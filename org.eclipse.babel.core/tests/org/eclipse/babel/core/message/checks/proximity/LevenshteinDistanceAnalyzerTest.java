@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.core.message.checks.proximity;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class LevenshteinDistanceAnalyzerTest extends TestCase {
+
+    private final LevenshteinDistanceAnalyzer analyzer = (LevenshteinDistanceAnalyzer) LevenshteinDistanceAnalyzer
+            .getInstance();
+
+    public void testDistance() {
+        assertEquals(0, analyzer.distance("", ""));
+        assertEquals(3, analyzer.distance("", "abc"));
+        assertEquals(3, analyzer.distance("abc", ""));
+        assertEquals(0, analyzer.distance("abc", "abc"));
+        assertEquals(3, analyzer.distance("kitten", "sitting"));
+        assertEquals(2, analyzer.distance("flaw", "lawn"));
+    }
+
+    public void testBandedDistance() {
+        assertEquals(3, analyzer.distance("kitten", "sitting", 3));
+        assertEquals(3, analyzer.distance("kitten", "sitting", 2));
+        assertEquals(2, analyzer.distance("kitten", "sitting", 1));
+        assertEquals(0, analyzer.distance("kitten", "sitting", -1));
+        assertEquals(4, analyzer.distance("a", "abcde", 3));
+    }
+
+    public void testBandedDistanceMatchesFullMatrix() {
+        Random random = new Random(20261017L);
+        for (int n = 0; n < 2000; n++) {
+            String s = randomString(random, 12);
+            String t = random.nextInt(4) == 0 ? s : randomString(random, 12);
+            int expected = levenshtein(s, t);
+            assertEquals(s + " / " + t, expected, analyzer.distance(s, t));
+            for (int max = -1; max <= 13; max++) {
+                assertEquals(s + " / " + t + " within " + max,
+                        expected <= max ? expected : max + 1,
+                        analyzer.distance(s, t, max));
+            }
+        }
+    }
+
+    public void testMaxDistance() {
+        for (int length = 1; length < 40; length++) {
+            for (int p = 0; p <= 100; p++) {
+                double precision = p / 100d;
+                int max = LevenshteinDistanceAnalyzer.maxDistance(length,
+                        precision);
+                for (int distance = 0; distance <= length; distance++) {
+                    boolean similar = 1d - ((double) distance / length) >= precision;
+                    assertEquals(length + " " + precision + " " + distance,
+                            similar, distance <= max);
+                }
+            }
+        }
+    }
+
+    static String randomString(Random random, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder buf = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            buf.append("abc ".charAt(random.nextInt(4)));
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Reference distance, computed on the full matrix.
+     */
+    static int levenshtein(String s, String t) {
+        int[][] d = new int[s.length() + 1][t.length() + 1];
+        for (int i = 0; i <= s.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= t.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= s.length(); i++) {
+            for (int j = 1; j <= t.length(); j++) {
+                int cost = s.charAt(i - 1) == t.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1),
+                        d[i - 1][j - 1] + cost);
+            }
+        }
+        return d[s.length()][t.length()];
+    }
+}
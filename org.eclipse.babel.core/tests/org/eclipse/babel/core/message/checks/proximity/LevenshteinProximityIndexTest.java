@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.core.message.checks.proximity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class LevenshteinProximityIndexTest extends TestCase {
+
+    public void testFindSimilar() {
+        Map<String, String> values = new LinkedHashMap<String, String>();
+        values.put("save", "Save file");
+        values.put("saveAs", "Save files");
+        values.put("typo", "Save fild");
+        values.put("same", "SAVE FILE");
+        values.put("none", null);
+        values.put("quit", "Quit");
+        LevenshteinProximityIndex index = new LevenshteinProximityIndex(
+                values, 0.75);
+
+        // identical values, ignoring case, are not similar
+        assertEquals(Arrays.asList("saveAs", "typo"), findSimilar(index,
+                "Save file"));
+        assertEquals(Arrays.asList("save", "typo", "same"), findSimilar(index,
+                "Save files"));
+        assertEquals(Arrays.<String> asList(), findSimilar(index, "Quit"));
+        assertEquals(Arrays.<String> asList(), findSimilar(index, ""));
+    }
+
+    public void testFindSimilarMatchesLinearComparison() {
+        Random random = new Random(20261017L);
+        double[] precisions = { 0d, 0.3, 0.5, 0.75, 0.8, 0.9, 1d };
+        for (int n = 0; n < 200; n++) {
+            Map<String, String> values = new LinkedHashMap<String, String>();
+            int count = random.nextInt(30);
+            for (int i = 0; i < count; i++) {
+                values.put("key" + i, LevenshteinDistanceAnalyzerTest
+                        .randomString(random, 10));
+            }
+            double precision = precisions[random.nextInt(precisions.length)];
+            LevenshteinProximityIndex index = new LevenshteinProximityIndex(
+                    values, precision);
+            for (int i = 0; i < 10; i++) {
+                String value = LevenshteinDistanceAnalyzerTest.randomString(
+                        random, 10);
+                assertEquals(value + " at " + precision, findLinear(values,
+                        value, precision), findSimilar(index, value));
+            }
+            for (String value : values.values()) {
+                assertEquals(value + " at " + precision, findLinear(values,
+                        value, precision), findSimilar(index, value));
+            }
+        }
+    }
+
+    private static List<String> findSimilar(LevenshteinProximityIndex index,
+            String value) {
+        List<String> keys = new ArrayList<String>();
+        index.findSimilar(value, keys);
+        return keys;
+    }
+
+    /**
+     * Reference search, computing the proximity to every value.
+     */
+    private static List<String> findLinear(Map<String, String> values,
+            String value, double precision) {
+        String value1 = value.toLowerCase();
+        List<String> keys = new ArrayList<String>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value2 = entry.getValue().toLowerCase();
+            if (!value1.equals(value2)) {
+                int maxLength = Math.max(value1.length(), value2.length());
+                double proximity = 1d - ((double) LevenshteinDistanceAnalyzerTest
+                        .levenshtein(value1, value2) / maxLength);
+                if (proximity >= precision) {
+                    keys.add(entry.getKey());
+                }
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.core.message.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.eclipse.babel.core.message.resource.internal.AbstractPropertiesResource;
+import org.eclipse.babel.core.message.resource.ser.PropertiesDeserializer;
+import org.eclipse.babel.core.message.resource.ser.PropertiesSerializer;
+
+public class MessagesBundleTest extends TestCase {
+
+    public void testGetKeysWithValue() {
+        MessagesBundle bundle = newBundle("a=Save\nb=Save\nc=Quit\nd=\n");
+        assertEquals(set("a", "b"), bundle.getKeysWithValue("Save"));
+        assertEquals(set("d"), bundle.getKeysWithValue(""));
+        assertEquals(set(), bundle.getKeysWithValue("Open"));
+
+        ((Message) bundle.getMessage("c")).setText("Save");
+        bundle.removeMessage("a");
+        addMessage(bundle, "e", "Open");
+        assertEquals(set("b", "c"), bundle.getKeysWithValue("Save"));
+        assertEquals(set(), bundle.getKeysWithValue("Quit"));
+        assertEquals(set("e"), bundle.getKeysWithValue("Open"));
+    }
+
+    public void testGetKeysWithValueReturnsCopy() {
+        MessagesBundle bundle = newBundle("a=Save\n");
+        Set<String> keys = bundle.getKeysWithValue("Save");
+        addMessage(bundle, "b", "Save");
+        assertEquals(set("a"), keys);
+        try {
+            keys.add("c");
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    public void testConcurrentLookups() throws Exception {
+        final MessagesBundle bundle = newBundle("");
+        final Throwable[] failure = new Throwable[1];
+        Thread reader = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    for (int i = 0; i < 20000; i++) {
+                        for (String key : bundle.getKeysWithValue("value")) {
+                            assertTrue(key.startsWith("key"));
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure[0] = e;
+                }
+            }
+        };
+        reader.start();
+        for (int i = 0; i < 2000; i++) {
+            addMessage(bundle, "key" + i, "value");
+            if (i % 2 == 0) {
+                bundle.removeMessage("key" + (i / 2));
+            }
+        }
+        reader.join();
+        if (failure[0] != null) {
+            throw new AssertionError(failure[0]);
+        }
+        assertEquals(1000, bundle.getKeysWithValue("value").size());
+    }
+
+    private static MessagesBundle newBundle(String text) {
+        StringResource resource = new StringResource();
+        resource.setText(text);
+        return new MessagesBundle(resource);
+    }
+
+    private static void addMessage(MessagesBundle bundle, String key,
+            String value) {
+        Message message = new Message(key, Locale.ROOT);
+        message.setText(value);
+        bundle.addMessage(message);
+    }
+
+    private static Set<String> set(String... keys) {
+        return keys.length == 0 ? Collections.<String> emptySet()
+                : new HashSet<String>(Arrays.asList(keys));
+    }
+
+    /** Properties text kept in memory. */
+    private static class StringResource extends AbstractPropertiesResource {
+
+        private String text = "";
+
+        StringResource() {
+            super(Locale.ROOT, new PropertiesSerializer(null),
+                    new PropertiesDeserializer(null));
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public void setText(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public Object getSource() {
+            return this;
+        }
+
+        @Override
+        public String getResourceLocationLabel() {
+            return "memory";
+        }
+
+        @Override
+        public void dispose() {
+        }
+    }
+}
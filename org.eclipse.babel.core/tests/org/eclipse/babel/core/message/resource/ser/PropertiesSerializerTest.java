@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.core.message.resource.ser;
+
+import java.util.Locale;
+
+import junit.framework.TestCase;
+
+import org.eclipse.babel.core.message.internal.Message;
+import org.eclipse.babel.core.message.internal.MessagesBundle;
+import org.eclipse.babel.core.message.resource.internal.AbstractPropertiesResource;
+
+public class PropertiesSerializerTest extends TestCase {
+
+    private static final String NL = System.getProperty("line.separator");
+
+    public void testNewLines() {
+        String value = "one\r\ntwo\nthree\rfour";
+        assertSerialized("key=one\\r\\ntwo\\nthree\\rfour" + NL, value,
+                IPropertiesSerializerConfig.NEW_LINE_DEFAULT, false);
+        assertSerialized("key=one\\ntwo\\nthree\\nfour" + NL, value,
+                IPropertiesSerializerConfig.NEW_LINE_UNIX, false);
+        assertSerialized("key=one\\r\\ntwo\\r\\nthree\\r\\nfour" + NL, value,
+                IPropertiesSerializerConfig.NEW_LINE_WIN, false);
+        assertSerialized("key=one\\rtwo\\rthree\\rfour" + NL, value,
+                IPropertiesSerializerConfig.NEW_LINE_MAC, false);
+    }
+
+    public void testNiceNewLines() {
+        assertSerialized("key=one\\r\\n\\" + NL + "two\\n\\" + NL + "three"
+                + NL, "one\r\ntwo\nthree",
+                IPropertiesSerializerConfig.NEW_LINE_DEFAULT, true);
+        assertSerialized("key=one\\r\\n\\" + NL + "two\\r\\n\\" + NL + "three"
+                + NL, "one\r\ntwo\nthree",
+                IPropertiesSerializerConfig.NEW_LINE_WIN, true);
+    }
+
+    public void testEscapes() {
+        assertSerialized("key=back\\\\slash\\u0009tab \\u00E9" + NL,
+                "back\\slash\ttab \u00E9",
+                IPropertiesSerializerConfig.NEW_LINE_DEFAULT, false);
+        assertSerialized("key=\\ leading space" + NL, " leading space",
+                IPropertiesSerializerConfig.NEW_LINE_DEFAULT, false);
+    }
+
+    public void testRoundTrip() {
+        String[] values = { "plain", "one\r\ntwo\nthree\rfour",
+                "back\\slash", "tab\there", " leading space",
+                "caf\u00E9 \u4E2D", "" };
+        for (int nice = 0; nice < 2; nice++) {
+            PropertiesSerializer serializer = new PropertiesSerializer(
+                    new Config(IPropertiesSerializerConfig.NEW_LINE_DEFAULT,
+                            nice == 1));
+            MessagesBundle bundle = newBundle();
+            for (int i = 0; i < values.length; i++) {
+                addMessage(bundle, "key" + i, values[i]);
+            }
+            String text = serializer.serialize(bundle);
+
+            MessagesBundle read = newBundle();
+            new PropertiesDeserializer(new IPropertiesDeserializerConfig() {
+                public boolean isUnicodeUnescapeEnabled() {
+                    return true;
+                }
+            }).deserialize(read, text);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(values[i], read.getMessage("key" + i).getValue());
+            }
+            assertEquals(text, serializer.serialize(read));
+        }
+    }
+
+    private void assertSerialized(String expected, String value,
+            int newLineStyle, boolean newLineNice) {
+        MessagesBundle bundle = newBundle();
+        addMessage(bundle, "key", value);
+        assertEquals(expected, new PropertiesSerializer(new Config(
+                newLineStyle, newLineNice)).serialize(bundle));
+    }
+
+    private static MessagesBundle newBundle() {
+        MessagesBundle bundle = new MessagesBundle(new StringResource());
+        bundle.setComment("");
+        return bundle;
+    }
+
+    private static void addMessage(MessagesBundle bundle, String key,
+            String value) {
+        Message message = new Message(key, Locale.ROOT);
+        message.setText(value);
+        bundle.addMessage(message);
+    }
+
+    /** Default configuration without header comment nor key groups. */
+    private static class Config extends DefaultPropertiesSerializerConfig {
+
+        private final int newLineStyle;
+        private final boolean newLineNice;
+
+        Config(int newLineStyle, boolean newLineNice) {
+            this.newLineStyle = newLineStyle;
+            this.newLineNice = newLineNice;
+        }
+
+        @Override
+        public int getNewLineStyle() {
+            return newLineStyle;
+        }
+
+        @Override
+        public boolean isNewLineNice() {
+            return newLineNice;
+        }
+
+        @Override
+        public boolean isShowSupportEnabled() {
+            return false;
+        }
+
+        @Override
+        public boolean isGroupKeysEnabled() {
+            return false;
+        }
+    }
+
+    /** Properties text kept in memory. */
+    private static class StringResource extends AbstractPropertiesResource {
+
+        private String text = "";
+
+        StringResource() {
+            super(Locale.ROOT, new PropertiesSerializer(null),
+                    new PropertiesDeserializer(null));
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public void setText(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public Object getSource() {
+            return this;
+        }
+
+        @Override
+        public String getResourceLocationLabel() {
+            return "memory";
+        }
+
+        @Override
+        public void dispose() {
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.core.metrics;
+
+import junit.framework.TestCase;
+
+import org.eclipse.babel.core.metrics.MetricsSnapshot.Distribution;
+
+public class HistogramTest extends TestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        Metrics.setEnabled(true);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Metrics.setEnabled(false);
+    }
+
+    public void testEmpty() {
+        Distribution d = new Histogram().snapshot();
+        assertEquals(0, d.getCount());
+        assertEquals(0, d.getSum());
+        assertEquals(0d, d.getMean(), 0d);
+        assertEquals(0, d.getMin());
+        assertEquals(0, d.getMax());
+        assertEquals(0, d.getP50());
+        assertEquals(0, d.getP99());
+    }
+
+    public void testPercentiles() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 100; value++) {
+            histogram.update(value);
+        }
+        Distribution d = histogram.snapshot();
+        assertEquals(100, d.getCount());
+        assertEquals(5050, d.getSum());
+        assertEquals(50.5d, d.getMean(), 0d);
+        assertEquals(1, d.getMin());
+        assertEquals(100, d.getMax());
+        // upper bound of the bucket holding the percentile, at most the max
+        assertEquals(63, d.getP50());
+        assertEquals(100, d.getP90());
+        assertEquals(100, d.getP99());
+    }
+
+    public void testPercentileBounds() {
+        Histogram histogram = new Histogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.update(5);
+        }
+        histogram.update(1000);
+        Distribution d = histogram.snapshot();
+        assertEquals(7, d.getP50());
+        assertEquals(7, d.getP90());
+        assertEquals(7, d.getP99());
+        assertEquals(1000, d.getMax());
+
+        histogram.update(1000);
+        assertEquals(1000, histogram.snapshot().getP99());
+    }
+
+    public void testZeroAndNegativeValues() {
+        Histogram histogram = new Histogram();
+        histogram.update(0);
+        histogram.update(-5);
+        Distribution d = histogram.snapshot();
+        assertEquals(2, d.getCount());
+        assertEquals(0, d.getSum());
+        assertEquals(0, d.getMin());
+        assertEquals(0, d.getMax());
+        assertEquals(0, d.getP50());
+    }
+
+    public void testDisabled() {
+        Histogram histogram = new Histogram();
+        Metrics.setEnabled(false);
+        histogram.update(10);
+        assertEquals(0, histogram.getCount());
+        Metrics.setEnabled(true);
+        histogram.update(10);
+        assertEquals(1, histogram.getCount());
+    }
+
+    public void testReset() {
+        Histogram histogram = new Histogram();
+        histogram.update(10);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        histogram.update(3);
+        Distribution d = histogram.snapshot();
+        assertEquals(3, d.getMin());
+        assertEquals(3, d.getMax());
+        assertEquals(3, d.getSum());
+    }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.core.metrics;
+
+import junit.framework.TestCase;
+
+import org.eclipse.babel.core.metrics.MetricsSnapshot.Distribution;
+
+public class MetricsSnapshotTest extends TestCase {
+
+    private MetricsSnapshot snapshot;
+
+    @Override
+    protected void setUp() throws Exception {
+        Metrics.setEnabled(true);
+
+        Histogram durations = new Histogram();
+        durations.update(1000000);
+        durations.update(3000000);
+        Histogram values = new Histogram();
+        values.update(2);
+        values.update(3);
+        values.update(10);
+
+        snapshot = new MetricsSnapshot();
+        snapshot.addCounter("b.counter", 3);
+        snapshot.addCounter("a.counter", 1);
+        snapshot.addTimer("timer", durations.snapshot());
+        snapshot.addHistogram("histogram", values.snapshot());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Metrics.setEnabled(false);
+    }
+
+    public void testToText() {
+        assertEquals("a.counter: count=1\n"
+                + "b.counter: count=3\n"
+                + "timer: count=2 total=4.000ms mean=2.000ms p50=1.049ms"
+                + " p90=3.000ms p99=3.000ms max=3.000ms\n"
+                + "histogram: count=3 sum=15 min=2 mean=5.000 p50=3 p90=10"
+                + " p99=10 max=10\n", snapshot.toText());
+        assertEquals(snapshot.toText(), snapshot.toString());
+    }
+
+    public void testToJson() {
+        assertEquals("{\"counters\":{\"a.counter\":1,\"b.counter\":3},"
+                + "\"timers\":{\"timer\":{\"count\":2,\"totalMs\":4.000,"
+                + "\"meanMs\":2.000,\"minMs\":1.000,\"p50Ms\":1.049,"
+                + "\"p90Ms\":3.000,\"p99Ms\":3.000,\"maxMs\":3.000}},"
+                + "\"histograms\":{\"histogram\":{\"count\":3,\"sum\":15,"
+                + "\"mean\":5.000,\"min\":2,\"p50\":3,\"p90\":10,\"p99\":10,"
+                + "\"max\":10}}}", snapshot.toJson());
+    }
+
+    public void testEmpty() {
+        MetricsSnapshot empty = new MetricsSnapshot();
+        assertEquals("", empty.toText());
+        assertEquals("{\"counters\":{},\"timers\":{},\"histograms\":{}}",
+                empty.toJson());
+    }
+
+    public void testJsonEscapesNames() {
+        MetricsSnapshot escaped = new MetricsSnapshot();
+        escaped.addCounter("a\"b\\c\nd", 1);
+        escaped.addHistogram("h", new Distribution(0, 0, 0, 0, 0, 0, 0));
+        assertEquals("{\"counters\":{\"a\\\"b\\\\c\\u000ad\":1},"
+                + "\"timers\":{},\"histograms\":{\"h\":{\"count\":0,"
+                + "\"sum\":0,\"mean\":0.000,\"min\":0,\"p50\":0,\"p90\":0,"
+                + "\"p99\":0,\"max\":0}}}", escaped.toJson());
+    }
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.core.metrics;
+
+import junit.framework.TestCase;
+
+public class MetricsTest extends TestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        Metrics.setEnabled(true);
+        Metrics.reset();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Metrics.reset();
+        Metrics.setEnabled(false);
+    }
+
+    public void testCounter() {
+        Counter counter = Metrics.counter("MetricsTest.counter");
+        assertSame(counter, Metrics.counter("MetricsTest.counter"));
+        counter.increment();
+        counter.add(4);
+        assertEquals(5, counter.getCount());
+
+        Metrics.setEnabled(false);
+        counter.increment();
+        counter.add(4);
+        assertEquals(5, counter.getCount());
+
+        Metrics.reset();
+        assertEquals(0, counter.getCount());
+    }
+
+    public void testTimer() {
+        Timer timer = Metrics.timer("MetricsTest.timer");
+        assertSame(timer, Metrics.timer("MetricsTest.timer"));
+        long start = timer.start();
+        assertTrue(start != 0);
+        timer.stop(start);
+        timer.record(1000);
+        assertEquals(2, timer.getDurations().getCount());
+    }
+
+    public void testTimerDisabled() {
+        Timer timer = Metrics.timer("MetricsTest.timer");
+        Metrics.setEnabled(false);
+        long start = timer.start();
+        assertEquals(0, start);
+        timer.stop(start);
+        assertEquals(0, timer.getDurations().getCount());
+
+        // a timer started while disabled records nothing once enabled
+        Metrics.setEnabled(true);
+        timer.stop(start);
+        assertEquals(0, timer.getDurations().getCount());
+    }
+
+    public void testSnapshot() {
+        Metrics.counter("MetricsTest.counter").add(3);
+        Metrics.counter("MetricsTest.unused");
+        Metrics.timer("MetricsTest.timer").record(2000000);
+        Metrics.histogram("MetricsTest.histogram").update(7);
+
+        MetricsSnapshot snapshot = Metrics.snapshot();
+        assertEquals(Long.valueOf(3), snapshot.getCounters().get(
+                "MetricsTest.counter"));
+        // metrics which never recorded a value are left out
+        assertFalse(snapshot.getCounters().containsKey("MetricsTest.unused"));
+        assertEquals(2000000, snapshot.getTimers().get("MetricsTest.timer")
+                .getSum());
+        assertEquals(7, snapshot.getHistograms().get("MetricsTest.histogram")
+                .getMax());
+
+        Metrics.reset();
+        snapshot = Metrics.snapshot();
+        assertTrue(snapshot.getCounters().isEmpty());
+        assertTrue(snapshot.getTimers().isEmpty());
+        assertTrue(snapshot.getHistograms().isEmpty());
+    }
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.core.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import junit.framework.TestCase;
+
+public class FileUtilsTest extends TestCase {
+
+    private File dir;
+
+    @Override
+    protected void setUp() throws Exception {
+        dir = File.createTempFile("fileutils", "");
+        assertTrue(dir.delete() && dir.mkdir());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    public void testReplaceFile() throws IOException {
+        File file = write("messages.properties", "old");
+        File newFile = write("messages.properties.tmp", "new");
+        FileUtils.replaceFile(file, newFile);
+        assertEquals("new", read(file));
+        assertFalse(newFile.exists());
+        assertEquals(1, dir.list().length);
+    }
+
+    public void testReplaceMissingFile() throws IOException {
+        File file = new File(dir, "messages.properties");
+        File newFile = write("messages.properties.tmp", "new");
+        FileUtils.replaceFile(file, newFile);
+        assertEquals("new", read(file));
+        assertEquals(1, dir.list().length);
+    }
+
+    public void testFailedReplaceKeepsFile() throws IOException {
+        File file = write("messages.properties", "old");
+        File newFile = new File(dir, "missing.tmp");
+        try {
+            FileUtils.replaceFile(file, newFile);
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+        assertEquals("old", read(file));
+        assertEquals(1, dir.list().length);
+    }
+
+    private File write(String name, String text) throws IOException {
+        File file = new File(dir, name);
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(text.getBytes("ISO-8859-1"));
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    private static String read(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] bytes = new byte[(int) file.length()];
+            int length = 0;
+            while (length < bytes.length) {
+                int read = in.read(bytes, length, bytes.length - length);
+                if (read < 0) {
+                    break;
+                }
+                length += read;
+            }
+            return new String(bytes, 0, length, "ISO-8859-1");
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Observer;
 import org.eclipse.babel.core.message.checks.IMessageCheck;
 import org.eclipse.babel.core.message.checks.internal.DuplicateValueCheck;
 import org.eclipse.babel.core.message.checks.internal.MissingValueCheck;
+import org.eclipse.babel.core.message.internal.MessagesBundleGroup;
 import org.eclipse.babel.editor.IMessagesEditorChangeListener;
 import org.eclipse.babel.editor.i18n.actions.ShowDuplicateAction;
 import org.eclipse.babel.editor.i18n.actions.ShowMissingAction;
@@ -145,9 +146,14 @@ public class EntryRightBanner extends Composite {
         if (check instanceof MissingValueCheck) {
             return new ShowMissingAction(key, locale);
         } else if (check instanceof DuplicateValueCheck) {
-            return new ShowDuplicateAction(
-                    ((DuplicateValueCheck) check).getDuplicateKeys(), key,
-                    locale);
+            // the validator resets its check once done, ask the bundle index
+            // for the current duplicates instead
+            DuplicateValueCheck duplicateCheck = new DuplicateValueCheck();
+            MessagesBundleGroup bundleGroup = editor.getBundleGroup();
+            duplicateCheck.checkKey(bundleGroup,
+                    bundleGroup.getMessage(key, locale));
+            return new ShowDuplicateAction(duplicateCheck.getDuplicateKeys(),
+                    key, locale);
         }
         return null;
     }
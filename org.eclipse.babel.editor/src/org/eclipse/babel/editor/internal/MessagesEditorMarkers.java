@@ -12,15 +12,20 @@ package org.eclipse.babel.editor.internal;
 
 import java.beans.PropertyChangeEvent;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Observable;
+import java.util.Set;
 
+import org.eclipse.babel.core.message.IMessage;
 import org.eclipse.babel.core.message.checks.IMessageCheck;
 import org.eclipse.babel.core.message.checks.internal.DuplicateValueCheck;
 import org.eclipse.babel.core.message.checks.internal.MissingValueCheck;
+import org.eclipse.babel.core.message.internal.Message;
 import org.eclipse.babel.core.message.internal.MessagesBundle;
 import org.eclipse.babel.core.message.internal.MessagesBundleGroup;
 import org.eclipse.babel.core.message.internal.MessagesBundleGroupAdapter;
@@ -40,20 +45,11 @@ public class MessagesEditorMarkers extends Observable implements
     // private final Collection validationEvents = new ArrayList();
     private final MessagesBundleGroup messagesBundleGroup;
 
-    // private Map<String,Set<ValidationFailureEvent>> markersIndex = new
-    // HashMap();
     /**
-     * index is the name of the key. value is the collection of markers on that
-     * key
-     */
-    private Map<String, Collection<IMessageCheck>> markersIndex = new HashMap<String, Collection<IMessageCheck>>();
-
-    /**
-     * Maps a localized key (a locale and key pair) to the collection of markers
-     * for that key and that locale. If no there are no markers for the key and
+     * Markers by key, then by locale. If there are no markers for a key and
      * locale then there will be no entry in the map.
      */
-    private Map<String, Collection<IMessageCheck>> localizedMarkersMap = new HashMap<String, Collection<IMessageCheck>>();
+    private Map<String, Map<Locale, Collection<IMessageCheck>>> markersIndex = new HashMap<String, Map<Locale, Collection<IMessageCheck>>>();
 
     /**
      * @param messagesBundleGroup
@@ -66,12 +62,36 @@ public class MessagesEditorMarkers extends Observable implements
                 .addMessagesBundleGroupListener(new MessagesBundleGroupAdapter() {
                     public void messageChanged(MessagesBundle messagesBundle,
                             PropertyChangeEvent changeEvent) {
-                        resetMarkers();
+                        if (Message.PROPERTY_TEXT.equals(changeEvent
+                                .getPropertyName())) {
+                            IMessage message = (IMessage) changeEvent
+                                    .getSource();
+                            Set<String> keys = getDependentKeys(
+                                    messagesBundle, message.getKey(),
+                                    (String) changeEvent.getOldValue(),
+                                    (String) changeEvent.getNewValue());
+                            revalidate(keys, messagesBundle.getLocale());
+                        }
+                    }
+
+                    public void messageAdded(MessagesBundle messagesBundle,
+                            Message message) {
+                        keyChanged(messagesBundle, message);
+                    }
+
+                    public void messageRemoved(MessagesBundle messagesBundle,
+                            Message message) {
+                        keyChanged(messagesBundle, message);
                     }
 
                     public void messagesBundleChanged(
                             MessagesBundle messagesBundle,
                             PropertyChangeEvent changeEvent) {
+                        // added and removed messages are handled on their own
+                        if (MessagesBundle.PROPERTY_MESSAGES_COUNT
+                                .equals(changeEvent.getPropertyName())) {
+                            return;
+                        }
                         Display.getDefault().asyncExec(new Runnable() {
                             public void run() {
                                 resetMarkers();
@@ -80,9 +100,27 @@ public class MessagesEditorMarkers extends Observable implements
                     }
 
                     public void propertyChange(PropertyChangeEvent evt) {
+                        // added and removed keys are handled on their own
+                        if (MessagesBundleGroup.PROPERTY_KEY_COUNT.equals(evt
+                                .getPropertyName())) {
+                            return;
+                        }
                         resetMarkers();
                     }
 
+                    /**
+                     * A key appearing or disappearing from a bundle may
+                     * change its missing status in every locale.
+                     */
+                    private void keyChanged(MessagesBundle messagesBundle,
+                            Message message) {
+                        Set<String> keys = getDependentKeys(messagesBundle,
+                                message.getKey(), message.getValue(), null);
+                        revalidate(keys, messagesBundle.getLocale());
+                        revalidate(Collections.singleton(message.getKey()),
+                                messagesBundleGroup.getLocales());
+                    }
+
                     private void resetMarkers() {
                         clear();
                         validate();
@@ -90,14 +128,29 @@ public class MessagesEditorMarkers extends Observable implements
                 });
     }
 
-    private String buildLocalizedKey(Locale locale, String key) {
-        // the '=' is hack to make sure no local=key can ever conflict
-        // with another local=key: in other words
-        // it makes a hash of the combination (key+locale).
+    /**
+     * Gets the keys to validate again in a bundle when the value of a key
+     * changes: the key itself, and the keys that had or now have the same
+     * value.
+     */
+    private Set<String> getDependentKeys(MessagesBundle messagesBundle,
+            String key, String oldValue, String newValue) {
+        Set<String> keys = new LinkedHashSet<String>();
+        keys.add(key);
+        if (oldValue != null) {
+            keys.addAll(messagesBundle.getKeysWithValue(oldValue));
+        }
+        if (newValue != null) {
+            keys.addAll(messagesBundle.getKeysWithValue(newValue));
+        }
+        return keys;
+    }
+
+    private Locale normalize(Locale locale) {
         if (locale == null) {
             locale = UIUtils.ROOT_LOCALE;
         }
-        return locale + "=" + key;
+        return locale;
     }
 
     /**
@@ -105,22 +158,19 @@ public class MessagesEditorMarkers extends Observable implements
      *      org.eclipse.babel.core.bundle.checks.IBundleEntryCheck)
      */
     public void markFailed(ValidationFailureEvent event) {
-        Collection<IMessageCheck> markersForKey = markersIndex.get(event
-                .getKey());
+        Map<Locale, Collection<IMessageCheck>> markersForKey = markersIndex
+                .get(event.getKey());
         if (markersForKey == null) {
-            markersForKey = new HashSet<IMessageCheck>();
+            markersForKey = new HashMap<Locale, Collection<IMessageCheck>>();
             markersIndex.put(event.getKey(), markersForKey);
         }
-        markersForKey.add(event.getCheck());
-
-        String localizedKey = buildLocalizedKey(event.getLocale(),
-                event.getKey());
-        markersForKey = localizedMarkersMap.get(localizedKey);
-        if (markersForKey == null) {
-            markersForKey = new HashSet<IMessageCheck>();
-            localizedMarkersMap.put(localizedKey, markersForKey);
+        Locale locale = normalize(event.getLocale());
+        Collection<IMessageCheck> markers = markersForKey.get(locale);
+        if (markers == null) {
+            markers = new HashSet<IMessageCheck>();
+            markersForKey.put(locale, markers);
         }
-        markersForKey.add(event.getCheck());
+        markers.add(event.getCheck());
 
         // System.out.println("CREATE EDITOR MARKER");
         setChanged();
@@ -128,7 +178,6 @@ public class MessagesEditorMarkers extends Observable implements
 
     public void clear() {
         markersIndex.clear();
-        localizedMarkersMap.clear();
         setChanged();
         notifyObservers(this);
     }
@@ -137,8 +186,26 @@ public class MessagesEditorMarkers extends Observable implements
         return markersIndex.containsKey(key);
     }
 
+    /**
+     * @param key
+     * @return the markers for the key in all locales; the return value may be
+     *         null if there are no markers
+     */
     public Collection<IMessageCheck> getFailedChecks(String key) {
-        return markersIndex.get(key);
+        Map<Locale, Collection<IMessageCheck>> markersForKey = markersIndex
+                .get(key);
+        if (markersForKey == null) {
+            return null;
+        }
+        if (markersForKey.size() == 1) {
+            return markersForKey.values().iterator().next();
+        }
+        Collection<IMessageCheck> markers = new HashSet<IMessageCheck>();
+        for (Collection<IMessageCheck> localizedMarkers : markersForKey
+                .values()) {
+            markers.addAll(localizedMarkers);
+        }
+        return markers;
     }
 
     /**
@@ -150,7 +217,12 @@ public class MessagesEditorMarkers extends Observable implements
      */
     public Collection<IMessageCheck> getFailedChecks(final String key,
             final Locale locale) {
-        return localizedMarkersMap.get(buildLocalizedKey(locale, key));
+        Map<Locale, Collection<IMessageCheck>> markersForKey = markersIndex
+                .get(key);
+        if (markersForKey == null) {
+            return null;
+        }
+        return markersForKey.get(normalize(locale));
     }
 
     private void validate() {
@@ -173,6 +245,35 @@ public class MessagesEditorMarkers extends Observable implements
         notifyObservers(null);
     }
 
+    /**
+     * Validates again the given keys in the given locales only, replacing
+     * their markers.
+     * 
+     * @param keys
+     *            keys to validate
+     * @param locales
+     *            locales to validate
+     */
+    private void revalidate(Collection<String> keys, Locale... locales) {
+        for (Locale locale : locales) {
+            Locale normalized = normalize(locale);
+            for (String key : keys) {
+                Map<Locale, Collection<IMessageCheck>> markersForKey = markersIndex
+                        .get(key);
+                if (markersForKey != null
+                        && markersForKey.remove(normalized) != null) {
+                    if (markersForKey.isEmpty()) {
+                        markersIndex.remove(key);
+                    }
+                    setChanged();
+                }
+            }
+            MessagesBundleGroupValidator.validate(messagesBundleGroup, locale,
+                    keys, this);
+        }
+        notifyObservers(null);
+    }
+
     /**
      * @param key
      * @return true when the key has a missing or unused issue
@@ -354,7 +354,8 @@ public class MessagesEditorPlugin extends AbstractUIPlugin implements
     }
 
     public static void disposeModel() {
-        if (plugin != null) {
+        if (plugin != null && plugin.model != null) {
+            plugin.model.dispose();
             plugin.model = null;
         }
     }
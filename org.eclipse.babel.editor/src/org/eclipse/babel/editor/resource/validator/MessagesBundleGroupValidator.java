@@ -10,11 +10,16 @@
  ******************************************************************************/
 package org.eclipse.babel.editor.resource.validator;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Locale;
 
 import org.eclipse.babel.core.message.checks.internal.DuplicateValueCheck;
 import org.eclipse.babel.core.message.checks.internal.MissingValueCheck;
 import org.eclipse.babel.core.message.internal.MessagesBundleGroup;
+import org.eclipse.babel.core.metrics.Counter;
+import org.eclipse.babel.core.metrics.Metrics;
+import org.eclipse.babel.core.metrics.Timer;
 import org.eclipse.babel.editor.preferences.MsgEditorPreferences;
 
 /**
@@ -25,17 +30,55 @@ public class MessagesBundleGroupValidator {
 
     // TODO Re-think... ??
 
+    private static final Timer VALIDATE_TIMER = Metrics
+            .timer("MessagesBundleGroupValidator.validate"); //$NON-NLS-1$
+    private static final Counter VALIDATED_KEYS = Metrics
+            .counter("MessagesBundleGroupValidator.keys"); //$NON-NLS-1$
+
     public static void validate(MessagesBundleGroup messagesBundleGroup,
             Locale locale, IValidationMarkerStrategy markerStrategy) {
         // TODO check if there is a matching EclipsePropertiesEditorResource
         // already open.
         // else, create MessagesBundle from PropertiesIFileResource
+        validate(messagesBundleGroup, locale,
+                Arrays.asList(messagesBundleGroup.getMessageKeys()),
+                markerStrategy);
+    }
 
+    /**
+     * Validates only the given keys for a locale. Keys no longer part of the
+     * group are skipped.
+     * 
+     * @param messagesBundleGroup
+     *            the group to validate
+     * @param locale
+     *            the locale to validate
+     * @param keys
+     *            the keys to validate
+     * @param markerStrategy
+     *            strategy notified of each failed check
+     */
+    public static void validate(MessagesBundleGroup messagesBundleGroup,
+            Locale locale, Collection<String> keys,
+            IValidationMarkerStrategy markerStrategy) {
+        long start = VALIDATE_TIMER.start();
+        try {
+            validateKeys(messagesBundleGroup, locale, keys, markerStrategy);
+        } finally {
+            VALIDATE_TIMER.stop(start);
+        }
+        VALIDATED_KEYS.add(keys.size());
+    }
+
+    private static void validateKeys(MessagesBundleGroup messagesBundleGroup,
+            Locale locale, Collection<String> keys,
+            IValidationMarkerStrategy markerStrategy) {
         DuplicateValueCheck duplicateCheck = MsgEditorPreferences.getInstance()
                 .getReportDuplicateValues() ? new DuplicateValueCheck() : null;
-        String[] keys = messagesBundleGroup.getMessageKeys();
-        for (int i = 0; i < keys.length; i++) {
-            String key = keys[i];
+        for (String key : keys) {
+            if (!messagesBundleGroup.containsKey(key)) {
+                continue;
+            }
             if (MsgEditorPreferences.getInstance().getReportMissingValues()) {
                 if (MissingValueCheck.MISSING_KEY.checkKey(messagesBundleGroup,
                         messagesBundleGroup.getMessage(key, locale))) {
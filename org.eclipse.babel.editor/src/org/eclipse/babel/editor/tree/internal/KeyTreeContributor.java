@@ -20,6 +20,7 @@ import org.eclipse.babel.core.message.tree.IKeyTreeNode;
 import org.eclipse.babel.core.message.tree.TreeType;
 import org.eclipse.babel.core.message.tree.internal.AbstractKeyTreeModel;
 import org.eclipse.babel.core.message.tree.internal.IKeyTreeModelListener;
+import org.eclipse.babel.core.message.tree.internal.IKeyTreeModelListener2;
 import org.eclipse.babel.core.message.tree.internal.KeyTreeNode;
 import org.eclipse.babel.editor.IMessagesEditorChangeListener;
 import org.eclipse.babel.editor.builder.Builder;
@@ -259,7 +260,7 @@ public class KeyTreeContributor implements IKeyTreeContributor {
      *            tree viewer
      */
     private void contributeModelChanges(final TreeViewer treeViewer) {
-        final IKeyTreeModelListener keyTreeListener = new IKeyTreeModelListener() {
+        final IKeyTreeModelListener keyTreeListener = new IKeyTreeModelListener2() {
             // TODO be smarter about refreshes.
             public void nodeAdded(KeyTreeNode node) {
                 Display.getDefault().asyncExec(new Runnable() {
@@ -271,6 +272,16 @@ public class KeyTreeContributor implements IKeyTreeContributor {
                 });
             };
 
+            public void nodesAdded(KeyTreeNode[] nodes) {
+                Display.getDefault().asyncExec(new Runnable() {
+                    public void run() {
+                        if (!editor.getI18NPage().isDisposed()) {
+                            treeViewer.refresh(true);
+                        }
+                    }
+                });
+            };
+
             // public void nodeChanged(KeyTreeNode node) {
             // treeViewer.refresh(true);
             // };
@@ -21,6 +21,7 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import org.eclipse.babel.editor.compat.SwtRapCompatibilityFormToolkit;
 import org.eclipse.babel.editor.plugin.MessagesEditorPlugin;
@@ -921,11 +922,18 @@ public class LocalizationEditor extends EditorPart {
                         false);
                 StringMatcher strMatcher = new StringMatcher(strPattern, true,
                         false);
+                // Narrow the search to the keys containing the pattern
+                Set<ResourceBundleKey> candidates = model.getCandidateKeys(
+                        pattern, locales);
                 for (ResourceBundleKey key : keys) {
                     if (monitor.isCanceled()) {
                         return Status.OK_STATUS;
                     }
 
+                    if (candidates != null && !candidates.contains(key)) {
+                        continue;
+                    }
+
                     // Missing entries
                     if (filterOptions.keysWithMissingEntriesOnly) {
                         boolean hasMissingEntry = false;
@@ -77,7 +77,7 @@ public class ResourceBundle extends ResourceBundleElement {
         return locale;
     }
 
-    public String getString(String key) throws CoreException {
+    public synchronized String getString(String key) throws CoreException {
         load();
         return entries.get(key);
     }
@@ -97,7 +97,7 @@ public class ResourceBundle extends ResourceBundleElement {
         return entries != null;
     }
 
-    public void load() throws CoreException {
+    public synchronized void load() throws CoreException {
         if (isLoaded())
             return;
         entries = new HashMap<String, String>();
@@ -131,10 +131,31 @@ public class ResourceBundle extends ResourceBundleElement {
         }
     }
 
-    protected void unload() {
+    protected synchronized void unload() {
+        if (!isLoaded())
+            return;
+        ResourceBundleFamily family = getFamily();
+        ResourceBundleModel model = family.getModel();
+        for (Entry<String, String> entry : entries.entrySet()) {
+            model.unindexValue(family.addKey(entry.getKey()), locale,
+                    entry.getValue());
+        }
         entries = null;
     }
 
+    /**
+     * Reads a loaded bundle again, after its underlying resource has changed.
+     * Keys that are no longer defined stay known to the family.
+     * 
+     * @throws CoreException
+     */
+    protected synchronized void reload() throws CoreException {
+        if (!isLoaded())
+            return;
+        unload();
+        load();
+    }
+
     public boolean isReadOnly() {
         if (resource instanceof IJarEntryResource)
             return true;
@@ -156,19 +177,25 @@ public class ResourceBundle extends ResourceBundleElement {
             if (key instanceof String && value instanceof String) {
                 String stringKey = (String) key;
                 entries.put(stringKey, (String) value);
-                family.addKey(stringKey);
+                family.getModel().indexValue(family.addKey(stringKey),
+                        locale, (String) value);
             }
         }
     }
 
-    public void put(String key, String value) throws CoreException {
+    public synchronized void put(String key, String value)
+            throws CoreException {
         load();
         ResourceBundleFamily family = getFamily();
-        entries.put(key, value);
-        family.addKey(key);
+        ResourceBundleKey bundleKey = family.addKey(key);
+        String oldValue = entries.put(key, value);
+        if (oldValue != null) {
+            family.getModel().unindexValue(bundleKey, locale, oldValue);
+        }
+        family.getModel().indexValue(bundleKey, locale, value);
     }
 
-    public String[] getKeys() throws CoreException {
+    public synchronized String[] getKeys() throws CoreException {
         load();
         Set<String> keySet = entries.keySet();
         return keySet.toArray(new String[keySet.size()]);
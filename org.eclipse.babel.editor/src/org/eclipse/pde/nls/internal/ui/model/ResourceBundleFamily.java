@@ -108,18 +108,31 @@ public class ResourceBundleFamily extends ResourceBundleElement {
         members.add(bundle);
     }
 
-    protected void addKey(String key) {
-        if (keys.get(key) == null) {
-            keys.put(key, new ResourceBundleKey(this, key));
+    /**
+     * Returns the model to which this family belongs.
+     * 
+     * @return the model to which this family belongs
+     */
+    public ResourceBundleModel getModel() {
+        return (ResourceBundleModel) super.getParent();
+    }
+
+    protected synchronized ResourceBundleKey addKey(String key) {
+        ResourceBundleKey bundleKey = keys.get(key);
+        if (bundleKey == null) {
+            bundleKey = new ResourceBundleKey(this, key);
+            keys.put(key, bundleKey);
+            getModel().indexKey(bundleKey);
         }
+        return bundleKey;
     }
 
-    public ResourceBundleKey[] getKeys() {
+    public synchronized ResourceBundleKey[] getKeys() {
         Collection<ResourceBundleKey> values = keys.values();
         return values.toArray(new ResourceBundleKey[values.size()]);
     }
 
-    public int getKeyCount() {
+    public synchronized int getKeyCount() {
         return keys.size();
     }
 
@@ -11,8 +11,10 @@
 package org.eclipse.pde.nls.internal.ui.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Set;
 
 import org.eclipse.babel.editor.plugin.MessagesEditorPlugin;
 import org.eclipse.core.resources.IContainer;
@@ -20,6 +22,10 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -53,6 +59,51 @@ public class ResourceBundleModel extends ResourceBundleElement {
     // unloading of bundles
     private HashSet<Locale> loadedLocales = new HashSet<Locale>();
 
+    /**
+     * The bundles read from workspace files, by file.
+     */
+    private HashMap<IFile, ResourceBundle> fileBundles = new HashMap<IFile, ResourceBundle>();
+
+    /**
+     * The known keys by the trigrams of their name, and by the trigrams of
+     * their value in the loaded bundles of each locale.
+     */
+    private TrigramIndex<ResourceBundleKey> keyIndex = new TrigramIndex<ResourceBundleKey>();
+    private HashMap<Locale, TrigramIndex<ResourceBundleKey>> valueIndexes = new HashMap<Locale, TrigramIndex<ResourceBundleKey>>();
+
+    /**
+     * Reads the loaded bundles again when their files change.
+     */
+    private IResourceChangeListener resourceChangeListener = new IResourceChangeListener() {
+        public void resourceChanged(IResourceChangeEvent event) {
+            IResourceDelta delta = event.getDelta();
+            if (delta == null)
+                return;
+            try {
+                delta.accept(new IResourceDeltaVisitor() {
+                    public boolean visit(IResourceDelta delta)
+                            throws CoreException {
+                        IResource resource = delta.getResource();
+                        if (!(resource instanceof IFile))
+                            return true;
+                        if (delta.getKind() == IResourceDelta.CHANGED
+                                && (delta.getFlags() & IResourceDelta.CONTENT) != 0) {
+                            ResourceBundle bundle;
+                            synchronized (fileBundles) {
+                                bundle = fileBundles.get(resource);
+                            }
+                            if (bundle != null)
+                                bundle.reload();
+                        }
+                        return false;
+                    }
+                });
+            } catch (CoreException e) {
+                MessagesEditorPlugin.log(e);
+            }
+        }
+    };
+
     public ResourceBundleModel(IProgressMonitor monitor) {
         super(null);
         try {
@@ -60,6 +111,17 @@ public class ResourceBundleModel extends ResourceBundleElement {
         } catch (CoreException e) {
             MessagesEditorPlugin.log(e);
         }
+        ResourcesPlugin.getWorkspace().addResourceChangeListener(
+                resourceChangeListener, IResourceChangeEvent.POST_CHANGE);
+    }
+
+    /**
+     * Stops following the changes of the workspace files. A disposed model
+     * is not updated any more.
+     */
+    public void dispose() {
+        ResourcesPlugin.getWorkspace().removeResourceChangeListener(
+                resourceChangeListener);
     }
 
     /**
@@ -130,6 +192,57 @@ public class ResourceBundleModel extends ResourceBundleElement {
         return allKeys.toArray(new ResourceBundleKey[allKeys.size()]);
     }
 
+    /**
+     * Returns the keys that may match a search pattern, either by their name
+     * or by their value in one of the given locales. Only the values of loaded
+     * bundles are considered. The candidates still have to be matched against
+     * the pattern.
+     * 
+     * @param pattern
+     *            the search pattern, with '*' and '?' wildcards
+     * @param locales
+     *            the locales of the values to search
+     * @return the candidate keys, or <code>null</code> if the pattern is too
+     *         short to narrow the search
+     */
+    public Set<ResourceBundleKey> getCandidateKeys(String pattern,
+            Locale[] locales) {
+        Set<ResourceBundleKey> candidates = keyIndex.getCandidates(pattern);
+        if (candidates == null)
+            return null;
+        for (Locale locale : locales) {
+            TrigramIndex<ResourceBundleKey> valueIndex = getValueIndex(locale);
+            candidates.addAll(valueIndex.getCandidates(pattern));
+        }
+        return candidates;
+    }
+
+    protected void indexKey(ResourceBundleKey key) {
+        keyIndex.add(key, key.getName());
+    }
+
+    protected void indexValue(ResourceBundleKey key, Locale locale,
+            String value) {
+        getValueIndex(locale).add(key, value);
+    }
+
+    protected void unindexValue(ResourceBundleKey key, Locale locale,
+            String value) {
+        getValueIndex(locale).remove(key, value);
+    }
+
+    private TrigramIndex<ResourceBundleKey> getValueIndex(Locale locale) {
+        synchronized (valueIndexes) {
+            TrigramIndex<ResourceBundleKey> valueIndex = valueIndexes
+                    .get(locale);
+            if (valueIndex == null) {
+                valueIndex = new TrigramIndex<ResourceBundleKey>();
+                valueIndexes.put(locale, valueIndex);
+            }
+            return valueIndex;
+        }
+    }
+
     /**
      * Loads all the bundles for the given locale into memory.
      * 
@@ -492,6 +605,11 @@ public class ResourceBundleModel extends ResourceBundleElement {
         if ("".equals(locale.getLanguage()))
             bundle.load();
         family.addBundle(bundle);
+        if (resource instanceof IFile) {
+            synchronized (fileBundles) {
+                fileBundles.put((IFile) resource, bundle);
+            }
+        }
     }
 
     private String getBaseName(String filename) {
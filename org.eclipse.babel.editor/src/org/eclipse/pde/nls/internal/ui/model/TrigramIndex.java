@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.nls.internal.ui.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An index of texts by the character trigrams they contain, ignoring case.
+ * The index narrows a search to the items whose text may match a pattern,
+ * the pattern still has to be matched against the text of these candidates.
+ */
+class TrigramIndex<T> {
+
+    private HashMap<Long, Set<T>> postings = new HashMap<Long, Set<T>>();
+
+    /**
+     * Adds an item to the index.
+     * 
+     * @param item
+     *            the item to add
+     * @param text
+     *            the text of the item
+     */
+    public synchronized void add(T item, String text) {
+        for (Long trigram : getTrigrams(text)) {
+            Set<T> items = postings.get(trigram);
+            if (items == null) {
+                items = new HashSet<T>();
+                postings.put(trigram, items);
+            }
+            items.add(item);
+        }
+    }
+
+    /**
+     * Removes an item from the index.
+     * 
+     * @param item
+     *            the item to remove
+     * @param text
+     *            the text the item has been added with
+     */
+    public synchronized void remove(T item, String text) {
+        for (Long trigram : getTrigrams(text)) {
+            Set<T> items = postings.get(trigram);
+            if (items != null) {
+                items.remove(item);
+                if (items.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the items whose text contains all trigrams of the literal parts
+     * of a pattern. The wildcards '*' and '?' as well as the escape character
+     * '\' separate the literal parts.
+     * 
+     * @param pattern
+     *            the pattern
+     * @return the candidate items, or <code>null</code> if the pattern has no
+     *         literal part of three characters or more
+     */
+    public synchronized Set<T> getCandidates(String pattern) {
+        List<Long> trigrams = new ArrayList<Long>();
+        int start = 0;
+        for (int i = 0; i <= pattern.length(); i++) {
+            if (i == pattern.length() || pattern.charAt(i) == '*'
+                    || pattern.charAt(i) == '?' || pattern.charAt(i) == '\\') {
+                trigrams.addAll(getTrigrams(pattern.substring(start, i)));
+                start = i + 1;
+            }
+        }
+        if (trigrams.isEmpty()) {
+            return null;
+        }
+
+        // intersect starting with the smallest posting set
+        Set<T> smallest = null;
+        for (Long trigram : trigrams) {
+            Set<T> items = postings.get(trigram);
+            if (items == null) {
+                return new HashSet<T>();
+            }
+            if (smallest == null || items.size() < smallest.size()) {
+                smallest = items;
+            }
+        }
+        Set<T> candidates = new HashSet<T>(smallest);
+        for (Long trigram : trigrams) {
+            Set<T> items = postings.get(trigram);
+            if (items != smallest) {
+                candidates.retainAll(items);
+            }
+        }
+        return candidates;
+    }
+
+    private static Set<Long> getTrigrams(String text) {
+        Set<Long> trigrams = new HashSet<Long>();
+        if (text == null) {
+            return trigrams;
+        }
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(Long.valueOf(((long) fold(text.charAt(i)) << 32)
+                    | ((long) fold(text.charAt(i + 1)) << 16)
+                    | fold(text.charAt(i + 2))));
+        }
+        return trigrams;
+    }
+
+    /*
+     * Folds the case of a character the way a case insensitive
+     * String#regionMatches() compares characters
+     */
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+}
@@ -18,6 +18,8 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 
 /**
  * A class used to manipulate resource bundle files.
@@ -62,49 +64,137 @@ public class RawBundle {
      */
     private ArrayList<RawLine> lines = new ArrayList<RawLine>();
 
+    /**
+     * The entry lines, in the order of the lines.
+     */
+    private ArrayList<EntryLine> entryLines = new ArrayList<EntryLine>();
+
+    /**
+     * The first entry line of each key.
+     */
+    private HashMap<String, EntryLine> entries = new HashMap<String, EntryLine>();
+
+    /**
+     * Whether the entry lines are sorted by key, ignoring case. New entries
+     * are then inserted using a binary search.
+     */
+    private boolean sorted = true;
+
+    /**
+     * Whether a key has more than one entry line.
+     */
+    private boolean duplicateKeys = false;
+
     public RawBundle() {
     }
 
     public EntryLine getEntryLine(String key) {
-        for (RawLine line : lines) {
-            if (line instanceof EntryLine) {
-                EntryLine entryLine = (EntryLine) line;
-                if (entryLine.key.equals(key))
-                    return entryLine;
-            }
-        }
-        return null;
+        return entries.get(key);
     }
 
     public void put(String key, String value) {
+        EntryLine entryLine = entries.get(key);
+        if (entryLine != null) {
+            entryLine.rawData = key + "=" + escape(value) + "\r\n";
+            return;
+        }
 
         // Find insertion position
-        int size = lines.size();
+        int entryPos = sorted ? findSortedPosition(key)
+                : findPosition(key);
+        int pos = entryPos == entryLines.size() ? lines.size() : lines
+                .indexOf(entryLines.get(entryPos));
+
+        // Append new entry
+        entryLine = new EntryLine(key, key + "=" + escape(value) + "\r\n");
+        lines.add(pos, entryLine);
+        entryLines.add(entryPos, entryLine);
+        entries.put(key, entryLine);
+    }
+
+    /**
+     * Removes the entry lines of a key.
+     * 
+     * @param key
+     *            the key
+     * @return <code>true</code> if there was an entry line for the key
+     */
+    public boolean remove(String key) {
+        EntryLine entryLine = entries.remove(key);
+        if (entryLine == null)
+            return false;
+
+        do {
+            lines.remove(entryLine);
+            entryLines.remove(entryLine);
+            entryLine = duplicateKeys ? findEntryLine(key) : null;
+        } while (entryLine != null);
+        return true;
+    }
+
+    /*
+     * Position in entryLines of the entry to insert a new key before: the last
+     * entry whose key equals the new key ignoring case, else the first entry
+     * whose key is greater ignoring case.
+     */
+    private int findPosition(String key) {
+        int size = entryLines.size();
         int pos = -1;
         for (int i = 0; i < size; i++) {
-            RawLine line = lines.get(i);
-            if (line instanceof EntryLine) {
-                EntryLine entryLine = (EntryLine) line;
-                int compare = key.compareToIgnoreCase(entryLine.key);
-                if (compare < 0) {
-                    if (pos == -1) {
-                        pos = i; // possible insertion position
-                    }
-                } else if (compare > 0) {
-                    continue;
-                } else if (key.equals(entryLine.key)) {
-                    entryLine.rawData = key + "=" + escape(value) + "\r\n";
-                    return;
-                } else {
+            int compare = key.compareToIgnoreCase(entryLines.get(i).key);
+            if (compare < 0) {
+                if (pos == -1) {
                     pos = i; // possible insertion position
                 }
+            } else if (compare == 0) {
+                pos = i; // possible insertion position
             }
         }
-        if (pos == -1)
-            pos = lines.size();
+        return pos == -1 ? size : pos;
+    }
 
-        // Append new entry
-        lines.add(pos, new EntryLine(key, key + "=" + escape(value) + "\r\n"));
+    /*
+     * Same as findPosition, for entry lines sorted by key ignoring case.
+     */
+    private int findSortedPosition(String key) {
+        int low = 0;
+        int high = entryLines.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (key.compareToIgnoreCase(entryLines.get(middle).key) < 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        if (low > 0
+                && key.compareToIgnoreCase(entryLines.get(low - 1).key) == 0) {
+            return low - 1;
+        }
+        return low;
+    }
+
+    private EntryLine findEntryLine(String key) {
+        for (EntryLine entryLine : entryLines) {
+            if (entryLine.key.equals(key))
+                return entryLine;
+        }
+        return null;
+    }
+
+    private void addEntryLine(EntryLine entryLine) {
+        if (!entryLines.isEmpty()
+                && entryLines.get(entryLines.size() - 1).key
+                        .compareToIgnoreCase(entryLine.key) > 0) {
+            sorted = false;
+        }
+        if (entries.containsKey(entryLine.key)) {
+            duplicateKeys = true;
+        } else {
+            entries.put(entryLine.key, entryLine);
+        }
+        lines.add(entryLine);
+        entryLines.add(entryLine);
     }
 
     private String escape(String str) {
@@ -252,7 +342,7 @@ public class RawBundle {
 
                 String lineData = source.toString(begin, end);
                 EntryLine entryLine = new EntryLine(key, lineData);
-                rawBundle.lines.add(entryLine);
+                rawBundle.addEntryLine(entryLine);
             }
         }
 
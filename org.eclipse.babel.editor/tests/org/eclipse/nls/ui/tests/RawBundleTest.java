@@ -66,6 +66,31 @@ public class RawBundleTest extends TestCase {
 
     }
 
+    public void testPutIntoUnsortedBundle() throws IOException {
+        String input = "" + "key3=value3\r\n" + "key1=value1\r\n";
+        rawBundle = readRawBundle(input);
+        rawBundle.put("key2", "value2");
+        rawBundle.put("key1", "value1b");
+        StringWriter stringWriter = new StringWriter();
+        rawBundle.writeTo(stringWriter);
+        assertEquals("" + "key2=value2\r\n" + "key3=value3\r\n"
+                + "key1=value1b\r\n", stringWriter.toString());
+    }
+
+    public void testRemove() throws IOException {
+        String input = "" + "# a comment line\r\n" + "key1=value1\r\n"
+                + "key2=value2\r\n" + "\r\n" + "key1=duplicate\r\n";
+        rawBundle = readRawBundle(input);
+        assertTrue(rawBundle.remove("key1"));
+        assertFalse(rawBundle.remove("key1"));
+        assertNull(rawBundle.getEntryLine("key1"));
+        rawBundle.put("key0", "value0");
+        StringWriter stringWriter = new StringWriter();
+        rawBundle.writeTo(stringWriter);
+        assertEquals("" + "# a comment line\r\n" + "key0=value0\r\n"
+                + "key2=value2\r\n" + "\r\n", stringWriter.toString());
+    }
+
     private void assertRawData(String expected, String key) {
         EntryLine entryLine = rawBundle.getEntryLine(key);
         assertEquals(expected, entryLine.getRawData());
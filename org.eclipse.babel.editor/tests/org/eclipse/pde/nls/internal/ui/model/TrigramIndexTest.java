@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.nls.internal.ui.model;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+public class TrigramIndexTest extends TestCase {
+
+    private TrigramIndex<String> index;
+
+    @Override
+    protected void setUp() throws Exception {
+        index = new TrigramIndex<String>();
+        index.add("open", "Open the file");
+        index.add("save", "Save the file");
+        index.add("quit", "Quit");
+    }
+
+    public void testMatch() {
+        assertEquals(set("open", "save"), index.getCandidates("file"));
+        assertEquals(set("open"), index.getCandidates("open"));
+        assertEquals(set("quit"), index.getCandidates("Quit"));
+    }
+
+    public void testNoMatch() {
+        assertEquals(set(), index.getCandidates("close"));
+        assertEquals(set(), index.getCandidates("xyz"));
+    }
+
+    public void testCandidatesContainAllTrigrams() {
+        // "the" and "fil" occur in the texts, but not in the same order
+        assertEquals(set("open", "save"), index.getCandidates("fil*the"));
+        assertEquals(set("save"), index.getCandidates("sav?the*file"));
+        assertEquals(set(), index.getCandidates("open*save"));
+    }
+
+    public void testShortPattern() {
+        assertNull(index.getCandidates(""));
+        assertNull(index.getCandidates("Qu"));
+        assertNull(index.getCandidates("*op*"));
+        assertNull(index.getCandidates("ab?cd*ef"));
+    }
+
+    public void testIgnoresCase() {
+        assertEquals(set("open"), index.getCandidates("OPEN THE"));
+        assertEquals(set("quit"), index.getCandidates("qUIT"));
+    }
+
+    public void testUpdate() {
+        // a value changes as in ResourceBundle#put()
+        index.remove("save", "Save the file");
+        index.add("save", "Save all");
+        assertEquals(set("open"), index.getCandidates("file"));
+        assertEquals(set("save"), index.getCandidates("all"));
+
+        // the bundle is unloaded
+        index.remove("open", "Open the file");
+        assertEquals(set(), index.getCandidates("file"));
+        assertEquals(set(), index.getCandidates("Open"));
+        assertEquals(set("quit"), index.getCandidates("quit"));
+    }
+
+    public void testRemoveKeepsOtherItems() {
+        index.add("close", "Close the file");
+        index.remove("close", "Close the file");
+        assertEquals(set("open", "save"), index.getCandidates("the file"));
+        index.remove("unknown", "the file");
+        assertEquals(set("open", "save"), index.getCandidates("the file"));
+    }
+
+    private static Set<String> set(String... items) {
+        return new HashSet<String>(Arrays.asList(items));
+    }
+}
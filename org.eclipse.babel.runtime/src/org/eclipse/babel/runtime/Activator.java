@@ -17,13 +17,19 @@ import java.net.URL;
 import org.eclipse.babel.runtime.external.ITranslatableSet;
 import org.eclipse.babel.runtime.external.TranslatableText;
 import org.eclipse.babel.runtime.external.TranslatableResourceBundle;
+import org.eclipse.babel.runtime.external.TranslatableResourceFile;
+import org.eclipse.babel.runtime.pluginXmlParsing.PluginXmlRegistry;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.ImageRegistry;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
+import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.BundleListener;
+import org.osgi.framework.SynchronousBundleListener;
 
 /**
  * The activator class controls the plug-in life cycle
@@ -39,6 +45,22 @@ public class Activator extends AbstractUIPlugin {
 	//Resource bundle.
 	private TranslatableResourceBundle resourceBundle;
 
+	/*
+	 * Removes uninstalled and updated plug-ins from the registries, so that
+	 * their resource files are not kept in memory.
+	 */
+	private BundleListener bundleListener = new SynchronousBundleListener() {
+		public void bundleChanged(BundleEvent event) {
+			if (event.getType() == BundleEvent.UNINSTALLED
+					|| event.getType() == BundleEvent.UPDATED) {
+				Bundle osgiBundle = event.getBundle();
+				TranslatableResourceBundle.unregister(osgiBundle);
+				TranslatableResourceFile.remove(osgiBundle);
+				PluginXmlRegistry.getInstance().remove(osgiBundle);
+			}
+		}
+	};
+
 	/**
 	 * The constructor
 	 */
@@ -53,6 +75,8 @@ public class Activator extends AbstractUIPlugin {
 		super.start(context);
 		plugin = this;
 
+		context.addBundleListener(bundleListener);
+
 		/*
 		 * Registering the updatable bundles now ensures that they are more
 		 * likely to be seen by the translation dialog. If this plug-in has not
@@ -78,6 +102,7 @@ public class Activator extends AbstractUIPlugin {
 	 * @see org.eclipse.ui.plugin.AbstractUIPlugin#stop(org.osgi.framework.BundleContext)
 	 */
 	public void stop(BundleContext context) throws Exception {
+		context.removeBundleListener(bundleListener);
 		plugin = null;
 		super.stop(context);
 	}
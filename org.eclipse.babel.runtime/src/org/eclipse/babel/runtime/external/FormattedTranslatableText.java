@@ -11,25 +11,45 @@
 
 package org.eclipse.babel.runtime.external;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 import org.eclipse.osgi.util.NLS;
 
 public class FormattedTranslatableText implements ITranslatableText {
 
 	ITranslatableText [] dependentText;
+
+	/*
+	 * The last text formatted for each locale, with the texts it was formatted
+	 * from.  The dependent texts are cheap to get, binding them is not, so the
+	 * text is only formatted again when one of them has changed.
+	 */
+	private Map<Locale, Formatted> formatted = null;
 	
 	public FormattedTranslatableText(ITranslatableText... dependentText) {
 		this.dependentText = dependentText;
 	}
 	
-	public String getLocalizedText(Locale locale) {
-		String format = dependentText[0].getLocalizedText(locale);
-		String args [] = new String[dependentText.length-1];
-		for (int i = 0; i < args.length; i++) {
-			args[i] = dependentText[i+1].getLocalizedText(locale);
+	public synchronized String getLocalizedText(Locale locale) {
+		String texts [] = new String[dependentText.length];
+		for (int i = 0; i < texts.length; i++) {
+			texts[i] = dependentText[i].getLocalizedText(locale);
+		}
+
+		if (formatted == null) {
+			formatted = new HashMap<Locale, Formatted>(4);
 		}
-		return NLS.bind(format, args);
+
+		Formatted result = formatted.get(locale);
+		if (result == null || !result.isFormattedFrom(texts)) {
+			String args [] = new String[texts.length-1];
+			System.arraycopy(texts, 1, args, 0, args.length);
+			result = new Formatted(texts, NLS.bind(texts[0], args));
+			formatted.put(locale, result);
+		}
+		return result.text;
 	}
 
 	public String getLocalizedText() {
@@ -45,4 +65,25 @@ public class FormattedTranslatableText implements ITranslatableText {
 			localizedText.validateLocale(locale);
 		}
 	}
+
+	private static class Formatted {
+		private final String [] texts;
+		private final String text;
+
+		Formatted(String [] texts, String text) {
+			this.texts = texts;
+			this.text = text;
+		}
+
+		boolean isFormattedFrom(String [] otherTexts) {
+			for (int i = 0; i < texts.length; i++) {
+				// Unchanged texts are usually the very same string
+				if (texts[i] != otherTexts[i]
+						&& (texts[i] == null || !texts[i].equals(otherTexts[i]))) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
 }
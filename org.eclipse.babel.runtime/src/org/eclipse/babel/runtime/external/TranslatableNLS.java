@@ -60,7 +60,7 @@ public abstract class TranslatableNLS {
 
 	private static final Object[] EMPTY_ARGS = new Object[0];
 	private static final String EXTENSION = ".properties"; //$NON-NLS-1$
-	private static String[] nlSuffixes;
+	private static volatile String[] nlSuffixes;
 	/*
 	 * NOTE do not change the name of this field; it is set by the Framework using reflection
 	 */
@@ -165,7 +165,8 @@ public abstract class TranslatableNLS {
 	 * file_fr.properties, and finally file.properties.
 	 */
 	private static String[] buildVariants(String root) {
-		if (nlSuffixes == null) {
+		String[] suffixes = nlSuffixes;
+		if (suffixes == null) {
 			//build list of suffixes for loading resource bundles
 			String nl = Locale.getDefault().toString();
 			ArrayList<String> result = new ArrayList<String>(4);
@@ -179,12 +180,13 @@ public abstract class TranslatableNLS {
 			}
 			//add the empty suffix last (most general)
 			result.add(EXTENSION);
-			nlSuffixes = result.toArray(new String[result.size()]);
+			suffixes = result.toArray(new String[result.size()]);
+			nlSuffixes = suffixes;
 		}
 		root = root.replace('.', '/');
-		String[] variants = new String[nlSuffixes.length];
+		String[] variants = new String[suffixes.length];
 		for (int i = 0; i < variants.length; i++)
-			variants[i] = root + nlSuffixes[i];
+			variants[i] = root + suffixes[i];
 		return variants;
 	}
 
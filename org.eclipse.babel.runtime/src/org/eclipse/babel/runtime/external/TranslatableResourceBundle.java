@@ -14,7 +14,6 @@ package org.eclipse.babel.runtime.external;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -22,14 +21,21 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.osgi.framework.Bundle;
 
 public class TranslatableResourceBundle extends ResourceBundle {
 	private static final String EXTENSION = ".properties"; //$NON-NLS-1$
-	private static String[] nlSuffixes;
+	private static volatile String[] nlSuffixes;
 	
-	private static Map<Bundle, Collection<TranslatableResourceBundle>> allUpdatableBundles = new HashMap<Bundle, Collection<TranslatableResourceBundle>>();
+	/*
+	 * The bundles reference their plug-in, so a weakly keyed map would never
+	 * let go of them.  Uninstalled plug-ins are removed explicitly instead, see
+	 * unregister(Bundle).
+	 */
+	private static Map<Bundle, Collection<TranslatableResourceBundle>> allUpdatableBundles = new ConcurrentHashMap<Bundle, Collection<TranslatableResourceBundle>>();
 
 	private Bundle osgiBundle;
 	private String description;
@@ -132,6 +138,21 @@ public class TranslatableResourceBundle extends ResourceBundle {
 		return variantResources.isDirty(key);
 	}
 
+	/**
+	 * Gets a stamp that changes whenever a message of this bundle, or of a
+	 * bundle it falls back to, is set or reverted.  Callers that cache the
+	 * strings of this bundle compare stamps to know when to get them again.
+	 * 
+	 * @return the modification stamp
+	 */
+	public long getModificationStamp() {
+		long stamp = variantResources.getModificationCount();
+		if (parent != null) {
+			stamp += ((TranslatableResourceBundle)parent).getModificationStamp();
+		}
+		return stamp;
+	}
+
 	public TranslatableResourceBundle getParent() {
 		return (TranslatableResourceBundle)parent;
 	}
@@ -144,10 +165,10 @@ public class TranslatableResourceBundle extends ResourceBundle {
 	 * @param resourceBundle
 	 * @param currencyPagePlugin 
 	 */
-	public static void register(TranslatableResourceBundle resourceBundle, Bundle osgiBundle) {
+	public static synchronized void register(TranslatableResourceBundle resourceBundle, Bundle osgiBundle) {
 		Collection<TranslatableResourceBundle> resourceBundles = allUpdatableBundles.get(osgiBundle);
 		if (resourceBundles == null) {
-			resourceBundles = new ArrayList<TranslatableResourceBundle>();
+			resourceBundles = new CopyOnWriteArrayList<TranslatableResourceBundle>();
 			allUpdatableBundles.put(osgiBundle, resourceBundles);
 		}
 		resourceBundles.add(resourceBundle);
@@ -159,6 +180,16 @@ public class TranslatableResourceBundle extends ResourceBundle {
 		
 	}
 
+	/**
+	 * Forgets the resource bundles registered for a plug-in.  This method is
+	 * called when the plug-in is uninstalled or updated.
+	 * 
+	 * @param osgiBundle
+	 */
+	public static synchronized void unregister(Bundle osgiBundle) {
+		allUpdatableBundles.remove(osgiBundle);
+	}
+
 	public static Map<Bundle, Collection<TranslatableResourceBundle>> getAllResourceBundles() {
 		return allUpdatableBundles;
 	}
@@ -206,7 +237,8 @@ public class TranslatableResourceBundle extends ResourceBundle {
 	 * This is an exact copy of the private method in NLS.
 	 */
 	private static String[] buildVariants(String root) {
-		if (nlSuffixes == null) {
+		String[] suffixes = nlSuffixes;
+		if (suffixes == null) {
 			//build list of suffixes for loading resource bundles
 			String nl = Locale.getDefault().toString();
 			ArrayList<String> result = new ArrayList<String>(4);
@@ -220,12 +252,13 @@ public class TranslatableResourceBundle extends ResourceBundle {
 			}
 			//add the empty suffix last (most general)
 			result.add(EXTENSION);
-			nlSuffixes = (String[]) result.toArray(new String[result.size()]);
+			suffixes = (String[]) result.toArray(new String[result.size()]);
+			nlSuffixes = suffixes;
 		}
 		root = root.replace('.', '/');
-		String[] variants = new String[nlSuffixes.length];
+		String[] variants = new String[suffixes.length];
 		for (int i = 0; i < variants.length; i++)
-			variants[i] = root + nlSuffixes[i];
+			variants[i] = root + suffixes[i];
 		return variants;
 	}
 
@@ -26,6 +26,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.Map.Entry;
 
 import org.eclipse.babel.runtime.Messages;
@@ -52,11 +53,22 @@ public class TranslatableResourceFile {
 	
 	static final int SEVERITY_ERROR = 0x04;
 
-	private static Map<Bundle, Map<String, TranslatableResourceFile>> allResources = new HashMap<Bundle, Map<String, TranslatableResourceFile>>();
+	/*
+	 * The files are weakly keyed by plug-in, they do not reference the plug-in
+	 * themselves.  Uninstalled plug-ins are removed from the map explicitly,
+	 * see remove(Bundle).
+	 */
+	private static Map<Bundle, Map<String, TranslatableResourceFile>> allResources = new WeakHashMap<Bundle, Map<String, TranslatableResourceFile>>();
 	
 	private Properties readOnlyProperties;
 	private IPath updatedPropertiesFile;
 	private Properties updatedProperties;
+
+	/*
+	 * Incremented whenever the delta changes, so that strings cached from this
+	 * file can be detected as stale.
+	 */
+	private volatile int modificationCount = 0;
 	
 	public TranslatableResourceFile(Properties readOnlyProperties, IPath updatedPropertiesFile) {
 		this.readOnlyProperties = readOnlyProperties;
@@ -68,6 +80,7 @@ public class TranslatableResourceFile {
 	protected void load() {
 		InputStream input = null;
 		updatedProperties = new Properties();
+		modificationCount++;
 		try {
 			input = new BufferedInputStream(new FileInputStream(updatedPropertiesFile.toFile()));
 			updatedProperties.load(input);
@@ -217,6 +230,7 @@ public class TranslatableResourceFile {
 		} else {
 			updatedProperties.setProperty(key, newValue==null ? NULL_VALUE_TEXT : newValue);
 		}
+		modificationCount++;
 	}
 
 	/**
@@ -228,6 +242,16 @@ public class TranslatableResourceFile {
 	 */
 	public void revertString(String key) {
 		updatedProperties.remove(key);
+		modificationCount++;
+	}
+
+	/**
+	 * @return the number of times the messages of this file have been set or
+	 * 		reverted, changes whenever a value returned by getValue may have
+	 * 		changed
+	 */
+	public int getModificationCount() {
+		return modificationCount;
 	}
 
 	/**
@@ -245,7 +269,7 @@ public class TranslatableResourceFile {
 				: text1.equals(text2);
 	}
 
-	public static TranslatableResourceFile get(Bundle osgiBundle, ClassLoader loader, String variant) {
+	public static synchronized TranslatableResourceFile get(Bundle osgiBundle, ClassLoader loader, String variant) {
 		/*
 		 * Look to see if we already have a one in our map.  We don't want to create
 		 * two that are the same because then they will not see each other's changes.
@@ -288,10 +312,18 @@ public class TranslatableResourceFile {
 			variantResources = new TranslatableResourceFile(readOnlyProperties, updatedPropertiesFile);
 			pluginResources.put(variant, variantResources);
 		}
- 		
-		
-		// TODO: Make this a weak reference map.
 		
 		return variantResources;
 	}
+
+	/**
+	 * Forgets the files of a plug-in.  This method is called when the plug-in
+	 * is uninstalled or updated, the files are read again if the plug-in is
+	 * used after an update.
+	 * 
+	 * @param osgiBundle
+	 */
+	public static synchronized void remove(Bundle osgiBundle) {
+		allResources.remove(osgiBundle);
+	}
 }
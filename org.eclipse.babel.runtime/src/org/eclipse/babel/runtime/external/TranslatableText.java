@@ -11,7 +11,9 @@
 
 package org.eclipse.babel.runtime.external;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Set;
 
@@ -21,6 +23,13 @@ public class TranslatableText implements ITranslatableText {
 
 	private TranslatableResourceBundle resourceBundle;
 	private String key;
+
+	/*
+	 * The text resolved for each locale asked for so far.  Menus and views
+	 * get their text on every repaint, so the bundles are only queried again
+	 * after a translation has been changed.
+	 */
+	private Map<Locale, Resolution> resolutions = null;
 	
 	public TranslatableText(TranslatableResourceBundle resourceBundle, String key) {
 		if (resourceBundle == null)
@@ -30,10 +39,37 @@ public class TranslatableText implements ITranslatableText {
 	}
 	
 	public String getLocalizedText() {
-		return resourceBundle.getString(key);
+		String text = resolve(resourceBundle.getMyLocale());
+		if (text == null) {
+			// Let the bundle throw the MissingResourceException
+			return resourceBundle.getString(key);
+		}
+		return text;
 	}
 
 	public String getLocalizedText(Locale locale) {
+		String text = resolve(locale);
+		return (text == null) ? "%" + key : text; //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the text for the given locale, or null if the key was not
+	 * 		found in the bundle for the locale nor in its fallback bundles
+	 */
+	private synchronized String resolve(Locale locale) {
+		if (resolutions == null) {
+			resolutions = new HashMap<Locale, Resolution>(4);
+		}
+
+		Resolution resolution = resolutions.get(locale);
+		if (resolution == null || !resolution.isCurrent()) {
+			resolution = new Resolution(findBundle(locale), key);
+			resolutions.put(locale, resolution);
+		}
+		return resolution.text;
+	}
+
+	private TranslatableResourceBundle findBundle(Locale locale) {
 		TranslatableResourceBundle rb = resourceBundle;
 		while (rb != null && !rb.getMyLocale().equals(locale)) {
 			rb = rb.getParent();
@@ -42,12 +78,7 @@ public class TranslatableText implements ITranslatableText {
 		if (rb == null) { 
 			throw new RuntimeException();
 		}
-
-		try {
-			return rb.getString(key);
-		} catch (MissingResourceException e) {
-			return "%" + key; //$NON-NLS-1$
-		}
+		return rb;
 	}
 
 	/**
@@ -58,15 +89,7 @@ public class TranslatableText implements ITranslatableText {
 	 * @param updatedBundles
 	 */
 	public void setLocalizedText(Locale locale, String newValue, Set<TranslatableResourceBundle> updatedBundles) {
-		TranslatableResourceBundle rb = resourceBundle;
-		while (rb != null && !rb.getMyLocale().equals(locale)) {
-			rb = rb.getParent();
-		}
-		
-		if (rb == null) { 
-			throw new RuntimeException();
-		}
-		
+		TranslatableResourceBundle rb = findBundle(locale);
 		rb.setString(key, newValue);
 		updatedBundles.add(rb);		
 	}
@@ -94,29 +117,41 @@ public class TranslatableText implements ITranslatableText {
 	 * bundle.
 	 */
 	public void revertLocalizedText(Locale locale, Set<TranslatableResourceBundle> updatedBundles) {
-		TranslatableResourceBundle rb = resourceBundle;
-		while (rb != null && !rb.getMyLocale().equals(locale)) {
-			rb = rb.getParent();
-		}
-		
-		if (rb == null) { 
-			throw new RuntimeException();
-		}
-		
+		TranslatableResourceBundle rb = findBundle(locale);
 		rb.revertString(key);
 		updatedBundles.add(rb);		
 	}
 
 	public boolean isDirty(Locale locale) {
-		TranslatableResourceBundle rb = resourceBundle;
-		while (rb != null && !rb.getMyLocale().equals(locale)) {
-			rb = rb.getParent();
+		TranslatableResourceBundle rb = findBundle(locale);
+		return rb.isDirty(key);
+	}
+
+	/**
+	 * The text of the key in a bundle, together with the modification stamp
+	 * of the bundle when the text was got.
+	 */
+	private static class Resolution {
+		private final TranslatableResourceBundle bundle;
+		private final long stamp;
+		private final String text;
+
+		Resolution(TranslatableResourceBundle bundle, String key) {
+			this.bundle = bundle;
+			// Get the stamp first, a change while getting the text leaves this stale
+			this.stamp = bundle.getModificationStamp();
+
+			String text;
+			try {
+				text = bundle.getString(key);
+			} catch (MissingResourceException e) {
+				text = null;
+			}
+			this.text = text;
 		}
-		
-		if (rb == null) { 
-			throw new RuntimeException();
+
+		boolean isCurrent() {
+			return bundle.getModificationStamp() == stamp;
 		}
-		
-		return rb.isDirty(key);
 	}
 }
@@ -17,12 +17,12 @@ import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
@@ -46,7 +46,12 @@ public class PluginXmlRegistry {
 
 	private static PluginXmlRegistry theInstance = new PluginXmlRegistry();
 
-	private Map<Bundle, LocalizableContribution> registry = new HashMap<Bundle, LocalizableContribution>();
+	/*
+	 * The contributions reference the resource bundles of their plug-in, which
+	 * in turn reference the plug-in, so uninstalled plug-ins are removed
+	 * explicitly, see remove(Bundle).
+	 */
+	private ConcurrentMap<Bundle, LocalizableContribution> registry = new ConcurrentHashMap<Bundle, LocalizableContribution>();
 
 	private SAXParserFactory theXMLParserFactory = null;
 	
@@ -145,22 +150,17 @@ public class PluginXmlRegistry {
 		}
 
 		contribution = new LocalizableContribution(osgiBundle.getSymbolicName(), translationBundle);
-		registry.put(osgiBundle, contribution);
 		
    		URL pluginManifest = EclipseBundleListener.getExtensionURL(osgiBundle, false);
-		if (pluginManifest == null)
-			return contribution;
-		
-		InputStream is;
-		try {
-			is = new BufferedInputStream(pluginManifest.openStream());
-		} catch (IOException ex) {
-			is = null;
-		}
-		if (is == null)
-			return contribution;
-		ExtensionsParser parser = new ExtensionsParser(this);
-				
+		if (pluginManifest != null) {
+			InputStream is;
+			try {
+				is = new BufferedInputStream(pluginManifest.openStream());
+			} catch (IOException ex) {
+				is = null;
+			}
+			if (is != null) {
+				ExtensionsParser parser = new ExtensionsParser(this);
 				try {
 					parser.parseManifest(getXMLParser(), new InputSource(is), contribution, translationBundle);
 				} finally {
@@ -170,10 +170,28 @@ public class PluginXmlRegistry {
 						// nothing to do
 					}
 				}
+			}
+		}
 
+		// the contribution is only published once parsed
+		LocalizableContribution existing = registry.putIfAbsent(osgiBundle, contribution);
+		if (existing != null) {
+			// Another thread got here first
+			return existing;
+		}
 		return contribution;
 	}
 
+	/**
+	 * Forgets the contribution of a plug-in.  This method is called when the
+	 * plug-in is uninstalled or updated.
+	 * 
+	 * @param osgiBundle
+	 */
+	public void remove(Bundle osgiBundle) {
+		registry.remove(osgiBundle);
+	}
+
 	/**
 	 * Returns the parser used by the registry to parse descriptions of extension points and extensions.
 	 * This method must not return <code>null</code>.
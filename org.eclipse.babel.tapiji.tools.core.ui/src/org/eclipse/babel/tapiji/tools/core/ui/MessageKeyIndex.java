@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.tapiji.tools.core.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.babel.core.message.IMessagesBundleGroup;
+import org.eclipse.babel.core.message.internal.IMessagesBundleGroupListener;
+import org.eclipse.babel.core.message.internal.MessagesBundleGroup;
+import org.eclipse.babel.core.message.internal.MessagesBundleGroupAdapter;
+
+/**
+ * The keys of a resource bundle, sorted ignoring case, for looking keys up
+ * while the user types. The index follows the keys added to or removed from
+ * its bundle group, see {@link ResourceBundleManager#getKeyIndex(String)}.
+ */
+public class MessageKeyIndex {
+
+	private final IMessagesBundleGroup bundleGroup;
+
+	// keys sorted by their lower case form
+	private final List<IndexedKey> keys = new ArrayList<IndexedKey>();
+
+	private final IMessagesBundleGroupListener listener = new MessagesBundleGroupAdapter() {
+		@Override
+		public void keyAdded(String key) {
+			addKey(key);
+		}
+
+		@Override
+		public void keyRemoved(String key) {
+			removeKey(key);
+		}
+	};
+
+	public MessageKeyIndex(IMessagesBundleGroup bundleGroup) {
+		this.bundleGroup = bundleGroup;
+
+		for (String key : bundleGroup.getMessageKeys()) {
+			keys.add(new IndexedKey(key));
+		}
+		Collections.sort(keys);
+
+		if (bundleGroup instanceof MessagesBundleGroup) {
+			((MessagesBundleGroup) bundleGroup)
+					.addMessagesBundleGroupListener(listener);
+		}
+	}
+
+	public IMessagesBundleGroup getBundleGroup() {
+		return bundleGroup;
+	}
+
+	public synchronized int size() {
+		return keys.size();
+	}
+
+	/**
+	 * Finds the keys starting with a prefix, ignoring case.
+	 *
+	 * @param prefix
+	 *            The prefix of the keys
+	 * @param limit
+	 *            The maximal number of keys to return, or -1 for all keys
+	 * @return The keys, sorted ignoring case
+	 */
+	public synchronized List<String> findKeysByPrefix(String prefix, int limit) {
+		List<String> result = new ArrayList<String>();
+		String lowerPrefix = prefix.toLowerCase();
+
+		for (int i = lowerBound(lowerPrefix); i < keys.size()
+				&& result.size() != limit; i++) {
+			IndexedKey key = keys.get(i);
+			if (!key.lowerKey.startsWith(lowerPrefix)) {
+				break;
+			}
+			result.add(key.key);
+		}
+		return result;
+	}
+
+	/**
+	 * Finds the keys containing a text, ignoring case.
+	 *
+	 * @param text
+	 *            The text the keys contain
+	 * @param limit
+	 *            The maximal number of keys to return, or -1 for all keys
+	 * @return The keys, sorted ignoring case
+	 */
+	public synchronized List<String> findKeysContaining(String text, int limit) {
+		List<String> result = new ArrayList<String>();
+		String lowerText = text.toLowerCase();
+
+		for (int i = 0; i < keys.size() && result.size() != limit; i++) {
+			IndexedKey key = keys.get(i);
+			if (key.lowerKey.contains(lowerText)) {
+				result.add(key.key);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Stops following the changes of the bundle group.
+	 */
+	public void dispose() {
+		if (bundleGroup instanceof MessagesBundleGroup) {
+			((MessagesBundleGroup) bundleGroup)
+					.removeMessagesBundleGroupListener(listener);
+		}
+	}
+
+	private synchronized void addKey(String key) {
+		IndexedKey indexedKey = new IndexedKey(key);
+		int i = Collections.binarySearch(keys, indexedKey);
+		if (i < 0) {
+			keys.add(-i - 1, indexedKey);
+		}
+	}
+
+	private synchronized void removeKey(String key) {
+		int i = Collections.binarySearch(keys, new IndexedKey(key));
+		if (i >= 0) {
+			keys.remove(i);
+		}
+	}
+
+	/*
+	 * Position of the first key whose lower case form is not less than the
+	 * given one
+	 */
+	private int lowerBound(String lowerKey) {
+		int low = 0;
+		int high = keys.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (keys.get(middle).lowerKey.compareTo(lowerKey) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static class IndexedKey implements Comparable<IndexedKey> {
+		private final String key;
+		private final String lowerKey;
+
+		private IndexedKey(String key) {
+			this.key = key;
+			this.lowerKey = key.toLowerCase();
+		}
+
+		@Override
+		public int compareTo(IndexedKey other) {
+			int result = lowerKey.compareTo(other.lowerKey);
+			return result != 0 ? result : key.compareTo(other.key);
+		}
+	}
+}
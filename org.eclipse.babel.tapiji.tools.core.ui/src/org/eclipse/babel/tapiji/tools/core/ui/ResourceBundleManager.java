@@ -76,6 +76,8 @@ public class ResourceBundleManager {
 
 	private Map<String, List<IResourceBundleChangedListener>> listeners = new HashMap<String, List<IResourceBundleChangedListener>>();
 
+	private Map<String, MessageKeyIndex> keyIndexes = new HashMap<String, MessageKeyIndex>();
+
 	private List<IResourceExclusionListener> exclusionListeners = new ArrayList<IResourceExclusionListener>();
 
 	// global
@@ -120,12 +122,26 @@ public class ResourceBundleManager {
 					@Override
 					public void onDelete(String resourceBundleId,
 							IResource resource) {
-						resources.get(resourceBundleId).remove(resource);
+						Set<IResource> res = resources.get(resourceBundleId);
+						if (res != null && res.remove(resource)
+								&& res.isEmpty()) {
+							resources.remove(resourceBundleId);
+						}
 					}
 				});
 	}
 
-	public static ResourceBundleManager getManager(IProject project) {
+	/**
+	 * Gets the manager of a project, created on first use. The builder audits
+	 * resources concurrently, so that the managers are looked up and created
+	 * under a lock.
+	 * 
+	 * @param project
+	 *            The project, or a fragment of it
+	 * @return The manager of the project
+	 */
+	public static synchronized ResourceBundleManager getManager(
+			IProject project) {
 		// check if persistant state has been loaded
 		if (!state_loaded) {
 			IStateLoader stateLoader = getStateLoader();
@@ -153,19 +169,7 @@ public class ResourceBundleManager {
 	}
 
 	public Set<Locale> getProvidedLocales(String bundleName) {
-		RBManager instance = RBManager.getInstance(project);
-
-		Set<Locale> locales = new HashSet<Locale>();
-		IMessagesBundleGroup group = instance
-				.getMessagesBundleGroup(bundleName);
-		if (group == null) {
-			return locales;
-		}
-
-		for (IMessagesBundle bundle : group.getMessagesBundles()) {
-			locales.add(bundle.getLocale());
-		}
-		return locales;
+		return RBManager.getInstance(project).getLocales(bundleName);
 	}
 
 	public static String getResourceBundleName(IResource res) {
@@ -238,6 +242,7 @@ public class ResourceBundleManager {
 	}
 
 	protected void removeAllBundleResources(String bundleName) {
+		disposeKeyIndex(bundleName);
 		unloadResourceBundle(bundleName);
 		resources.remove(bundleName);
 		// allBundles.remove(bundleName);
@@ -254,6 +259,37 @@ public class ResourceBundleManager {
 		return instance.getMessagesBundleGroup(name);
 	}
 
+	/**
+	 * Gets the index of the keys of a resource bundle. The index follows the
+	 * keys added to or removed from the bundle, it is created again when the
+	 * resources of the bundle change.
+	 * 
+	 * @param name
+	 *            The resource bundle id
+	 * @return The key index, or <code>null</code> if there is no such resource
+	 *         bundle
+	 */
+	public synchronized MessageKeyIndex getKeyIndex(String name) {
+		IMessagesBundleGroup bundleGroup = getResourceBundle(name);
+		MessageKeyIndex index = keyIndexes.get(name);
+		if (index != null && index.getBundleGroup() != bundleGroup) {
+			disposeKeyIndex(name);
+			index = null;
+		}
+		if (index == null && bundleGroup != null) {
+			index = new MessageKeyIndex(bundleGroup);
+			keyIndexes.put(name, index);
+		}
+		return index;
+	}
+
+	private synchronized void disposeKeyIndex(String name) {
+		MessageKeyIndex index = keyIndexes.remove(name);
+		if (index != null) {
+			index.dispose();
+		}
+	}
+
 	public Collection<IResource> getResourceBundles(String bundleName) {
 		return resources.get(bundleName);
 	}
@@ -286,6 +322,8 @@ public class ResourceBundleManager {
 
 	public void fireResourceBundleChangedEvent(String bundleName,
 			ResourceBundleChangedEvent event) {
+		disposeKeyIndex(bundleName);
+
 		List<IResourceBundleChangedListener> l = listeners.get(bundleName);
 
 		if (l == null) {
@@ -407,12 +445,11 @@ public class ResourceBundleManager {
 	}
 
 	public boolean isKeyBroken(String rbName, String key) {
-		IMessagesBundleGroup messagesBundleGroup = RBManager.getInstance(
-				project).getMessagesBundleGroup(rbName);
-		if (messagesBundleGroup == null) {
+		RBManager instance = RBManager.getInstance(project);
+		if (!instance.containsMessagesBundleGroup(rbName)) {
 			return true;
 		} else {
-			return !messagesBundleGroup.containsKey(key);
+			return !instance.containsKey(rbName, key);
 		}
 
 		// if (!resourceBundles.containsKey(rbName))
@@ -848,14 +885,7 @@ public class ResourceBundleManager {
 	}
 
 	public boolean isResourceExisting(String bundleId, String key) {
-		boolean keyExists = false;
-		IMessagesBundleGroup bGroup = getResourceBundle(bundleId);
-
-		if (bGroup != null) {
-			keyExists = bGroup.isKey(key);
-		}
-
-		return keyExists;
+		return RBManager.getInstance(project).containsKey(bundleId, key);
 	}
 
 	public static void rebuildProject(IResource resource) {
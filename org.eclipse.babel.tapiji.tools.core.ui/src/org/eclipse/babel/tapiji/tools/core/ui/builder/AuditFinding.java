@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.tapiji.tools.core.ui.builder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.babel.tapiji.tools.core.extensions.ILocation;
+import org.eclipse.babel.tapiji.tools.core.ui.utils.EditorUtils;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * An Internationalization problem found by an auditor, as the audit marker it
+ * is reported by. Findings are immutable, so that they can be collected from
+ * concurrent audits and compared to the markers already reported.
+ */
+public final class AuditFinding {
+
+	private final IResource resource;
+	private final String type;
+	private final Map<String, Object> attributes;
+
+	private AuditFinding(IResource resource, String type,
+			Map<String, Object> attributes) {
+		this.resource = resource;
+		this.type = type;
+		this.attributes = Collections.unmodifiableMap(attributes);
+	}
+
+	/**
+	 * Creates the finding of a problem in a source file, reported by an
+	 * {@link EditorUtils#MARKER_ID} marker.
+	 */
+	public static AuditFinding createFinding(String string, ILocation problem,
+			int cause, String key, ILocation data, String context) {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+		attributes.put(IMarker.MESSAGE, string);
+		attributes.put(IMarker.CHAR_START, problem.getStartPos());
+		attributes.put(IMarker.CHAR_END, problem.getEndPos());
+		attributes.put(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		attributes.put("cause", cause);
+		putAttribute(attributes, "key", key);
+		putAttribute(attributes, "context", context);
+		if (data != null) {
+			putAttribute(attributes, "bundleName", data.getLiteral());
+			attributes.put("bundleStart", data.getStartPos());
+			attributes.put("bundleEnd", data.getEndPos());
+		}
+
+		// TODO: init attributes
+		putAttribute(attributes, "stringLiteral", string);
+		return new AuditFinding(problem.getFile(), EditorUtils.MARKER_ID,
+				attributes);
+	}
+
+	/**
+	 * Creates the finding of a problem in a resource bundle, reported by an
+	 * {@link EditorUtils#RB_MARKER_ID} marker.
+	 */
+	public static AuditFinding createRBFinding(String string,
+			ILocation problem, int cause, String key,
+			String problemPartnerFile, ILocation data, String context) {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+		attributes.put(IMarker.MESSAGE, string);
+		// TODO better-dirty implementation
+		attributes.put(IMarker.LINE_NUMBER, problem.getStartPos());
+		attributes.put(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		attributes.put("cause", cause);
+		putAttribute(attributes, "key", key);
+		putAttribute(attributes, "context", context);
+		if (data != null) {
+			putAttribute(attributes, "language", data.getLiteral());
+			attributes.put("bundleLine", data.getStartPos());
+		}
+		putAttribute(attributes, "stringLiteral", string);
+		putAttribute(attributes, "problemPartner", problemPartnerFile);
+		return new AuditFinding(problem.getFile(), EditorUtils.RB_MARKER_ID,
+				attributes);
+	}
+
+	/*
+	 * A marker does not keep attributes set to null, neither does a finding
+	 */
+	private static void putAttribute(Map<String, Object> attributes,
+			String name, Object value) {
+		if (value != null) {
+			attributes.put(name, value);
+		}
+	}
+
+	public IResource getResource() {
+		return resource;
+	}
+
+	/**
+	 * @return the marker type the finding is reported by
+	 */
+	public String getType() {
+		return type;
+	}
+
+	public String getMessage() {
+		return (String) attributes.get(IMarker.MESSAGE);
+	}
+
+	/**
+	 * @return the attributes of the marker reporting the finding
+	 */
+	public Map<String, Object> getAttributes() {
+		return attributes;
+	}
+
+	/**
+	 * Checks whether a marker reports this finding.
+	 *
+	 * @param marker
+	 *            an existing marker
+	 * @return <code>true</code> if the marker has the resource, type and
+	 *         attributes of this finding
+	 * @throws CoreException
+	 *             if the marker no longer exists
+	 */
+	public boolean isReportedBy(IMarker marker) throws CoreException {
+		return resource.equals(marker.getResource())
+				&& type.equals(marker.getType())
+				&& attributes.equals(marker.getAttributes());
+	}
+
+	/**
+	 * Creates the marker reporting this finding.
+	 *
+	 * @return the new marker
+	 * @throws CoreException
+	 *             if the resource does not exist or is not accessible
+	 */
+	public IMarker createMarker() throws CoreException {
+		IMarker marker = resource.createMarker(type);
+		marker.setAttributes(attributes);
+		return marker;
+	}
+}
@@ -12,12 +12,17 @@ package org.eclipse.babel.tapiji.tools.core.ui.builder;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.babel.core.configuration.ConfigurationManager;
 import org.eclipse.babel.core.configuration.IConfiguration;
+import org.eclipse.babel.core.metrics.Metrics;
 import org.eclipse.babel.tapiji.tools.core.Logger;
 import org.eclipse.babel.tapiji.tools.core.extensions.ILocation;
 import org.eclipse.babel.tapiji.tools.core.extensions.MarkerConstants;
@@ -30,10 +35,13 @@ import org.eclipse.babel.tapiji.tools.core.ui.extensions.I18nResourceAuditor;
 import org.eclipse.babel.tapiji.tools.core.ui.utils.EditorUtils;
 import org.eclipse.babel.tapiji.tools.core.ui.utils.RBFileUtils;
 import org.eclipse.core.resources.ICommand;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -41,6 +49,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubProgressMonitor;
 
 public class I18nBuilder extends IncrementalProjectBuilder {
 
@@ -164,12 +173,23 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 		buildProject(monitor, getProject());
 	}
 
+	/**
+	 * Audits resources in two phases: the auditors collect their findings
+	 * first, the audit markers are then updated in a single workspace
+	 * operation.
+	 * <p>
+	 * The auditors run on the build thread, which holds the scheduling rule of
+	 * the build: auditing may load resource bundles, which refreshes their
+	 * files, and the auditors of extension plug-ins wait for the shared AST of
+	 * the audited compilation units. The findings are reported in the order of
+	 * the registered auditors.
+	 */
 	private void auditResources(List<IResource> resources,
 			IProgressMonitor monitor, IProject project) {
 		IConfiguration configuration = ConfigurationManager.getInstance()
 				.getConfiguration();
 
-		int work = resources.size();
+		int work = resources.size() + 1;
 		if (monitor == null) {
 			monitor = new NullProgressMonitor();
 		}
@@ -177,19 +197,32 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 		monitor.beginTask(
 				"Audit resource file for Internationalization problems", work);
 
+		List<I18nAuditor> auditors = new ArrayList<I18nAuditor>();
 		for (I18nAuditor ra : extensionManager.getRegisteredI18nAuditors()) {
 			if (ra instanceof I18nResourceAuditor) {
 				((I18nResourceAuditor) ra).reset();
 			}
+
+			if (ra instanceof I18nResourceAuditor
+					&& !(configuration.getAuditResource())) {
+				continue;
+			}
+			if (ra instanceof I18nRBAuditor && !(configuration.getAuditRb())) {
+				continue;
+			}
+			auditors.add(ra);
 		}
+		long[] auditTimes = new long[auditors.size()];
 
+		// the audit markers of these resources are replaced by the findings
+		Map<IResource, Set<String>> markerTypes = new LinkedHashMap<IResource, Set<String>>();
 		for (IResource resource : resources) {
 			monitor.subTask("'" + resource.getFullPath().toOSString() + "'");
 			if (monitor.isCanceled()) {
 				throw new OperationCanceledException();
 			}
 
-			if (!EditorUtils.deleteAuditMarkersForResource(resource)) {
+			if (!addAuditMarkerTypes(resource, markerTypes)) {
 				continue;
 			}
 
@@ -201,22 +234,10 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 				continue;
 			}
 
-			for (I18nAuditor ra : extensionManager.getRegisteredI18nAuditors()) {
-				if (ra instanceof I18nResourceAuditor
-						&& !(configuration.getAuditResource())) {
-					continue;
-				}
-				if (ra instanceof I18nRBAuditor
-						&& !(configuration.getAuditRb())) {
-					continue;
-				}
-
+			for (int i = 0; i < auditors.size(); i++) {
+				I18nAuditor ra = auditors.get(i);
+				long start = System.nanoTime();
 				try {
-					if (monitor.isCanceled()) {
-						monitor.done();
-						break;
-					}
-
 					if (ra.isResourceOfType(resource)) {
 						ra.audit(resource);
 					}
@@ -225,31 +246,180 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 							"Error during auditing '" + resource.getFullPath()
 									+ "'", e);
 				}
+				auditTimes[i] += System.nanoTime() - start;
 			}
 
-			if (monitor != null) {
-				monitor.worked(1);
-			}
+			monitor.worked(1);
+		}
+
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
 		}
 
-		for (I18nAuditor a : extensionManager.getRegisteredI18nAuditors()) {
-			if (a instanceof I18nResourceAuditor) {
-				handleI18NAuditorMarkers((I18nResourceAuditor) a);
+		List<AuditFinding> findings = new ArrayList<AuditFinding>();
+		for (int i = 0; i < auditors.size(); i++) {
+			I18nAuditor ra = auditors.get(i);
+			recordAuditTime(ra, auditTimes[i]);
+			if (ra instanceof I18nResourceAuditor) {
+				collectFindings((I18nResourceAuditor) ra, findings);
 			}
-			if (a instanceof I18nRBAuditor) {
-				handleI18NAuditorMarkers((I18nRBAuditor) a);
-				((I18nRBAuditor) a).resetProblems();
+			if (ra instanceof I18nRBAuditor) {
+				collectFindings((I18nRBAuditor) ra, findings);
+				((I18nRBAuditor) ra).resetProblems();
 			}
 		}
 
+		updateAuditMarkers(markerTypes, findings, new SubProgressMonitor(
+				monitor, 1));
+
 		monitor.done();
 	}
 
-	private void handleI18NAuditorMarkers(I18nResourceAuditor ra) {
+	/*
+	 * Records the time an auditor spent on the audited resources, the timer
+	 * of the auditor is only looked up when the metrics are enabled
+	 */
+	private static void recordAuditTime(I18nAuditor ra, long nanos) {
+		if (Metrics.isEnabled()) {
+			Metrics.timer("I18nBuilder.audit." + ra.getContextId()).record(
+					nanos);
+		}
+	}
+
+	/*
+	 * Adds the audit markers to replace for an audited resource: its own ones
+	 * and, for a resource bundle file, those of the whole resource bundle
+	 */
+	private boolean addAuditMarkerTypes(IResource resource,
+			Map<IResource, Set<String>> markerTypes) {
+		if (resource == null || !resource.exists()) {
+			return true;
+		}
+		addAuditMarkerType(resource, EditorUtils.MARKER_ID, markerTypes);
+
+		if (RBFileUtils.isResourceBundleFile(resource)) {
+			String rbId = RBFileUtils
+					.getCorrespondingResourceBundleId((IFile) resource);
+			if (rbId == null) {
+				return true; // file in no resourcebundle
+			}
+
+			try {
+				ResourceBundleManager rbmanager = ResourceBundleManager
+						.getManager(resource.getProject());
+				for (IResource r : rbmanager.getResourceBundles(rbId)) {
+					addAuditMarkerType(r, EditorUtils.RB_MARKER_ID,
+							markerTypes);
+				}
+			} catch (Exception e) {
+				Logger.logError(e);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void addAuditMarkerType(IResource resource, String type,
+			Map<IResource, Set<String>> markerTypes) {
+		Set<String> types = markerTypes.get(resource);
+		if (types == null) {
+			types = new HashSet<String>();
+			markerTypes.put(resource, types);
+		}
+		types.add(type);
+	}
+
+	/*
+	 * Updates the audit markers in a single workspace operation. Markers
+	 * reporting a finding are kept, others are deleted and the remaining
+	 * findings are reported by new markers, so that unchanged problems do not
+	 * cause resource changes.
+	 */
+	private void updateAuditMarkers(
+			final Map<IResource, Set<String>> markerTypes,
+			final List<AuditFinding> findings, IProgressMonitor monitor) {
+		try {
+			ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
+				@Override
+				public void run(IProgressMonitor monitor) throws CoreException {
+					Map<IResource, List<AuditFinding>> unreported = new LinkedHashMap<IResource, List<AuditFinding>>();
+					for (AuditFinding finding : findings) {
+						List<AuditFinding> resourceFindings = unreported
+								.get(finding.getResource());
+						if (resourceFindings == null) {
+							resourceFindings = new LinkedList<AuditFinding>();
+							unreported.put(finding.getResource(),
+									resourceFindings);
+						}
+						resourceFindings.add(finding);
+					}
+
+					List<IMarker> staleMarkers = new ArrayList<IMarker>();
+					for (Map.Entry<IResource, Set<String>> entry : markerTypes
+							.entrySet()) {
+						IResource resource = entry.getKey();
+						if (!resource.exists()) {
+							continue;
+						}
+						List<AuditFinding> resourceFindings = unreported
+								.get(resource);
+						for (String type : entry.getValue()) {
+							for (IMarker marker : resource.findMarkers(type,
+									false, IResource.DEPTH_ZERO)) {
+								if (!removeReportedFinding(marker,
+										resourceFindings)) {
+									staleMarkers.add(marker);
+								}
+							}
+						}
+					}
+					if (!staleMarkers.isEmpty()) {
+						ResourcesPlugin.getWorkspace().deleteMarkers(
+								staleMarkers.toArray(new IMarker[staleMarkers
+										.size()]));
+					}
+
+					for (List<AuditFinding> resourceFindings : unreported
+							.values()) {
+						for (AuditFinding finding : resourceFindings) {
+							if (!finding.getResource().exists()) {
+								continue;
+							}
+							try {
+								finding.createMarker();
+								Logger.logInfo(finding.getMessage());
+							} catch (CoreException e) {
+								Logger.logError(e);
+							}
+						}
+					}
+				}
+			}, null, IWorkspace.AVOID_UPDATE, monitor);
+		} catch (CoreException e) {
+			Logger.logError(e);
+		}
+	}
+
+	private boolean removeReportedFinding(IMarker marker,
+			List<AuditFinding> findings) throws CoreException {
+		if (findings == null) {
+			return false;
+		}
+		for (Iterator<AuditFinding> i = findings.iterator(); i.hasNext();) {
+			if (i.next().isReportedBy(marker)) {
+				i.remove();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void collectFindings(I18nResourceAuditor ra,
+			List<AuditFinding> findings) {
 		try {
 			for (ILocation problem : ra.getConstantStringLiterals()) {
-				EditorUtils
-						.reportToMarker(
+				findings.add(AuditFinding
+						.createFinding(
 								org.eclipse.babel.tapiji.tools.core.util.EditorUtils
 										.getFormattedMessage(
 												org.eclipse.babel.tapiji.tools.core.util.EditorUtils.MESSAGE_NON_LOCALIZED_LITERAL,
@@ -258,13 +428,13 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 								problem,
 								MarkerConstants.CAUSE_CONSTANT_LITERAL, "",
 								(ILocation) problem.getData(), ra
-										.getContextId());
+										.getContextId()));
 			}
 
 			// Report all broken Resource-Bundle references
 			for (ILocation brokenLiteral : ra.getBrokenResourceReferences()) {
-				EditorUtils
-						.reportToMarker(
+				findings.add(AuditFinding
+						.createFinding(
 								org.eclipse.babel.tapiji.tools.core.util.EditorUtils
 										.getFormattedMessage(
 												org.eclipse.babel.tapiji.tools.core.util.EditorUtils.MESSAGE_BROKEN_RESOURCE_REFERENCE,
@@ -278,14 +448,14 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 								MarkerConstants.CAUSE_BROKEN_REFERENCE,
 								brokenLiteral.getLiteral(),
 								(ILocation) brokenLiteral.getData(), ra
-										.getContextId());
+										.getContextId()));
 			}
 
 			// Report all broken definitions to Resource-Bundle
 			// references
 			for (ILocation brokenLiteral : ra.getBrokenBundleReferences()) {
-				EditorUtils
-						.reportToMarker(
+				findings.add(AuditFinding
+						.createFinding(
 								org.eclipse.babel.tapiji.tools.core.util.EditorUtils
 										.getFormattedMessage(
 												org.eclipse.babel.tapiji.tools.core.util.EditorUtils.MESSAGE_BROKEN_RESOURCE_BUNDLE_REFERENCE,
@@ -295,7 +465,7 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 								MarkerConstants.CAUSE_BROKEN_RB_REFERENCE,
 								brokenLiteral.getLiteral(),
 								(ILocation) brokenLiteral.getData(), ra
-										.getContextId());
+										.getContextId()));
 			}
 		} catch (Exception e) {
 			Logger.logError(
@@ -304,15 +474,15 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
-	private void handleI18NAuditorMarkers(I18nRBAuditor ra) {
+	private void collectFindings(I18nRBAuditor ra, List<AuditFinding> findings) {
 		IConfiguration configuration = ConfigurationManager.getInstance()
 				.getConfiguration();
 		try {
 			// Report all unspecified keys
 			if (configuration.getAuditMissingValue()) {
 				for (ILocation problem : ra.getUnspecifiedKeyReferences()) {
-					EditorUtils
-							.reportToRBMarker(
+					findings.add(AuditFinding
+							.createRBFinding(
 									org.eclipse.babel.tapiji.tools.core.util.EditorUtils
 											.getFormattedMessage(
 													org.eclipse.babel.tapiji.tools.core.util.EditorUtils.MESSAGE_UNSPECIFIED_KEYS,
@@ -324,7 +494,7 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 									MarkerConstants.CAUSE_UNSPEZIFIED_KEY,
 									problem.getLiteral(), "",
 									(ILocation) problem.getData(), ra
-											.getContextId());
+											.getContextId()));
 				}
 			}
 
@@ -333,8 +503,8 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 				Map<ILocation, ILocation> sameValues = ra
 						.getSameValuesReferences();
 				for (ILocation problem : sameValues.keySet()) {
-					EditorUtils
-							.reportToRBMarker(
+					findings.add(AuditFinding
+							.createRBFinding(
 									org.eclipse.babel.tapiji.tools.core.util.EditorUtils
 											.getFormattedMessage(
 													org.eclipse.babel.tapiji.tools.core.util.EditorUtils.MESSAGE_SAME_VALUE,
@@ -351,14 +521,14 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 									problem.getLiteral(),
 									sameValues.get(problem).getFile().getName(),
 									(ILocation) problem.getData(), ra
-											.getContextId());
+											.getContextId()));
 				}
 			}
 			// Report all missing languages
 			if (configuration.getAuditMissingLanguage()) {
 				for (ILocation problem : ra.getMissingLanguageReferences()) {
-					EditorUtils
-							.reportToRBMarker(
+					findings.add(AuditFinding
+							.createRBFinding(
 									org.eclipse.babel.tapiji.tools.core.util.EditorUtils
 											.getFormattedMessage(
 													org.eclipse.babel.tapiji.tools.core.util.EditorUtils.MESSAGE_MISSING_LANGUAGE,
@@ -371,7 +541,7 @@ public class I18nBuilder extends IncrementalProjectBuilder {
 									MarkerConstants.CAUSE_MISSING_LANGUAGE,
 									problem.getLiteral(), "",
 									(ILocation) problem.getData(), ra
-											.getContextId());
+											.getContextId()));
 				}
 			}
 		} catch (Exception e) {
@@ -7,6 +7,7 @@ import org.eclipse.babel.tapiji.tools.core.Logger;
 import org.eclipse.babel.tapiji.tools.core.extensions.ILocation;
 import org.eclipse.babel.tapiji.tools.core.ui.Activator;
 import org.eclipse.babel.tapiji.tools.core.ui.ResourceBundleManager;
+import org.eclipse.babel.tapiji.tools.core.ui.builder.AuditFinding;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
@@ -133,22 +134,8 @@ public class EditorUtils {
     public static void reportToMarker(String string, ILocation problem,
             int cause, String key, ILocation data, String context) {
         try {
-            IMarker marker = problem.getFile().createMarker(MARKER_ID);
-            marker.setAttribute(IMarker.MESSAGE, string);
-            marker.setAttribute(IMarker.CHAR_START, problem.getStartPos());
-            marker.setAttribute(IMarker.CHAR_END, problem.getEndPos());
-            marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
-            marker.setAttribute("cause", cause);
-            marker.setAttribute("key", key);
-            marker.setAttribute("context", context);
-            if (data != null) {
-                marker.setAttribute("bundleName", data.getLiteral());
-                marker.setAttribute("bundleStart", data.getStartPos());
-                marker.setAttribute("bundleEnd", data.getEndPos());
-            }
-
-            // TODO: init attributes
-            marker.setAttribute("stringLiteral", string);
+            AuditFinding.createFinding(string, problem, cause, key, data,
+                    context).createMarker();
         } catch (CoreException e) {
             Logger.logError(e);
             return;
@@ -164,21 +151,8 @@ public class EditorUtils {
             if (!problem.getFile().exists()) {
                 return;
             }
-            IMarker marker = problem.getFile().createMarker(RB_MARKER_ID);
-            marker.setAttribute(IMarker.MESSAGE, string);
-            marker.setAttribute(IMarker.LINE_NUMBER, problem.getStartPos()); // TODO
-                                                                             // better-dirty
-                                                                             // implementation
-            marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
-            marker.setAttribute("cause", cause);
-            marker.setAttribute("key", key);
-            marker.setAttribute("context", context);
-            if (data != null) {
-                marker.setAttribute("language", data.getLiteral());
-                marker.setAttribute("bundleLine", data.getStartPos());
-            }
-            marker.setAttribute("stringLiteral", string);
-            marker.setAttribute("problemPartner", problemPartnerFile);
+            AuditFinding.createRBFinding(string, problem, cause, key,
+                    problemPartnerFile, data, context).createMarker();
         } catch (CoreException e) {
             Logger.logError(e);
             return;
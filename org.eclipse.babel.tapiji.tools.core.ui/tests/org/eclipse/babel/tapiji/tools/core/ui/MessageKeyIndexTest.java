@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.tapiji.tools.core.ui;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import junit.framework.TestCase;
+
+import org.eclipse.babel.core.message.internal.MessagesBundle;
+import org.eclipse.babel.core.message.internal.MessagesBundleGroup;
+import org.eclipse.babel.core.message.resource.internal.AbstractPropertiesResource;
+import org.eclipse.babel.core.message.resource.ser.PropertiesDeserializer;
+import org.eclipse.babel.core.message.resource.ser.PropertiesSerializer;
+import org.eclipse.babel.core.message.strategy.IMessagesBundleGroupStrategy;
+
+public class MessageKeyIndexTest extends TestCase {
+
+	public void testFindKeysByPrefix() {
+		MessageKeyIndex index = newIndex("menu.open=Open\nmenu.save=Save\n"
+				+ "Menu.Quit=Quit\ndialog.title=Title\n");
+		assertEquals(4, index.size());
+		assertEquals(list("menu.open", "Menu.Quit", "menu.save"),
+				index.findKeysByPrefix("menu.", -1));
+		assertEquals(list("menu.save"), index.findKeysByPrefix("menu.s", -1));
+		assertEquals(list(), index.findKeysByPrefix("window", -1));
+		assertEquals(list(), index.findKeysByPrefix("menu.saved", -1));
+	}
+
+	public void testFindKeysByPrefixIgnoresCase() {
+		MessageKeyIndex index = newIndex("menu.open=Open\nMenu.Quit=Quit\n");
+		assertEquals(list("menu.open", "Menu.Quit"),
+				index.findKeysByPrefix("MENU", -1));
+		assertEquals(list("Menu.Quit"), index.findKeysByPrefix("menu.q", -1));
+	}
+
+	public void testFindKeysByShortPrefix() {
+		MessageKeyIndex index = newIndex("a=A\nab=AB\nb=B\n");
+		assertEquals(list("a", "ab", "b"), index.findKeysByPrefix("", -1));
+		assertEquals(list("a", "ab"), index.findKeysByPrefix("a", -1));
+		assertEquals(list("ab"), index.findKeysByPrefix("ab", -1));
+	}
+
+	public void testFindKeysByPrefixHonoursLimit() {
+		MessageKeyIndex index = newIndex("key1=1\nkey2=2\nkey3=3\n");
+		assertEquals(list("key1", "key2"), index.findKeysByPrefix("key", 2));
+		assertEquals(list(), index.findKeysByPrefix("key", 0));
+	}
+
+	public void testFindKeysContaining() {
+		MessageKeyIndex index = newIndex("menu.open=Open\nfile.Open=Open\n"
+				+ "menu.save=Save\n");
+		assertEquals(list("file.Open", "menu.open"),
+				index.findKeysContaining("OPEN", -1));
+		assertEquals(list("menu.save"), index.findKeysContaining("u.s", -1));
+		assertEquals(list(), index.findKeysContaining("quit", -1));
+		assertEquals(list("file.Open"), index.findKeysContaining("open", 1));
+	}
+
+	public void testFollowsBundleChanges() {
+		MessagesBundleGroup group = newGroup("menu.open=Open\n");
+		MessageKeyIndex index = new MessageKeyIndex(group);
+
+		group.addMessages("menu.save");
+		assertEquals(list("menu.open", "menu.save"),
+				index.findKeysByPrefix("menu", -1));
+
+		group.removeMessages("menu.open");
+		assertEquals(list("menu.save"), index.findKeysByPrefix("menu", -1));
+		assertEquals(1, index.size());
+
+		index.dispose();
+		group.addMessages("menu.quit");
+		assertEquals(list("menu.save"), index.findKeysByPrefix("menu", -1));
+	}
+
+	private static MessageKeyIndex newIndex(String text) {
+		return new MessageKeyIndex(newGroup(text));
+	}
+
+	private static MessagesBundleGroup newGroup(final String text) {
+		return new MessagesBundleGroup(new IMessagesBundleGroupStrategy() {
+			public String createMessagesBundleGroupName() {
+				return "messages";
+			}
+
+			public String createMessagesBundleId() {
+				return "messages";
+			}
+
+			public MessagesBundle[] loadMessagesBundles() {
+				return new MessagesBundle[] { createMessagesBundle(Locale.ROOT) };
+			}
+
+			public MessagesBundle createMessagesBundle(Locale locale) {
+				StringResource resource = new StringResource(locale);
+				resource.setText(text);
+				return new MessagesBundle(resource);
+			}
+
+			public String getProjectName() {
+				return null;
+			}
+		});
+	}
+
+	private static List<String> list(String... keys) {
+		return keys.length == 0 ? Collections.<String> emptyList() : Arrays
+				.asList(keys);
+	}
+
+	/** Properties text kept in memory. */
+	private static class StringResource extends AbstractPropertiesResource {
+
+		private String text = "";
+
+		StringResource(Locale locale) {
+			super(locale, new PropertiesSerializer(null),
+					new PropertiesDeserializer(null));
+		}
+
+		@Override
+		public String getText() {
+			return text;
+		}
+
+		@Override
+		public void setText(String text) {
+			this.text = text;
+		}
+
+		@Override
+		public Object getSource() {
+			return this;
+		}
+
+		@Override
+		public String getResourceLocationLabel() {
+			return "memory";
+		}
+
+		@Override
+		public void dispose() {
+		}
+	}
+}
@@ -15,8 +15,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-import org.eclipse.babel.core.message.IMessagesBundleGroup;
 import org.eclipse.babel.tapiji.tools.core.Logger;
+import org.eclipse.babel.tapiji.tools.core.ui.MessageKeyIndex;
 import org.eclipse.babel.tapiji.tools.core.ui.ResourceBundleManager;
 import org.eclipse.babel.tapiji.tools.core.ui.builder.InternationalizationNature;
 import org.eclipse.babel.tapiji.tools.java.ui.autocompletion.CreateResourceBundleProposal;
@@ -43,6 +43,9 @@ import org.eclipse.jface.text.contentassist.IContextInformation;
 public class MessageCompletionProposalComputer implements
         IJavaCompletionProposalComputer {
 
+    // keys proposed at most, the index sorts them ignoring case
+    private static final int MAX_KEY_PROPOSALS = 500;
+
     private ResourceAuditVisitor csav;
     private IResource resource;
     private CompilationUnit cu;
@@ -218,24 +221,28 @@ public class MessageCompletionProposalComputer implements
         List<ICompletionProposal> completions = new ArrayList<ICompletionProposal>();
         IRegion region = csav.getKeyAt(new Long(tokenOffset));
         String bundleName = csav.getBundleReference(region);
-        IMessagesBundleGroup bundleGroup = manager
-                .getResourceBundle(bundleName);
+        MessageKeyIndex keyIndex = manager.getKeyIndex(bundleName);
 
         if (fullToken.length() > 0) {
             boolean hit = false;
+            List<String> keys = keyIndex.findKeysByPrefix(fullToken,
+                    MAX_KEY_PROPOSALS);
+            if (keys.isEmpty()) {
+                // no key starts with the text, propose the keys containing it
+                keys = keyIndex.findKeysContaining(fullToken,
+                        MAX_KEY_PROPOSALS);
+            }
             // If a part of a String has already been entered
-            for (String key : bundleGroup.getMessageKeys()) {
-                if (key.toLowerCase().startsWith(fullToken.toLowerCase())) {
-                    if (!key.equals(fullToken)) {
-                        completions.add(new MessageCompletionProposal(
-                                tokenStart, tokenEnd - tokenStart, key, false));
-                    } else {
-                        hit = true;
-                        // Refactoring function
-                        completions.add(new KeyRefactoringProposal(tokenStart,
-                                fullToken, manager.getProject().getName(),
-                                bundleName, null));
-                    }
+            for (String key : keys) {
+                if (!key.equals(fullToken)) {
+                    completions.add(new MessageCompletionProposal(tokenStart,
+                            tokenEnd - tokenStart, key, false));
+                } else {
+                    hit = true;
+                    // Refactoring function
+                    completions.add(new KeyRefactoringProposal(tokenStart,
+                            fullToken, manager.getProject().getName(),
+                            bundleName, null));
                 }
             }
             if (!hit) {
@@ -246,7 +253,8 @@ public class MessageCompletionProposalComputer implements
                 // TODO: reference to existing resource
             }
         } else {
-            for (String key : bundleGroup.getMessageKeys()) {
+            for (String key : keyIndex.findKeysByPrefix(fullToken,
+                    MAX_KEY_PROPOSALS)) {
                 completions.add(new MessageCompletionProposal(tokenStart,
                         tokenEnd - tokenStart, key, false));
             }
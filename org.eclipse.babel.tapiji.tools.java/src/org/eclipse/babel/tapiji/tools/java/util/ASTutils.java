@@ -26,7 +26,6 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.JavaCore;
-import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
@@ -52,7 +51,6 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
 import org.eclipse.jface.text.BadLocationException;
-import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.text.edits.TextEdit;
@@ -593,58 +591,17 @@ public class ASTutils {
 		return strings.size();
 	}
 
+	/**
+	 * @deprecated reads the comments of the whole compilation unit on each
+	 *             call, use {@link NonInternationalisationComments} to read
+	 *             them once for all the literals of a compilation unit
+	 */
+	@Deprecated
 	public static boolean existsNonInternationalisationComment(
 			StringLiteral literal) throws BadLocationException {
 		CompilationUnit cu = (CompilationUnit) literal.getRoot();
-		ICompilationUnit icu = (ICompilationUnit) cu.getJavaElement();
-
-		IDocument doc = null;
-		try {
-			doc = new Document(icu.getSource());
-		} catch (JavaModelException e) {
-			Logger.logError(e);
-		}
-
-		// get whole line in which string literal
-		int lineNo = doc.getLineOfOffset(literal.getStartPosition());
-		int lineOffset = doc.getLineOffset(lineNo);
-		int lineLength = doc.getLineLength(lineNo);
-		String lineOfString = doc.get(lineOffset, lineLength);
-
-		// search for a line comment in this line
-		int indexComment = lineOfString.indexOf("//");
-
-		if (indexComment == -1) {
-			return false;
-		}
-
-		String comment = lineOfString.substring(indexComment);
-
-		// remove first "//" of line comment
-		comment = comment.substring(2).toLowerCase();
-
-		// split line comments, necessary if more NON-NLS comments exist in one line, eg.: $NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3
-		String[] comments = comment.split("//");
-
-		for (String commentFrag : comments) {
-			commentFrag = commentFrag.trim();
-
-			// if comment match format: "$non-nls$" then ignore whole line
-			if (commentFrag.matches("^\\$non-nls\\$$")) {
-				return true;
-
-				// if comment match format: "$non-nls-{number}$" then only
-				// ignore string which is on given position
-			} else if (commentFrag.matches("^\\$non-nls-\\d+\\$$")) {
-				int iString = findNonInternationalisationPosition(cu, doc,
-						literal.getStartPosition())+1;
-				int iComment = new Integer(commentFrag.substring(9, 10));
-				if (iString == iComment) {
-					return true;
-				}
-			}
-		}
-		return false;
+		return new NonInternationalisationComments(cu)
+				.isNonInternationalised(literal);
 	}
 
 	public static StringLiteral getStringLiteralAtPos(CompilationUnit cu,
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.tapiji.tools.java.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.babel.tapiji.tools.core.Logger;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.StringLiteral;
+
+/**
+ * The "$NON-NLS$" line comments of a compilation unit, read in one pass over
+ * its source. String literals are then looked up by line, so that the source
+ * is not read again for each of them.
+ * 
+ * A literal is not to be internationalised if its line ends with a
+ * "//$NON-NLS$" comment, or with a "//$NON-NLS-n$" comment where n is the
+ * position of the literal among the literals of the line, starting at 1.
+ */
+public class NonInternationalisationComments {
+
+	private final CompilationUnit cu;
+	/** Offsets of the start of each line of the source. */
+	private int[] lineOffsets;
+	/** Lines having "$NON-NLS$" comments, sorted. */
+	private int[] commentLines;
+	/** For each line having comments, whether the whole line is ignored. */
+	private boolean[] wholeLine;
+	/** For each line having comments, the positions of the ignored literals. */
+	private int[][] positions;
+	/** Start positions of the string literals of the compilation unit. */
+	private int[] literalStarts;
+
+	/**
+	 * Reads the comments of a compilation unit.
+	 * 
+	 * @param cu
+	 *            the compilation unit
+	 */
+	public NonInternationalisationComments(CompilationUnit cu) {
+		this(cu, getSource(cu));
+	}
+
+	/**
+	 * Reads the comments of a compilation unit.
+	 * 
+	 * @param cu
+	 *            the compilation unit
+	 * @param source
+	 *            the source the compilation unit was parsed from
+	 */
+	NonInternationalisationComments(CompilationUnit cu, String source) {
+		this.cu = cu;
+		readComments(source != null ? source : "");
+	}
+
+	private static String getSource(CompilationUnit cu) {
+		try {
+			ICompilationUnit icu = (ICompilationUnit) cu.getJavaElement();
+			if (icu != null) {
+				return icu.getSource();
+			}
+		} catch (JavaModelException e) {
+			Logger.logError(e);
+		}
+		return null;
+	}
+
+	public CompilationUnit getCompilationUnit() {
+		return cu;
+	}
+
+	/**
+	 * Tells whether a string literal of the compilation unit is marked as not
+	 * to be internationalised.
+	 * 
+	 * @param literal
+	 *            the string literal
+	 * @return <code>true</code> if a "$NON-NLS$" comment applies to the literal
+	 */
+	public boolean isNonInternationalised(StringLiteral literal) {
+		int offset = literal.getStartPosition();
+		int line = firstIndexOf(lineOffsets, offset + 1) - 1;
+		if (line < 0) {
+			return false;
+		}
+		int index = Arrays.binarySearch(commentLines, line);
+		if (index < 0) {
+			return false;
+		}
+		if (wholeLine[index]) {
+			return true;
+		}
+		int position = countLiteralsBefore(lineOffsets[line], offset) + 1;
+		for (int commentPosition : positions[index]) {
+			if (commentPosition == position) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Counts the string literals starting on the line before the given
+	 * offset.
+	 */
+	private int countLiteralsBefore(int lineOffset, int offset) {
+		if (literalStarts == null) {
+			final List<Integer> starts = new ArrayList<Integer>();
+			cu.accept(new ASTVisitor() {
+				@Override
+				public boolean visit(StringLiteral node) {
+					starts.add(node.getStartPosition());
+					return true;
+				}
+			});
+			literalStarts = new int[starts.size()];
+			for (int i = 0; i < literalStarts.length; i++) {
+				literalStarts[i] = starts.get(i);
+			}
+			Arrays.sort(literalStarts);
+		}
+		return firstIndexOf(literalStarts, offset)
+				- firstIndexOf(literalStarts, lineOffset);
+	}
+
+	private void readComments(String source) {
+		List<Integer> offsets = new ArrayList<Integer>();
+		List<Integer> lines = new ArrayList<Integer>();
+		List<Boolean> whole = new ArrayList<Boolean>();
+		List<int[]> linePositions = new ArrayList<int[]>();
+
+		int length = source.length();
+		int start = 0;
+		int nextComment = source.indexOf("//");
+		while (true) {
+			// line delimiters are \n, \r\n and \r
+			int end = start;
+			while (end < length && source.charAt(end) != '\n'
+					&& source.charAt(end) != '\r') {
+				end++;
+			}
+			offsets.add(start);
+
+			if (nextComment != -1 && nextComment < start) {
+				nextComment = source.indexOf("//", start);
+			}
+			if (nextComment != -1 && nextComment < end) {
+				readLineComment(source.substring(nextComment + 2, end),
+						offsets.size() - 1, lines, whole, linePositions);
+			}
+
+			if (end == length) {
+				break;
+			}
+			start = end + (source.startsWith("\r\n", end) ? 2 : 1);
+		}
+
+		lineOffsets = toArray(offsets);
+		commentLines = toArray(lines);
+		wholeLine = new boolean[whole.size()];
+		for (int i = 0; i < wholeLine.length; i++) {
+			wholeLine[i] = whole.get(i);
+		}
+		positions = linePositions.toArray(new int[linePositions.size()][]);
+	}
+
+	/**
+	 * Reads the comments following the first "//" of a line.
+	 */
+	private static void readLineComment(String comment, int line,
+			List<Integer> lines, List<Boolean> whole, List<int[]> linePositions) {
+		boolean wholeLine = false;
+		List<Integer> positions = new ArrayList<Integer>();
+
+		// split line comments, necessary if more NON-NLS comments exist in
+		// one line, eg.: $NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3
+		for (String commentFrag : comment.toLowerCase(Locale.ENGLISH).split(
+				"//")) {
+			commentFrag = commentFrag.trim();
+
+			// if comment match format: "$non-nls$" then ignore whole line
+			if (commentFrag.equals("$non-nls$")) {
+				wholeLine = true;
+
+				// if comment match format: "$non-nls-{number}$" then only
+				// ignore string which is on given position
+			} else if (commentFrag.matches("^\\$non-nls-\\d+\\$$")) {
+				try {
+					positions.add(Integer.valueOf(commentFrag.substring(9,
+							commentFrag.length() - 1)));
+				} catch (NumberFormatException e) {
+					// too large to be a position
+				}
+			}
+		}
+
+		if (wholeLine || !positions.isEmpty()) {
+			lines.add(line);
+			whole.add(wholeLine);
+			linePositions.add(toArray(positions));
+		}
+	}
+
+	/**
+	 * Gets the position of the first value not lower than the key.
+	 */
+	private static int firstIndexOf(int[] values, int key) {
+		int low = 0;
+		int high = values.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (values[middle] < key) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static int[] toArray(List<Integer> list) {
+		int[] array = new int[list.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = list.get(i);
+		}
+		return array;
+	}
+}
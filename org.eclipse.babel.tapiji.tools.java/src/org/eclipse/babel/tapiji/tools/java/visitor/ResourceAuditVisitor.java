@@ -23,12 +23,14 @@ import java.util.TreeMap;
 import org.eclipse.babel.tapiji.tools.core.model.SLLocation;
 import org.eclipse.babel.tapiji.tools.core.ui.ResourceBundleManager;
 import org.eclipse.babel.tapiji.tools.java.util.ASTutils;
+import org.eclipse.babel.tapiji.tools.java.util.NonInternationalisationComments;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceVisitor;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
 import org.eclipse.jdt.core.dom.IVariableBinding;
 import org.eclipse.jdt.core.dom.MethodInvocation;
@@ -55,6 +57,8 @@ public class ResourceAuditVisitor extends ASTVisitor implements
     private IFile file;
     private Map<IVariableBinding, VariableDeclarationFragment> variableBindingManagers = new HashMap<IVariableBinding, VariableDeclarationFragment>();
     private String projectName;
+    /* "$NON-NLS$" comments of the compilation unit being visited */
+    private NonInternationalisationComments nonNlsComments;
 
     public ResourceAuditVisitor(IFile file, String projectName) {
         constants = new ArrayList<SLLocation>();
@@ -162,7 +166,12 @@ public class ResourceAuditVisitor extends ASTVisitor implements
             }
 
             // check if string is followed by a "$NON-NLS$" line comment
-            if (ASTutils.existsNonInternationalisationComment(stringLiteral)) {
+            CompilationUnit cu = (CompilationUnit) stringLiteral.getRoot();
+            if (nonNlsComments == null
+                    || nonNlsComments.getCompilationUnit() != cu) {
+                nonNlsComments = new NonInternationalisationComments(cu);
+            }
+            if (nonNlsComments.isNonInternationalised(stringLiteral)) {
                 return false;
             }
 
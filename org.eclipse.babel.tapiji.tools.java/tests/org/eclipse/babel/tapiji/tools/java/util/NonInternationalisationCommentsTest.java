@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.babel.tapiji.tools.java.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.StringLiteral;
+
+public class NonInternationalisationCommentsTest extends TestCase {
+
+    public void testSameLine() {
+        assertIgnored("class A {\n"
+                + "    String a = \"a\"; //$NON-NLS-1$\n"
+                + "    String b = \"b\";\n" + "}\n", "a");
+        assertIgnored("class A {\n"
+                + "    String a = \"a\"; // comment //$NON-NLS-1$\n" + "}\n",
+                "a");
+        assertIgnored("class A {\n" + "    String a = \"a\"; //$non-nls-1$\n"
+                + "}\n", "a");
+    }
+
+    public void testOtherLines() {
+        assertIgnored("class A {\n" + "    //$NON-NLS-1$\n"
+                + "    String a = \"a\";\n" + "    String b = \"b\";\n"
+                + "    //$NON-NLS-1$\n" + "}\n");
+        assertIgnored("class A {\n" + "    String a = \"a\"\n"
+                + "        + \"b\"; //$NON-NLS-1$\n" + "}\n", "b");
+        assertIgnored("class A {\n" + "    /* //$NON-NLS-1$ */\n"
+                + "    String a = \"a\";\n" + "}\n");
+    }
+
+    public void testMultipleTags() {
+        assertIgnored("class A {\n"
+                + "    String[] a = { \"a\", \"b\", \"c\" }; //$NON-NLS-1$ //$NON-NLS-3$\n"
+                + "}\n", "a", "c");
+        assertIgnored("class A {\n"
+                + "    String[] a = { \"a\", \"b\" }; //$NON-NLS-2$ //$NON-NLS-1$\n"
+                + "}\n", "a", "b");
+        assertIgnored("class A {\n"
+                + "    String[] a = { \"a\", \"b\" }; //$NON-NLS-3$\n"
+                + "}\n");
+    }
+
+    public void testWholeLine() {
+        assertIgnored("class A {\n"
+                + "    String[] a = { \"a\", \"b\" }; //$NON-NLS$\n"
+                + "    String c = \"c\";\n" + "}\n", "a", "b");
+    }
+
+    public void testLineDelimiters() {
+        assertIgnored("class A {\r\n" + "    String a = \"a\";\r\n"
+                + "    String b = \"b\"; //$NON-NLS-1$\r\n" + "}\r\n", "b");
+        assertIgnored("class A {\r" + "    String a = \"a\"; //$NON-NLS-1$\r"
+                + "    String b = \"b\";\r" + "}\r", "a");
+    }
+
+    /**
+     * Asserts that exactly the literals of the given values are ignored.
+     */
+    private static void assertIgnored(String source, String... expected) {
+        ASTParser parser = ASTParser.newParser(AST.JLS3);
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setSource(source.toCharArray());
+        CompilationUnit cu = (CompilationUnit) parser.createAST(null);
+        final NonInternationalisationComments comments = new NonInternationalisationComments(
+                cu, source);
+
+        final List<String> ignored = new ArrayList<String>();
+        cu.accept(new ASTVisitor() {
+            @Override
+            public boolean visit(StringLiteral node) {
+                if (comments.isNonInternationalised(node)) {
+                    ignored.add(node.getLiteralValue());
+                }
+                return true;
+            }
+        });
+        List<String> expectedList = new ArrayList<String>();
+        for (String value : expected) {
+            expectedList.add(value);
+        }
+        assertEquals(expectedList, ignored);
+    }
+}
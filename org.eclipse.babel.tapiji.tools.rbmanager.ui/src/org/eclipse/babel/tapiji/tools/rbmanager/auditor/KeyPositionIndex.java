@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Babel Project and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Eclipse Babel Project - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.babel.tapiji.tools.rbmanager.auditor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lines of the keys of a properties file, read once. An index is bound to the
+ * modification stamp of the file it was read from, so that it can be reused
+ * as long as the file does not change. Resource bundle markers are located by
+ * line, so that the lines are all that is indexed.
+ */
+public class KeyPositionIndex {
+
+    private final long modificationStamp;
+    private final Map<String, Integer> keyLines = new HashMap<String, Integer>();
+    /**
+     * Non empty lines not starting with '#', in file order, with the
+     * greatest of the lines up to each one, to locate missing keys.
+     */
+    private final List<Integer> lineNumbers = new ArrayList<Integer>();
+    private final List<String> greatestLines = new ArrayList<String>();
+    private int lineCount;
+
+    /**
+     * Reads the key positions of a properties file. The reader is not closed.
+     *
+     * @param reader
+     *            the reader providing the properties file
+     * @param modificationStamp
+     *            the modification stamp of the file
+     * @throws IOException
+     *             if the reader cannot be read
+     */
+    public KeyPositionIndex(Reader reader, long modificationStamp)
+            throws IOException {
+        this.modificationStamp = modificationStamp;
+
+        StringBuilder line = new StringBuilder();
+        boolean continued = false;
+        boolean pendingCR = false;
+        char[] buf = new char[8192];
+        int read;
+        while ((read = reader.read(buf)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char c = buf[i];
+                if (pendingCR) {
+                    pendingCR = false;
+                    if (c == '\n') {
+                        // second half of a \r\n line separator
+                        continue;
+                    }
+                }
+                if (c == '\n' || c == '\r') {
+                    continued = addLine(line.toString(), continued);
+                    line.setLength(0);
+                    pendingCR = c == '\r';
+                } else {
+                    line.append(c);
+                }
+            }
+        }
+        if (line.length() > 0) {
+            addLine(line.toString(), continued);
+        }
+    }
+
+    /**
+     * Indexes a line.
+     *
+     * @return whether the next line continues this one
+     */
+    private boolean addLine(String line, boolean continuation) {
+        lineCount++;
+        if (line.length() > 0 && !line.startsWith("#")) {
+            String greatest = greatestLines.isEmpty() ? null : greatestLines
+                    .get(greatestLines.size() - 1);
+            if (greatest == null || line.compareTo(greatest) > 0) {
+                greatest = line;
+            }
+            lineNumbers.add(lineCount);
+            greatestLines.add(greatest);
+        }
+
+        int start = 0;
+        while (start < line.length()
+                && Character.isWhitespace(line.charAt(start))) {
+            start++;
+        }
+        boolean comment = start < line.length()
+                && (line.charAt(start) == '#' || line.charAt(start) == '!');
+        if (!continuation && !comment && start < line.length()) {
+            StringBuilder key = new StringBuilder();
+            int end = start;
+            while (end < line.length()) {
+                char c = line.charAt(end);
+                if (c == '\\' && end + 1 < line.length()) {
+                    end = unescape(line, end + 1, key);
+                } else if (c == '=' || c == ':' || Character.isWhitespace(c)) {
+                    break;
+                } else {
+                    key.append(c);
+                    end++;
+                }
+            }
+            if (!keyLines.containsKey(key.toString())) {
+                keyLines.put(key.toString(), lineCount);
+            }
+        }
+
+        // an odd number of trailing backslashes continues the line
+        int backslashes = 0;
+        for (int i = line.length() - 1; i >= 0 && line.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 1 && (continuation || !comment);
+    }
+
+    /**
+     * Appends an escaped character of a key.
+     *
+     * @return the position following the escape sequence
+     */
+    private static int unescape(String line, int position, StringBuilder key) {
+        char c = line.charAt(position);
+        switch (c) {
+        case 't':
+            key.append('\t');
+            break;
+        case 'n':
+            key.append('\n');
+            break;
+        case 'r':
+            key.append('\r');
+            break;
+        case 'f':
+            key.append('\f');
+            break;
+        case 'u':
+            if (position + 5 <= line.length()) {
+                try {
+                    key.append((char) Integer.parseInt(
+                            line.substring(position + 1, position + 5), 16));
+                    return position + 5;
+                } catch (NumberFormatException e) {
+                    // not an unicode escape, taken as is
+                }
+            }
+            key.append(c);
+            break;
+        default:
+            key.append(c);
+        }
+        return position + 1;
+    }
+
+    public long getModificationStamp() {
+        return modificationStamp;
+    }
+
+    /**
+     * Gets the line where a key is defined or, if it is missing, the line it
+     * would be inserted before in a sorted file: the first line greater than
+     * the key, or the line after the last one.
+     *
+     * @param key
+     *            the key
+     * @return the line number, starting at 1
+     */
+    public int getKeyLine(String key) {
+        Integer line = keyLines.get(key);
+        if (line != null) {
+            return line;
+        }
+        int low = 0;
+        int high = greatestLines.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (greatestLines.get(middle).compareTo(key) > 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low < lineNumbers.size() ? lineNumbers.get(low)
+                : lineCount + 1;
+    }
+}
@@ -10,13 +10,13 @@
  ******************************************************************************/
 package org.eclipse.babel.tapiji.tools.rbmanager.auditor;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -49,6 +49,8 @@ public class ResourceBundleAuditor extends I18nRBAuditor {
     private Map<ILocation, ILocation> sameValues = new HashMap<ILocation, ILocation>();
     private List<ILocation> missingLanguages = new LinkedList<ILocation>();
     private List<String> seenRBs = new LinkedList<String>();
+    /* key positions of the audited files, kept while the files do not change */
+    private Map<IFile, KeyPositionIndex> keyIndexes = new HashMap<IFile, KeyPositionIndex>();
 
     @Override
     public String[] getFileEndings() {
@@ -84,6 +86,14 @@ public class ResourceBundleAuditor extends I18nRBAuditor {
         sameValues = new HashMap<ILocation, ILocation>();
         missingLanguages = new LinkedList<ILocation>();
         seenRBs = new LinkedList<String>();
+
+        // forget the files removed since the last build
+        Iterator<IFile> files = keyIndexes.keySet().iterator();
+        while (files.hasNext()) {
+            if (!files.next().exists()) {
+                files.remove();
+            }
+        }
     }
 
     /*
@@ -120,6 +130,11 @@ public class ResourceBundleAuditor extends I18nRBAuditor {
         Collection<IResource> bundlefile = rbmanager.getResourceBundles(rbId);
         String[] keys = bundlegroup.getMessageKeys();
 
+        for (IResource r : bundlefile) {
+            // each file is read at most once for all the keys
+            refreshKeyIndex((IFile) r);
+        }
+
         for (IResource r : bundlefile) {
             IFile f1 = (IFile) r;
 
@@ -218,29 +233,42 @@ public class ResourceBundleAuditor extends I18nRBAuditor {
      * Finds a position where the key is located or missing
      */
     private int calculateKeyLine(String key, IFile file) {
-        int linenumber = 1;
+        KeyPositionIndex index = keyIndexes.get(file);
+        if (index == null) {
+            index = refreshKeyIndex(file);
+        }
+        return index != null ? index.getKeyLine(key) : 1;
+    }
+
+    /*
+     * Gets the key positions of a file, reading the file again only if it
+     * changed since it was last indexed
+     */
+    private KeyPositionIndex refreshKeyIndex(IFile file) {
+        KeyPositionIndex index = keyIndexes.get(file);
         try {
-            // if (!Boolean.valueOf(System.getProperty("dirty"))) {
-            // System.setProperty("dirty", "true");
             file.refreshLocal(IFile.DEPTH_ZERO, null);
-            InputStream is = file.getContents();
-            BufferedReader bf = new BufferedReader(new InputStreamReader(is));
-            String line;
-            while ((line = bf.readLine()) != null) {
-                if ((!line.isEmpty()) && (!line.startsWith("#"))
-                        && (line.compareTo(key) > 0)) {
-                    return linenumber;
+            if (!file.exists()) {
+                keyIndexes.remove(file);
+                return null;
+            }
+            long modificationStamp = file.getModificationStamp();
+            if (index == null
+                    || index.getModificationStamp() != modificationStamp) {
+                Reader reader = new InputStreamReader(file.getContents());
+                try {
+                    index = new KeyPositionIndex(reader, modificationStamp);
+                } finally {
+                    reader.close();
                 }
-                linenumber++;
+                keyIndexes.put(file, index);
             }
-            // System.setProperty("dirty", "false");
-            // }
         } catch (CoreException e) {
             e.printStackTrace();
         } catch (IOException e) {
             e.printStackTrace();
         }
-        return linenumber;
+        return index;
     }
 
     @Override